@@ -0,0 +1,59 @@
+package com.bomber7.benchmarks;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.square.ElementKind;
+
+/**
+ * Maps shared by the benchmarks, loaded with a fixed seed so that every run measures the same board.
+ */
+final class BenchmarkMaps {
+
+    /** Window width the maps are laid out for. */
+    static final int WINDOW_WIDTH = 1280;
+
+    /** Window height the maps are laid out for. */
+    static final int WINDOW_HEIGHT = 720;
+
+    /** Seed rolling the bonuses hidden in the breakable walls. */
+    static final long SEED = 7L;
+
+    /** Map used by the benchmarks that do not depend on the map. */
+    static final String DEFAULT_MAP = "foy";
+
+    private BenchmarkMaps() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Loads a shipped map.
+     * @param name the asset name of the map
+     * @return the map, bonuses rolled from {@link #SEED}
+     */
+    static LevelMap load(String name) {
+        return LevelMapFactory.createLevelMap(name, WINDOW_WIDTH, WINDOW_HEIGHT, new MatchRandom(SEED));
+    }
+
+    /**
+     * Finds the longest horizontal run of empty walkable cells of a map.
+     * @param map the map
+     * @return the cell index of the first cell of the run, and the run length
+     */
+    static int[] longestEmptyRun(LevelMap map) {
+        int bestStart = -1;
+        int bestLength = 0;
+        for (int y = 0; y < map.getHeight(); y++) {
+            int length = 0;
+            for (int x = 0; x < map.getWidth(); x++) {
+                boolean empty = map.getElementKind(x, y) == ElementKind.NONE && map.isWalkable(x, y);
+                length = empty ? length + 1 : 0;
+                if (length > bestLength) {
+                    bestLength = length;
+                    bestStart = map.cellIndex(x - length + 1, y);
+                }
+            }
+        }
+        return new int[] {bestStart, bestLength};
+    }
+}
@@ -0,0 +1,111 @@
+package com.bomber7.benchmarks;
+
+import com.bomber7.core.model.entities.HumanPlayer;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.MapSnapshot;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.TimeBomb;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.GameCharacter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Bomb#activateBomb(LevelMap)}: the blast propagation, the walls it breaks and the chain reactions.
+ * <p>
+ * The bombs are laid on the longest empty row run of the map, then the board is restored from a snapshot before
+ * each explosion, so that every invocation blows up the same board.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BombBenchmark {
+
+    /** Layouts of the bombs to blow up. */
+    public enum Scenario {
+        /** One bomb of the default power. */
+        SINGLE,
+        /** A bomb on every cell of the run, each one setting off the next. */
+        CHAINED,
+        /** One bomb whose blast crosses the whole map. */
+        MAXIMUM_POWER
+    }
+
+    /** The layout of the bombs. */
+    @Param
+    private Scenario scenario;
+
+    /** The map the bombs explode on. */
+    private LevelMap map;
+
+    /** The board with the bombs laid, restored before each explosion. */
+    private MapSnapshot armed;
+
+    /** The bomb set off by the benchmark. */
+    private Bomb trigger;
+
+    /**
+     * Loads the map and lays the bombs of the scenario.
+     * A listener is subscribed so that the events are stored, like in the game.
+     */
+    @Setup(Level.Trial)
+    public void layBombs() {
+        map = BenchmarkMaps.load(BenchmarkMaps.DEFAULT_MAP);
+        map.getEvents().subscribe(event -> { });
+        int[] run = BenchmarkMaps.longestEmptyRun(map);
+        int y = run[0] / map.getWidth();
+        int firstX = run[0] % map.getWidth();
+        int middleX = firstX + run[1] / 2;
+        Player planter = new HumanPlayer(null, map, "planter", firstX, y, GameCharacter.TEST);
+
+        switch (scenario) {
+            case SINGLE:
+                trigger = new TimeBomb(Constants.DEFAULT_BOMB_POWER, middleX, y, planter);
+                map.setMapElement(middleX, y, trigger);
+                break;
+            case CHAINED:
+                for (int x = firstX + run[1] - 1; x >= firstX; x--) {
+                    trigger = new TimeBomb(1, x, y, planter);
+                    map.setMapElement(x, y, trigger);
+                }
+                break;
+            case MAXIMUM_POWER:
+                trigger = new TimeBomb(Math.max(map.getWidth(), map.getHeight()), middleX, y, planter);
+                map.setMapElement(middleX, y, trigger);
+                break;
+            default:
+                throw new IllegalStateException("Unknown scenario " + scenario);
+        }
+        armed = map.snapshot();
+    }
+
+    /**
+     * Puts the bombs and the walls back, and drops the events of the previous explosion.
+     */
+    @Setup(Level.Invocation)
+    public void rearm() {
+        map.restore(armed);
+        map.getEvents().drain();
+    }
+
+    /**
+     * Sets off the bomb.
+     * @return the number of events published, so that the explosion is not optimised away
+     */
+    @Benchmark
+    public int activateBomb() {
+        trigger.activateBomb(map);
+        return map.getEvents().getPendingCount();
+    }
+}
@@ -0,0 +1,77 @@
+package com.bomber7.benchmarks;
+
+import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.entities.HumanPlayer;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.GameCharacter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Character#checkMove(int, int)}, called for every step of every moving character.
+ * <p>
+ * The probed positions sweep the whole map one step away from each cell corner, so that walkable cells,
+ * walls and the map border are all hit, and the branch predictor cannot learn a single outcome.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckMoveBenchmark {
+
+    /** The character whose moves are checked. */
+    private Character character;
+
+    /** Pixel abscissas of the probed positions. */
+    private int[] xs;
+
+    /** Pixel ordinates of the probed positions, matching {@link #xs}. */
+    private int[] ys;
+
+    /** Index of the next probed position. */
+    private int next;
+
+    /**
+     * Loads the map and computes the probed positions.
+     */
+    @Setup(Level.Trial)
+    public void loadMap() {
+        LevelMap map = BenchmarkMaps.load(BenchmarkMaps.DEFAULT_MAP);
+        character = new HumanPlayer(null, map, "mover", 1, 1, GameCharacter.TEST);
+
+        int cells = map.getWidth() * map.getHeight();
+        xs = new int[cells];
+        ys = new int[cells];
+        int step = Constants.MAX_SPEED;
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                // A character spawned on the cell gives its pixel position
+                Character probe = new HumanPlayer(null, map, "probe", x, y, GameCharacter.TEST);
+                int index = map.cellIndex(x, y);
+                // Alternate the direction of the step, as characters do
+                xs[index] = probe.getPositionX() + (index % 2 == 0 ? step : -step);
+                ys[index] = probe.getPositionY() + (y % 2 == 0 ? step : -step);
+            }
+        }
+    }
+
+    /**
+     * Checks the next probed position.
+     * @return whether the character could move there
+     */
+    @Benchmark
+    public boolean checkMove() {
+        int index = next;
+        next = index + 1 == xs.length ? 0 : index + 1;
+        return character.checkMove(xs[index], ys[index]);
+    }
+}
@@ -0,0 +1,84 @@
+package com.bomber7.benchmarks;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.bomber7.core.ConfigManager;
+import com.bomber7.core.ResourceManager;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.views.ViewMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a frame of {@link ViewMap}: the static layer cache and the batching of the map elements.
+ * <p>
+ * The map is drawn on the libGDX headless backend with OpenGL stubbed out, so the batch fills and flushes its
+ * vertices as in the game but nothing reaches a GPU: the benchmark measures the CPU side of a frame only.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DrawMapBenchmark {
+
+    /** The headless application providing the stubbed graphics. */
+    private HeadlessApplication application;
+
+    /** The drawn map. */
+    private LevelMap map;
+
+    /** The view drawing the map, without characters. */
+    private ViewMap view;
+
+    /** The batch the map is drawn to. */
+    private SpriteBatch batch;
+
+    /**
+     * Starts the headless backend, loads the config, the skins and the map.
+     */
+    @Setup(Level.Trial)
+    public void startHeadless() {
+        application = new HeadlessApplication(new ApplicationAdapter() { }, new HeadlessApplicationConfiguration());
+        HeadlessGl.install();
+        ConfigManager.getInstance().initialize();
+        ResourceManager.getInstance().initialize();
+        map = BenchmarkMaps.load(BenchmarkMaps.DEFAULT_MAP);
+        view = new ViewMap(map, new ArrayList<>(), ResourceManager.getInstance());
+        batch = new SpriteBatch();
+    }
+
+    /**
+     * Draws a frame of the map.
+     * @return the number of flushes of the batch, so that the frame is not optimised away
+     */
+    @Benchmark
+    public int drawMap() {
+        batch.begin();
+        view.draw(batch, 1f);
+        batch.end();
+        return batch.renderCalls;
+    }
+
+    /**
+     * Releases the view, the batch and the skins and stops the headless backend.
+     */
+    @TearDown(Level.Trial)
+    public void stopHeadless() {
+        view.dispose();
+        batch.dispose();
+        ResourceManager.getInstance().dispose();
+        application.exit();
+    }
+}
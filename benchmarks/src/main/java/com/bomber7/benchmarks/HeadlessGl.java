@@ -0,0 +1,61 @@
+package com.bomber7.benchmarks;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * OpenGL stub for the headless backend, which leaves {@link Gdx#gl} unset. Every call does nothing and returns
+ * zero, except that objects get a non-zero handle and shaders report they compiled and linked, so that textures
+ * and sprite batches can be created.
+ */
+final class HeadlessGl {
+
+    private HeadlessGl() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Installs the stub as {@link Gdx#gl} and {@link Gdx#gl20}.
+     */
+    static void install() {
+        GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv"))
+                    && ((int) args[1] == GL20.GL_COMPILE_STATUS || (int) args[1] == GL20.GL_LINK_STATUS)) {
+                    ((IntBuffer) args[2]).put(0, GL20.GL_TRUE);
+                    return null;
+                }
+                if ((name.startsWith("glCreate") || name.startsWith("glGen")) && method.getReturnType() == int.class) {
+                    return 1;
+                }
+                return zero(method.getReturnType());
+            });
+        Gdx.gl = gl;
+        Gdx.gl20 = gl;
+    }
+
+    /**
+     * Returns the zero value of a return type.
+     * @param type the return type
+     * @return zero, false, or null for objects and void
+     */
+    private static Object zero(Class<?> type) {
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,121 @@
+package com.bomber7.benchmarks;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.map.CompiledMap;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.map.MapLayers;
+import com.bomber7.core.model.square.Square;
+import com.bomber7.utils.GameMap;
+import com.bomber7.utils.ProjectPaths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the loading of every shipped map: parsing its CSV layers into squares, reading its compiled
+ * {@code .b7map} file into layers, and building the whole {@link LevelMap} from its asset name as a round does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapLoadingBenchmark {
+
+    /** The map to load, every shipped map by default. */
+    @Param
+    private GameMap gameMap;
+
+    /** The background layer of the map. */
+    private File background;
+
+    /** The breakable walls layer of the map. */
+    private File breakable;
+
+    /** The unbreakable walls layer of the map. */
+    private File unbreakable;
+
+    /** The texture names of the tileset. */
+    private Map<Integer, String> textureMap;
+
+    /** The map compiled into a temporary file. */
+    private Path compiled;
+
+    /**
+     * Finds the CSV layers of the map, the way {@link LevelMapFactory#createLevelMap} does, and compiles them.
+     * @throws IOException if the compiled map cannot be written
+     */
+    @Setup(Level.Trial)
+    public void findLayers() throws IOException {
+        textureMap = LevelMapFactory.parseTextureMap(ProjectPaths.getTileset());
+        File directory = LevelMapFactory.searchMapFilesRootDirectory(gameMap.getAssetName());
+        if (directory == null) {
+            throw new IllegalStateException("Map " + gameMap.getAssetName() + " not found, run from the project root");
+        }
+        for (File file : directory.listFiles()) {
+            String name = file.getName().toLowerCase();
+            if (!name.endsWith(".csv")) {
+                continue;
+            }
+            if (name.contains("background")) {
+                background = file;
+            } else if (name.contains("unbreakable")) {
+                unbreakable = file;
+            } else if (name.contains("breakable")) {
+                breakable = file;
+            }
+        }
+        compiled = Files.createTempFile(gameMap.getAssetName(), CompiledMap.EXTENSION);
+        CompiledMap.fromCsv(background, breakable, unbreakable).write(compiled);
+    }
+
+    /**
+     * Deletes the compiled map.
+     * @throws IOException if the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void deleteCompiled() throws IOException {
+        Files.deleteIfExists(compiled);
+    }
+
+    /**
+     * Parses the CSV layers into a checkerboard of squares.
+     * @return the checkerboard
+     */
+    @Benchmark
+    public List<List<Square>> parseCsv() {
+        return LevelMapFactory.parseCsv(background, breakable, unbreakable, textureMap);
+    }
+
+    /**
+     * Maps the compiled file of the map and resolves it into layers.
+     * @return the layers
+     */
+    @Benchmark
+    public MapLayers readCompiled() {
+        return CompiledMap.read(compiled).toLayers(textureMap, new MatchRandom(BenchmarkMaps.SEED));
+    }
+
+    /**
+     * Finds and loads the layers of the map and builds it.
+     * @return the map
+     */
+    @Benchmark
+    public LevelMap createLevelMap() {
+        return BenchmarkMaps.load(gameMap.getAssetName());
+    }
+}
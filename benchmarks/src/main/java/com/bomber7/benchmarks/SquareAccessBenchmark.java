@@ -0,0 +1,115 @@
+package com.bomber7.benchmarks;
+
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.square.Square;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full sweeps of the map through {@link LevelMap#getSquare(int, int)} in several orders, against the
+ * same sweep through {@link LevelMap#getElementKind(int, int)}, which reads the flat arrays only.
+ * <p>
+ * Squares are created lazily on first access, so the first iteration of a trial also measures their creation.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SquareAccessBenchmark {
+
+    /** The swept map. */
+    private LevelMap map;
+
+    /** Abscissas of the cells in a shuffled order. */
+    private int[] shuffledXs;
+
+    /** Ordinates of the cells in a shuffled order, matching {@link #shuffledXs}. */
+    private int[] shuffledYs;
+
+    /**
+     * Loads the map and shuffles the cells with a fixed seed.
+     */
+    @Setup(Level.Trial)
+    public void loadMap() {
+        map = BenchmarkMaps.load(BenchmarkMaps.DEFAULT_MAP);
+        int cells = map.getWidth() * map.getHeight();
+        int[] order = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            order[i] = i;
+        }
+        Random random = new Random(BenchmarkMaps.SEED);
+        for (int i = cells - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        shuffledXs = new int[cells];
+        shuffledYs = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            shuffledXs[i] = order[i] % map.getWidth();
+            shuffledYs[i] = order[i] / map.getWidth();
+        }
+    }
+
+    /**
+     * Sweeps the squares row by row, in the order of the backing arrays.
+     * @param blackhole sink of the squares
+     */
+    @Benchmark
+    public void getSquareRowMajor(Blackhole blackhole) {
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                blackhole.consume(map.getSquare(x, y));
+            }
+        }
+    }
+
+    /**
+     * Sweeps the squares column by column, striding over the backing arrays.
+     * @param blackhole sink of the squares
+     */
+    @Benchmark
+    public void getSquareColumnMajor(Blackhole blackhole) {
+        for (int x = 0; x < map.getWidth(); x++) {
+            for (int y = 0; y < map.getHeight(); y++) {
+                blackhole.consume(map.getSquare(x, y));
+            }
+        }
+    }
+
+    /**
+     * Visits every square once in a shuffled order.
+     * @param blackhole sink of the squares
+     */
+    @Benchmark
+    public void getSquareRandom(Blackhole blackhole) {
+        for (int i = 0; i < shuffledXs.length; i++) {
+            Square square = map.getSquare(shuffledXs[i], shuffledYs[i]);
+            blackhole.consume(square);
+        }
+    }
+
+    /**
+     * Sweeps the element kinds row by row, the flat array baseline of {@link #getSquareRowMajor(Blackhole)}.
+     * @param blackhole sink of the kinds
+     */
+    @Benchmark
+    public void getElementKindRowMajor(Blackhole blackhole) {
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                blackhole.consume(map.getElementKind(x, y));
+            }
+        }
+    }
+}
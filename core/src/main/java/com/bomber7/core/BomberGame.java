@@ -1,25 +1,43 @@
 package com.bomber7.core;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.GridPoint2;
+import com.bomber7.core.ai.MctsBrain;
+import com.bomber7.core.ai.MctsPlanner;
+import com.bomber7.core.controller.BotController;
 import com.bomber7.core.controller.HumanController;
+import com.bomber7.core.controller.PlayerController;
+import com.bomber7.core.engine.RoundSimulation;
 import com.bomber7.core.model.GameCandidate;
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.SimulationClock;
+import com.bomber7.core.model.entities.AIPlayer;
 import com.bomber7.core.model.entities.HumanPlayer;
+import com.bomber7.core.model.event.SoundEventListener;
 import com.bomber7.utils.Constants;
 import com.bomber7.utils.GameMap;
 import com.bomber7.utils.PlayerStrategy;
 import com.bomber7.core.model.map.LevelMap;
-import com.bomber7.core.model.map.LevelMapFactory;
-import com.bomber7.utils.Score;
+import com.bomber7.core.replay.ReplayHeader;
+import com.bomber7.core.replay.ReplayWriter;
+import com.bomber7.utils.ProjectPaths;
 import com.bomber7.utils.ScreenType;
 import com.bomber7.utils.SpawnPoint;
 import com.bomber7.core.model.entities.Character;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.viewport.ScreenViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
 import com.bomber7.utils.SoundManager;
 
 /**
@@ -69,9 +87,53 @@ public class BomberGame extends Game {
     private List<HumanController> humanControllers;
 
     /**
-     * Time elapsed since the last time players were credited points for being alive during a game.
+     * Random streams of the current round, seeded from the seed of the game candidate and the round number.
      */
-    private float aliveScoreTimer;
+    private MatchRandom matchRandom;
+
+    /**
+     * Simulation of the current round, stepped by {@link #tick()}.
+     */
+    private RoundSimulation round;
+
+    /**
+     * Records the controls of the current round, saved as a replay once the round is over.
+     */
+    private ReplayWriter replayWriter;
+
+    /**
+     * Fixed timestep clock driving the simulation of the current round.
+     */
+    private final SimulationClock simulationClock = new SimulationClock(Constants.TICK_RATE, Constants.MAX_TICKS_PER_FRAME);
+
+    /**
+     * Whether the simulation of the current round is running (false while paused or once the round is over).
+     */
+    private boolean simulationRunning;
+
+    /**
+     * Batch drawing every screen, created once for the whole application.
+     */
+    private SpriteBatch batch;
+
+    /**
+     * Viewport shared by every screen, updated by the shown screen when the window is resized.
+     */
+    private Viewport viewport;
+
+    /**
+     * Background thread building the map of the next round while the scoreboard is shown.
+     */
+    private final ExecutorService preloader = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "round-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The next round being built by {@link #preloader}, or null if none was started.
+     */
+    private Future<PreparedRound> nextRoundPreload;
 
     /**
      * Called once when the application is created.
@@ -80,6 +142,8 @@ public class BomberGame extends Game {
     @Override
     public void create() {
         Gdx.app.setLogLevel(Application.LOG_DEBUG);
+        batch = new SpriteBatch();
+        viewport = new ScreenViewport();
 
         ScreenManager.getInstance().initialize(this);
         ConfigManager.getInstance().initialize();
@@ -93,6 +157,28 @@ public class BomberGame extends Game {
         reset();
 
         ScreenManager.getInstance().showScreen(ScreenType.MAIN_MENU, false, false);
+        ScreenManager.getInstance().prewarm(
+            ScreenType.PLAYER_SETUP, ScreenType.MAP_SELECTION, ScreenType.SETTINGS, ScreenType.PAUSE
+        );
+    }
+
+    /**
+     * Steps the simulation with the fixed timestep clock, drains the gameplay events of these steps to the sounds and
+     * effects, then renders the current screen.
+     * The simulation does not depend on the frame rate, nor on the game screen being drawn.
+     */
+    @Override
+    public void render() {
+        if (simulationRunning) {
+            int ticks = simulationClock.advance(Gdx.graphics.getDeltaTime());
+            for (int i = 0; i < ticks && simulationRunning; i++) {
+                tick();
+            }
+        }
+        if (currentMap != null) {
+            currentMap.getEvents().drain();
+        }
+        super.render();
     }
 
     /**
@@ -136,6 +222,7 @@ public class BomberGame extends Game {
      * Resumes the game after being paused.
      */
     public void resume() {
+        simulationRunning = currentMap != null;
         ScreenManager.getInstance().showScreen(ScreenType.GAME, false, false);
     }
 
@@ -143,6 +230,7 @@ public class BomberGame extends Game {
      * Pauses the game.
      */
     public void pause() {
+        simulationRunning = false;
         ScreenManager.getInstance().showScreen(ScreenType.PAUSE, false, false);
     }
 
@@ -151,33 +239,51 @@ public class BomberGame extends Game {
      */
     public void stop() {
         gameStarted = false;
+        simulationRunning = false;
         reset();
         SoundManager.getInstance().resetFightMusic();
         ScreenManager.getInstance().showScreen(ScreenType.MAIN_MENU, false, false);
     }
 
     /**
-     * Function that is being called every render() of GameScreen to update the game.
-     * Not entirely respecting the MVC pattern but we had to do it this way because it's the only
-     * way we can get the game updating constantly on every tick of gameScreen
+     * Runs one fixed step of the simulation of the current round and shows the scoreboard once it is over.
      */
-    public void update() {
-        float delta = Gdx.graphics.getDeltaTime();
-        aliveScoreTimer += delta;
-
-        // Crediting all alive players with score points for being alive.
-        if (aliveScoreTimer >= Constants.ALIVE_SCORE_TIMER) {
-            aliveScoreTimer = 0f;
+    private void tick() {
+        round.tick();
+
+        if (round.isOver()) {
+            Character winner = round.getWinner();
+            Gdx.app.debug("BomberGame", winner == null ? "Draw, nobody wins the round" : winner.getName() + " wins the round!");
+            simulationRunning = false;
+            logBotThroughput();
+            saveReplay();
+            ScreenManager.getInstance().showScreen(ScreenType.SCOREBOARD, false, false);
+        }
+    }
 
-            for (Character character : currentMap.getCharacters()) {
-                if (character.isAlive()) {
-                    character.addScore(Score.ALIVE);
-                }
+    /**
+     * Logs the rollout throughput of the expert bots of the round that just ended.
+     */
+    private void logBotThroughput() {
+        for (PlayerController controller : round.getControllers()) {
+            if (controller instanceof BotController && ((BotController) controller).getBrain() instanceof MctsBrain) {
+                MctsPlanner planner = ((MctsBrain) ((BotController) controller).getBrain()).getPlanner();
+                Gdx.app.debug("BomberGame", controller.getPlayer().getName() + " played "
+                    + planner.getTotalRollouts() + " rollouts, " + Math.round(planner.getRolloutsPerSecond()) + " per second");
             }
         }
+    }
 
-        if (checkGameWin()) {
-            ScreenManager.getInstance().showScreen(ScreenType.SCOREBOARD, false, false);
+    /**
+     * Saves the replay of the round that just ended in the replays directory.
+     * A replay that cannot be written is only logged, the game goes on.
+     */
+    private void saveReplay() {
+        String fileName = "round-" + currentRound + "-" + Long.toHexString(matchRandom.getSeed()) + ".b7r";
+        try {
+            replayWriter.save(ProjectPaths.getReplaysDir().resolve(fileName));
+        } catch (IOException e) {
+            Gdx.app.error("BomberGame", "Cannot save the replay " + fileName, e);
         }
     }
 
@@ -205,8 +311,16 @@ public class BomberGame extends Game {
                         gameCandidate.getPlayerBlueprints()[i].getCharacter()
                     );
                     characters.add(player);
+                } else {
+                    characters.add(new AIPlayer(
+                        currentMap,
+                        gameCandidate.getPlayerBlueprints()[i].getName(),
+                        spawnPoint.x,
+                        spawnPoint.y,
+                        gameCandidate.getPlayerBlueprints()[i].getCharacter(),
+                        gameCandidate.getPlayerBlueprints()[i].getStrategy()
+                    ));
                 }
-                // Add AIPlayer instantiation here if needed
             }
         }
 
@@ -219,36 +333,35 @@ public class BomberGame extends Game {
     }
 
     /**
-     * Verify status of the game : WIN, player dead, etc...
-     * Precondition : the gameCandidate must be initialized with players and maps.
-     * @return true if the game is won, false otherwise
+     * Creates the controllers of the round, in the order of the characters (i.e. of their slots).
+     * Human controllers are kept between rounds, bots get a new controller using the random streams of the round.
+     * @return the controllers of the characters
      */
-    private boolean checkGameWin() {
-        if (currentMap == null) {
-            Gdx.app.error("BomberGame", "No current map set. Cannot check game win conditions.");
-            return false;
-        }
-
-        List<Character> mapCharacters = currentMap.getCharacters();
-        int aliveCount = 0;
-
-        for (Character character : mapCharacters) {
-            if (character.isAlive()) {
-                aliveCount++;
+    private List<PlayerController> createControllers() {
+        List<PlayerController> controllers = new ArrayList<>();
+        for (Character character : characters) {
+            if (character instanceof AIPlayer) {
+                controllers.add(new BotController((AIPlayer) character, matchRandom.getAi(), true));
+            } else {
+                controllers.add(getHumanController(character));
             }
         }
+        return controllers;
+    }
 
-        if (aliveCount == 1) {
-            for (Character character : mapCharacters) {
-                if (character.isAlive()) {
-                    Gdx.app.debug("BomberGame", character.getName() + " wins the round!");
-                    character.addScore(Score.WIN);
-                    return true;
-                }
+    /**
+     * Returns the controller driving a human player of the current game.
+     * @param character the human player
+     * @return its controller
+     * @throws IllegalStateException if the player has no controller
+     */
+    private HumanController getHumanController(Character character) {
+        for (HumanController controller : humanControllers) {
+            if (controller.getPlayer() == character) {
+                return controller;
             }
         }
-
-        return false;
+        throw new IllegalStateException("No controller for human player " + character.getName());
     }
 
     /**
@@ -264,7 +377,9 @@ public class BomberGame extends Game {
         currentRound++;
 
         Gdx.app.debug("BomberGame", "Round " + currentRound);
-        currentMap = getNextMap();
+        PreparedRound prepared = takePreparedRound();
+        matchRandom = prepared.getRandom();
+        currentMap = prepared.getMap();
 
         // Initializing character in case if it is the first round
         if (currentRound == 1) {
@@ -278,9 +393,62 @@ public class BomberGame extends Game {
             currentMap.addCharacter(character);
         }
 
+        currentMap.getEvents().subscribe(new SoundEventListener(SoundManager.getInstance()));
+        round = new RoundSimulation(currentMap, createControllers());
+        replayWriter = new ReplayWriter(new ReplayHeader(
+            currentMap.getMapName(), matchRandom.getSeed(), currentMap.getWindowWidth(), currentMap.getWindowHeight(),
+            gameCandidate.getPlayerBlueprints()
+        ));
+        round.setRecorder(replayWriter);
+        simulationClock.reset();
+        simulationRunning = true;
+
         ScreenManager.getInstance().showScreen(ScreenType.GAME, false, false);
     }
 
+    /**
+     * Starts building the next round on a background thread, so that {@link #nextRound()} only has to swap it in.
+     * Called as soon as the scoreboard is shown. Does nothing after the last round, or if it was already started.
+     */
+    public void preloadNextRound() {
+        if (!gameStarted || isLastRound() || nextRoundPreload != null) {
+            return;
+        }
+        int roundNumber = currentRound + 1;
+        String mapName = getMapOfRound(roundNumber).getAssetName();
+        long seed = gameCandidate.getSeed();
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+        nextRoundPreload = preloader.submit(() -> new PreparedRound(roundNumber, mapName, seed, width, height));
+    }
+
+    /**
+     * Returns the current round (already incremented), preloaded if possible.
+     * The preloaded round is waited for if it is not ready yet. It is built again on the render thread if it
+     * failed, or if the window was resized since, as the map is laid out for the size of the window.
+     * @return the prepared round
+     */
+    private PreparedRound takePreparedRound() {
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+        Future<PreparedRound> preload = nextRoundPreload;
+        nextRoundPreload = null;
+        if (preload != null) {
+            try {
+                PreparedRound prepared = preload.get();
+                if (prepared.matches(currentRound, width, height)) {
+                    return prepared;
+                }
+            } catch (ExecutionException e) {
+                Gdx.app.error("BomberGame", "Preloading round " + currentRound + " failed, loading it again", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String mapName = getMapOfRound(currentRound).getAssetName();
+        return new PreparedRound(currentRound, mapName, gameCandidate.getSeed(), width, height);
+    }
+
     /**
      * Indicates whether the current round is the last one.
      * @return true if it is, false otherwise
@@ -322,15 +490,28 @@ public class BomberGame extends Game {
     }
 
     /**
-     * Returns the next map based on the currentRound (that has already been incremented before calling it).
-     * @return the levelMap for the next round
+     * Returns the map played in a round, the maps of the game candidate being played in turn.
+     * @param roundNumber the number of the round, starting at 1
+     * @return the map of the round
      */
-    private LevelMap getNextMap() {
-        GameMap mapToCreate = gameCandidate.getMaps().get((currentRound - 1) % gameCandidate.getMaps().size());
-        LevelMap levelMap = LevelMapFactory.createLevelMap(
-            mapToCreate.getAssetName(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight()
-        );
-        return levelMap;
+    private GameMap getMapOfRound(int roundNumber) {
+        return gameCandidate.getMaps().get((roundNumber - 1) % gameCandidate.getMaps().size());
+    }
+
+    /**
+     * Returns the batch shared by every screen.
+     * @return the batch
+     */
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     * Returns the viewport shared by every screen.
+     * @return the viewport
+     */
+    public Viewport getViewport() {
+        return viewport;
     }
 
     /**
@@ -341,6 +522,14 @@ public class BomberGame extends Game {
         return humanControllers;
     }
 
+    /**
+     * Returns the random streams of the current game.
+     * @return the match random, or null if no game was started
+     */
+    public MatchRandom getMatchRandom() {
+        return matchRandom;
+    }
+
     /**
      * Returns the gameCandidate used to create the game.
      * @return the game candidate instance
@@ -355,8 +544,13 @@ public class BomberGame extends Game {
     private void reset() {
         gameCandidate.reset();
         characters.clear();
+        humanControllers.clear();
         currentRound = 0;
         currentMap = null;
+        if (nextRoundPreload != null) {
+            nextRoundPreload.cancel(false);
+            nextRoundPreload = null;
+        }
     }
 
     /**
@@ -365,6 +559,9 @@ public class BomberGame extends Game {
      */
     @Override
     public void dispose() {
+        preloader.shutdownNow();
+        ScreenManager.getInstance().dispose();
+        batch.dispose();
         ResourceManager.getInstance().dispose();
         SoundManager.getInstance().dispose();
         super.dispose();
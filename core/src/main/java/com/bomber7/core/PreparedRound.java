@@ -0,0 +1,74 @@
+package com.bomber7.core;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+
+/**
+ * The model of a round built ahead of time, off the render thread: its random streams and its map,
+ * whose breakable walls already hide the bonuses rolled from these streams.
+ * <p>
+ * Nothing of it is shared with the running round, so it can be built while the scoreboard is shown,
+ * then handed to the render thread once the next round starts.
+ * </p>
+ */
+final class PreparedRound {
+
+    /** Number of the round, starting at 1. */
+    private final int round;
+
+    /** Width of the window the map was laid out for. */
+    private final int windowWidth;
+
+    /** Height of the window the map was laid out for. */
+    private final int windowHeight;
+
+    /** Random streams of the round. */
+    private final MatchRandom random;
+
+    /** Map of the round, without characters yet. */
+    private final LevelMap map;
+
+    /**
+     * Builds the model of a round.
+     * @param round the number of the round
+     * @param mapName the asset name of the map of the round
+     * @param seed the seed of the game candidate
+     * @param windowWidth the width of the window
+     * @param windowHeight the height of the window
+     */
+    PreparedRound(int round, String mapName, long seed, int windowWidth, int windowHeight) {
+        this.round = round;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        this.random = new MatchRandom(MatchRandom.roundSeed(seed, round));
+        this.map = LevelMapFactory.createLevelMap(mapName, windowWidth, windowHeight, random);
+    }
+
+    /**
+     * Checks whether this round can be played as the given round in a window of the given size.
+     * @param expectedRound the number of the round to start
+     * @param width the current width of the window
+     * @param height the current height of the window
+     * @return true if the round number and the window size match
+     */
+    boolean matches(int expectedRound, int width, int height) {
+        return round == expectedRound && windowWidth == width && windowHeight == height;
+    }
+
+    /**
+     * Returns the random streams of the round.
+     * @return the match random
+     */
+    MatchRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Returns the map of the round.
+     * @return the level map
+     */
+    LevelMap getMap() {
+        return map;
+    }
+}
@@ -1,12 +1,19 @@
 package com.bomber7.core;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.utils.I18NBundle;
+import com.bomber7.core.views.CharacterAnimations;
+import com.bomber7.utils.GameCharacter;
 import com.bomber7.utils.Language;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * A singleton manager responsible for loading, saving, and managing the resources used in the game (textures, skin, bundles).
  */
@@ -27,6 +34,18 @@ public final class ResourceManager {
      * I18NBundle object that contains localized strings used in the game.
      */
     private I18NBundle bundle;
+    /**
+     * Sprite atlases, loaded once per sprite name and kept until {@link #dispose()}.
+     */
+    private final Map<String, TextureAtlas> spriteAtlases = new HashMap<>();
+    /**
+     * Animations of every game character loaded so far, shared by all the character views.
+     */
+    private final Map<GameCharacter, CharacterAnimations> characterAnimations = new EnumMap<>(GameCharacter.class);
+    /**
+     * Font drawing the names of the characters, a copy of the skin font so that its color can change.
+     */
+    private BitmapFont characterFont;
 
     /**
      * Private constructor to enforce singleton pattern.
@@ -74,6 +93,12 @@ public final class ResourceManager {
     public void dispose() {
         skin.dispose();
         mapSkin.dispose();
+        for (TextureAtlas atlas : spriteAtlases.values()) {
+            atlas.dispose();
+        }
+        spriteAtlases.clear();
+        characterAnimations.clear();
+        characterFont = null;
     }
 
     /**
@@ -96,13 +121,40 @@ public final class ResourceManager {
 
     /**
      * Returns the texture region of a sprite based on given sprite texture name.
+     * The atlas of the sprite is loaded on the first call only.
      *
      * @param spriteName the name of the sprite texture
      * @return the texture region of the specified sprite
      */
     public TextureRegion getSpriteTextureRegion(String spriteName) {
-        return new TextureAtlas(Gdx.files.internal("skin/sprites/" + spriteName + ".atlas"))
-                .findRegion(spriteName);
+        return spriteAtlases
+            .computeIfAbsent(spriteName, name -> new TextureAtlas(Gdx.files.internal("skin/sprites/" + name + ".atlas")))
+            .findRegion(spriteName);
+    }
+
+    /**
+     * Returns the animations of a game character, created from its sprite sheet on the first call only.
+     *
+     * @param gameCharacter the game character
+     * @return the animations shared by every view of this game character
+     */
+    public CharacterAnimations getCharacterAnimations(GameCharacter gameCharacter) {
+        return characterAnimations.computeIfAbsent(gameCharacter,
+            character -> new CharacterAnimations(getSpriteTextureRegion(character.getDrawableName())));
+    }
+
+    /**
+     * Returns the font drawing the names of the characters over the map.
+     * Views set its color before drawing with it.
+     *
+     * @return the font shared by every character view
+     */
+    public BitmapFont getCharacterFont() {
+        if (characterFont == null) {
+            BitmapFont originalFont = skin.getFont("pixelify-sm");
+            characterFont = new BitmapFont(originalFont.getData(), originalFont.getRegion(), originalFont.usesIntegerPositions());
+        }
+        return characterFont;
     }
 
     /**
@@ -1,10 +1,16 @@
 package com.bomber7.core;
 
+import com.badlogic.gdx.Gdx;
 import com.bomber7.core.screens.BomberScreen;
 import com.bomber7.utils.ScreenType;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.Stack;
 
 /**
@@ -18,6 +24,9 @@ import java.util.Stack;
  * <a href="https://www.pixnbgames.com/blog/libgdx/how-to-manage-screens-in-libgdx/">
  * https://www.pixnbgames.com/blog/libgdx/how-to-manage-screens-in-libgdx/
  * </a></p>
+ *
+ * <p>Screens are pooled: one screen per type is built, then reset in place each time it is shown again, instead of
+ * being rebuilt. The pooled screens are disposed when the application closes.</p>
  */
 public final class ScreenManager {
 
@@ -82,46 +91,34 @@ public final class ScreenManager {
     }
 
     /**
-     * Displays a new screen based on the specified {@link ScreenType}.
+     * Displays a screen based on the specified {@link ScreenType}.
      * <p>
-     * If the screen does not already exist in the cache or if {@code saveScreen} is false,
-     * a new screen instance is created and stored. Otherwise, the existing screen is reused.
+     * The screen is built the first time its type is shown, then pooled. When it is shown again, it is reused as is
+     * if {@code saveScreen} is true; otherwise it is reset with the given parameters, which only rebuilds its widgets
+     * when these parameters or the language changed.
      * </p>
      * <p>
      * Optionally, the current screen can be pushed to a stack before switching to the new screen.
-     * If {@code saveScreen} is true, the current screen instance is reused when popping from the stack;
-     * otherwise, a fresh instance is created when restoring.
      * </p>
      *
      * @param screenType            the type of screen to be shown
      * @param pushScreenToStack whether the currentScreen should be pushed to the screen stack or not.
-     * @param saveScreen whether the currentScreen pushed to the stack should be saved or not.
+     * @param saveScreen whether the pooled screen should be shown as it was left, or reset.
      * @param params                optional parameters used to configure the new screen (e.g., level ID, player settings)
      */
     public void showScreen(ScreenType screenType, boolean pushScreenToStack, boolean saveScreen, Object... params) {
         BomberScreen oldScreen = (BomberScreen) game.getScreen();
-        BomberScreen newScreen;
+        BomberScreen newScreen = screens.get(screenType);
 
-        if (screens.get(screenType) == null || !saveScreen) {
-//            System.out.println("initializing screen " + screenType);
+        if (newScreen == null) {
             newScreen = screenType.getScreen(game, params);
             screens.put(screenType, newScreen);
-        } else {
-//            System.out.println("screen already initialized. retreiving it from the stack");
-            newScreen = screens.get(screenType);
+        } else if (!saveScreen) {
+            newScreen.reset(params);
         }
 
-        if (currentScreenType != null) {
-//            System.out.println("current screen is not null");
-            if (pushScreenToStack) {
-                if (saveScreen) {
-//                    System.out.println("saving " + currentScreenType + " " + "screen to stack");
-                    screenStack.push(oldScreen);
-                } else {
-//                    System.out.println("creating a new " + currentScreenType + " " + "and adding it to the stack");
-                    screenStack.push(currentScreenType.getScreen(game));
-                }
-            }
+        if (currentScreenType != null && pushScreenToStack && oldScreen != null) {
+            screenStack.push(oldScreen);
         }
 
         currentScreenType = screenType;
@@ -132,18 +129,49 @@ public final class ScreenManager {
     /**
      * A method that pops and shows the previous screen in the stack.
      * @param pushScreenToStack whether the currentScreen should be pushed to the screen stack or not.
-     * @param saveScreen whether the currentScreen pushed to the stack should be saved or not.
+     * @param saveScreen whether the previous screen should be shown as it was left, or reset.
      */
     public void showPreviousScreen(boolean pushScreenToStack, boolean saveScreen) {
-//        System.out.println("trying to come back to previous screen");
         if (!screenStack.isEmpty()) {
-            BomberScreen poppedScreen = screenStack.pop();
+            showScreen(screenStack.pop().getScreenType(), pushScreenToStack, saveScreen);
+        }
+    }
 
-            if (game.getScreen() != null && !screens.containsValue(game.getScreen())) {
-                game.getScreen().dispose();
+    /**
+     * Builds the given screens ahead of their first use, one per frame on the render thread, so that opening them
+     * later does not stall a frame. Screens already built are skipped.
+     * @param types the types of the screens to build
+     */
+    public void prewarm(ScreenType... types) {
+        Deque<ScreenType> pending = new ArrayDeque<>(Arrays.asList(types));
+        Gdx.app.postRunnable(new Runnable() {
+            @Override
+            public void run() {
+                ScreenType type = pending.poll();
+                if (type == null) {
+                    return;
+                }
+                if (screens.get(type) == null) {
+                    screens.put(type, type.getScreen(game));
+                }
+                Gdx.app.postRunnable(this);
             }
+        });
+    }
 
-            showScreen(poppedScreen.getScreenType(), pushScreenToStack, saveScreen);
+    /**
+     * Disposes every screen still referenced, when the application closes.
+     */
+    public void dispose() {
+        Set<BomberScreen> alive = new HashSet<>(screens.values());
+        alive.addAll(screenStack);
+        alive.add((BomberScreen) game.getScreen());
+        for (BomberScreen screen : alive) {
+            if (screen != null) {
+                screen.dispose();
+            }
         }
+        screens.replaceAll((type, screen) -> null);
+        screenStack.clear();
     }
 }
@@ -0,0 +1,592 @@
+package com.bomber7.core.ai;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.ElementKind;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.Controls;
+import com.bomber7.utils.PlayerStrategy;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decision making of a bot, returning the controls of its player tick after tick.
+ * <p>
+ * A plan is a target cell reached along a BFS distance field computed from the cell of the bot, over walkable
+ * cells that are not about to be blasted according to the {@link DangerMap}. Planning only happens when the bot
+ * enters a new cell or when the board changes (bomb dropped, exploded, wall broken): on the other ticks the bot
+ * keeps steering towards the next cell of its plan, which costs a few comparisons. A plan visits at most every
+ * cell of the board once, so the cost of a tick is bounded by the size of the board and not by wall-clock time,
+ * which keeps bots deterministic for replays.
+ * </p>
+ * <ul>
+ *     <li>{@link PlayerStrategy#PEACEFUL} wanders and flees blasts, but never drops bombs.</li>
+ *     <li>{@link PlayerStrategy#BEGINNER} wanders, bombs walls and players right next to it, and reacts late.</li>
+ *     <li>{@link PlayerStrategy#PRO} collects nearby bonuses, hunts the closest player and bombs it on sight.</li>
+ * </ul>
+ * Bots only drop a bomb when a safe cell can be reached before it, or a bomb it sets off, explodes. With another
+ * player close by, who could block the way with a bomb of their own, two such cells must be reached through different
+ * neighbour cells. Bots set off their trigger bombs as soon as they stand out of every blast that may come at any time.
+ */
+public class BotBrain implements Brain {
+
+    /** Neighbour offsets: up, down, left, right. */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
+
+    /** Marks a missing cell. */
+    private static final int NO_CELL = -1;
+
+    /** Number of ticks between two plans of a beginner, to make it react late. */
+    private static final int BEGINNER_REACTION_TICKS = 12;
+
+    /** Number of ticks between two plans of a bot with nothing to do. */
+    private static final int IDLE_PLAN_TICKS = 15;
+
+    /** Maximum BFS distance (in cells) of the bonuses a pro goes to collect. */
+    private static final int PRO_BONUS_RANGE = 6;
+
+    /** Extra ticks kept between reaching a cell and its blast. */
+    private static final int SAFETY_MARGIN_TICKS = 10;
+
+    /** Distance (in cells, Manhattan) within which another player could block the escape from a bomb. */
+    private static final int ESCAPE_GUARD_RANGE = 4;
+
+    /** Size (in pixels) of a cell on screen. */
+    private static final float CELL_SIZE = Constants.TEXTURE_SIZE * Constants.SCALE;
+
+    /** The player driven by this brain. */
+    private final Player player;
+
+    /** How the bot plays. */
+    private final PlayerStrategy strategy;
+
+    /** The random stream of the bots. */
+    private final SplittableRandom random;
+
+    /** Danger map of the current map of the player. */
+    private DangerMap danger;
+
+    /** BFS distance (in cells) of each cell, valid if its stamp matches {@link #generation}. */
+    private int[] distances;
+
+    /** Estimated ticks (from the pixel position of the player) to reach each cell, valid if its stamp matches. */
+    private int[] arrivals;
+
+    /** Neighbour of the origin through which each cell is reached first, valid if its stamp matches. */
+    private int[] firstSteps;
+
+    /** Stamp of the BFS that visited each cell. */
+    private int[] stamps;
+
+    /** BFS queue, which also lists the visited cells in distance order. */
+    private int[] queue;
+
+    /** Cells of the bombs a bomb dropped by the bot would set off, filled by {@link #collectChainedBombs}. */
+    private int[] chainedBombs;
+
+    /** Number of cells visited by the last BFS. */
+    private int visitedCount;
+
+    /** Stamp of the last BFS. */
+    private int generation;
+
+    /** The cell the bot goes to, or {@link #NO_CELL}. */
+    private int target = NO_CELL;
+
+    /** The cell the last plan was made from. */
+    private int plannedCell = NO_CELL;
+
+    /** The board version the last plan was made for. */
+    private int plannedVersion;
+
+    /** Tick from which the bot may plan again. */
+    private long nextPlanTick;
+
+    /** Whether the last plan decided to drop a bomb. */
+    private boolean dropping;
+
+    /**
+     * Creates the brain of a bot.
+     * @param player the player to drive
+     * @param strategy how the bot plays
+     * @param random the random stream of the bots
+     */
+    public BotBrain(Player player, PlayerStrategy strategy, SplittableRandom random) {
+        this.player = player;
+        this.strategy = strategy;
+        this.random = random;
+    }
+
+    @Override
+    public int decide(long tick) {
+        if (!player.isAlive()) {
+            return ControlMask.NONE;
+        }
+        LevelMap map = player.getMap();
+        if (danger == null || danger.getMap() != map) {
+            attach(map);
+        }
+        danger.refresh();
+
+        int cell = map.cellIndex(player.getMapX(), player.getMapY());
+        boolean situationChanged = plannedCell == NO_CELL || plannedVersion != map.getVersion() || cell != plannedCell;
+        boolean idle = target == NO_CELL || target == cell;
+        boolean reactive = strategy != PlayerStrategy.BEGINNER;
+        if ((situationChanged && (reactive || tick >= nextPlanTick)) || (idle && tick >= nextPlanTick)) {
+            plan(map, cell);
+            nextPlanTick = tick + (reactive ? IDLE_PLAN_TICKS : BEGINNER_REACTION_TICKS);
+        }
+
+        if (dropping) {
+            dropping = false;
+            return ControlMask.of(Controls.DROP_BOMB);
+        }
+        // Trigger bombs may blow at any time, so their blasts are dated in the past: a later tick means out of them
+        if (player.getNbTriggeredBombDropped() > 0 && danger.getBlastTick(cell) > map.getTimers().getCurrentTick()) {
+            return ControlMask.of(Controls.ACTIVATE_BOMB);
+        }
+        return steer(map, cell);
+    }
+
+    /**
+     * Allocates the search buffers for a new map.
+     * @param map the map of the player
+     */
+    private void attach(LevelMap map) {
+        int cells = map.getWidth() * map.getHeight();
+        if (danger != null) {
+            danger.detach();
+        }
+        danger = new DangerMap(map);
+        distances = new int[cells];
+        arrivals = new int[cells];
+        firstSteps = new int[cells];
+        stamps = new int[cells];
+        queue = new int[cells];
+        chainedBombs = new int[cells];
+        generation = 0;
+        target = NO_CELL;
+        plannedCell = NO_CELL;
+    }
+
+    /**
+     * Chooses a target cell, or decides to drop a bomb, from the current cell.
+     * @param map the map of the player
+     * @param cell the current cell of the player
+     */
+    private void plan(LevelMap map, int cell) {
+        plannedCell = cell;
+        plannedVersion = map.getVersion();
+        long now = map.getTimers().getCurrentTick();
+        search(map, cell, now);
+
+        if (!danger.isSafe(cell)) {
+            target = nearestSafeCell(cell, now);
+            return;
+        }
+        if (target == cell || (target != NO_CELL && !isVisited(target))) {
+            target = NO_CELL;
+        }
+
+        switch (strategy) {
+            case PRO:
+                planPro(map, cell);
+                break;
+            case BEGINNER:
+                if ((nextToBreakableWall(map, cell) || enemyWithin(map, cell, 1)) && canEscape(map, cell)) {
+                    dropping = true;
+                } else if (target == NO_CELL) {
+                    target = randomSafeCell();
+                }
+                break;
+            default:
+                if (target == NO_CELL) {
+                    target = randomSafeCell();
+                }
+                break;
+        }
+    }
+
+    /**
+     * Plan of a pro: bomb a player in range, grab a close bonus, hunt the closest player, or dig through walls.
+     * @param map the map of the player
+     * @param cell the current cell of the player
+     */
+    private void planPro(LevelMap map, int cell) {
+        if (enemyInBlastLine(map, cell) && canEscape(map, cell)) {
+            dropping = true;
+            return;
+        }
+        int bonus = nearestVisited(map, ElementKind.BONUS, PRO_BONUS_RANGE);
+        if (bonus != NO_CELL) {
+            target = bonus;
+            return;
+        }
+        int enemy = nearestEnemyCell(map);
+        if (enemy != NO_CELL && enemy != cell) {
+            target = enemy;
+            return;
+        }
+        if (nextToBreakableWall(map, cell) && canEscape(map, cell)) {
+            dropping = true;
+            return;
+        }
+        int wall = nearestCellNextToBreakableWall(map);
+        target = wall != NO_CELL ? wall : randomSafeCell();
+    }
+
+    /**
+     * Breadth-first search from the current cell over walkable cells, skipping the cells that would be
+     * blasted while the bot goes through them. Arrival times are counted from the pixel position of the player
+     * rather than from the centre of its cell, so that a plan does not get stricter as the bot walks it. When the
+     * current cell may be blasted at any time (a trigger bomb), cells blasted no sooner are not skipped either, as going
+     * through them is no worse than staying.
+     * @param map the map of the player
+     * @param origin the current cell of the player
+     * @param now the current tick of the map timers
+     */
+    private void search(LevelMap map, int origin, long now) {
+        generation++;
+        int width = map.getWidth();
+        int ticksPerCell = ticksPerCell();
+        long originBlast = danger.getBlastTick(origin);
+        long skipBefore = originBlast <= now ? originBlast : DangerMap.SAFE;
+        int head = 0;
+        visitedCount = 0;
+
+        stamps[origin] = generation;
+        distances[origin] = 0;
+        arrivals[origin] = 0;
+        firstSteps[origin] = origin;
+        queue[visitedCount++] = origin;
+
+        while (head < visitedCount) {
+            int cell = queue[head++];
+            int x = cell % width;
+            int y = cell / width;
+            for (int[] direction : DIRECTIONS) {
+                int nx = x + direction[0];
+                int ny = y + direction[1];
+                if (!map.isInBounds(nx, ny) || !map.isWalkable(nx, ny)) {
+                    continue;
+                }
+                int next = map.cellIndex(nx, ny);
+                if (stamps[next] == generation) {
+                    continue;
+                }
+                int arrival = cell == origin ? ticksFromPosition(map, nx, ny) : arrivals[cell] + ticksPerCell;
+                long blast = danger.getBlastTick(next);
+                if (blast < skipBefore && blast - now <= (long) arrival + ticksPerCell + SAFETY_MARGIN_TICKS) {
+                    continue;
+                }
+                stamps[next] = generation;
+                distances[next] = distances[cell] + 1;
+                arrivals[next] = arrival;
+                firstSteps[next] = cell == origin ? next : firstSteps[cell];
+                queue[visitedCount++] = next;
+            }
+        }
+    }
+
+    /**
+     * Checks whether a safe cell could be reached before a bomb dropped on the current cell explodes.
+     * The bomb explodes at the end of its fuse, or earlier if a pending blast reaches its cell. The cell to escape to
+     * must be out of the pending blasts, of the blast of the bomb and of the blasts of the bombs it would set off.
+     * @param map the map of the player
+     * @param cell the current cell of the player
+     * @return true if the bot can escape its own bomb
+     */
+    private boolean canEscape(LevelMap map, int cell) {
+        int width = map.getWidth();
+        if (player.getNbBomb() < 1 || map.hasMapElement(cell % width, cell / width)) {
+            return false;
+        }
+        long now = map.getTimers().getCurrentTick();
+        long detonation = Math.min(now + Math.round(Constants.BOMB_TIMER * Constants.TICK_RATE), danger.getBlastTick(cell));
+        int chainCount = collectChainedBombs(map, cell);
+        boolean guarded = enemyWithin(map, cell, ESCAPE_GUARD_RANGE);
+        int firstShelter = NO_CELL;
+
+        for (int i = 1; i < visitedCount; i++) {
+            int candidate = queue[i];
+            if ((long) arrivals[candidate] + SAFETY_MARGIN_TICKS >= detonation - now
+                || !danger.isSafe(candidate) || isInChainBlast(map, cell, chainCount, candidate)) {
+                continue;
+            }
+            if (!guarded || (firstShelter != NO_CELL && firstSteps[candidate] != firstSteps[firstShelter])) {
+                return true;
+            }
+            if (firstShelter == NO_CELL) {
+                firstShelter = candidate;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists in {@link #chainedBombs} the bombs a bomb dropped on a cell would set off, directly or through
+     * other bombs. Blasts stop on unbreakable walls and on the first bomb they reach, as in the explosion resolver.
+     * @param map the map of the player
+     * @param cell the cell of the dropped bomb
+     * @return the number of listed bombs
+     */
+    private int collectChainedBombs(LevelMap map, int cell) {
+        int width = map.getWidth();
+        int count = 0;
+        for (int b = -1; b < count; b++) {
+            int origin = b < 0 ? cell : chainedBombs[b];
+            int power = b < 0 ? player.getPower() : ((Bomb) map.getMapElement(origin % width, origin / width)).getPower();
+            for (int[] direction : DIRECTIONS) {
+                for (int i = 1; i <= power; i++) {
+                    int x = origin % width + direction[0] * i;
+                    int y = origin / width + direction[1] * i;
+                    if (!map.isInBounds(x, y) || map.getElementKind(x, y) == ElementKind.UNBREAKABLE_WALL) {
+                        break;
+                    }
+                    if (map.getElementKind(x, y) == ElementKind.BOMB) {
+                        int bomb = map.cellIndex(x, y);
+                        if (!isChained(bomb, count)) {
+                            chainedBombs[count++] = bomb;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether a bomb is already listed in {@link #chainedBombs}.
+     * @param bomb the cell of the bomb
+     * @param count the number of listed bombs
+     * @return true if the bomb is listed
+     */
+    private boolean isChained(int bomb, int count) {
+        for (int i = 0; i < count; i++) {
+            if (chainedBombs[i] == bomb) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a cell would be blasted by a bomb dropped on the current cell or by a bomb of its chain.
+     * @param map the map of the player
+     * @param cell the cell of the dropped bomb
+     * @param chainCount the number of bombs listed in {@link #chainedBombs}
+     * @param candidate the cell to check
+     * @return true if the chain reaches the cell
+     */
+    private boolean isInChainBlast(LevelMap map, int cell, int chainCount, int candidate) {
+        int width = map.getWidth();
+        int x = candidate % width;
+        int y = candidate / width;
+        if (danger.isInBlast(cell % width, cell / width, player.getPower(), x, y)) {
+            return true;
+        }
+        for (int i = 0; i < chainCount; i++) {
+            int bomb = chainedBombs[i];
+            int power = ((Bomb) map.getMapElement(bomb % width, bomb / width)).getPower();
+            if (danger.isInBlast(bomb % width, bomb / width, power, x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the closest visited cell out of any blast that can be reached before the current cell is blasted,
+     * else the closest one out of any blast, or the visited cell blasted last if none is safe.
+     * @param origin the current cell of the player
+     * @param now the current tick of the map timers
+     * @return the cell to flee to
+     */
+    private int nearestSafeCell(int origin, long now) {
+        long deadline = danger.getBlastTick(origin) - now - SAFETY_MARGIN_TICKS;
+        int nearest = NO_CELL;
+        int latest = queue[0];
+        for (int i = 0; i < visitedCount; i++) {
+            int cell = queue[i];
+            if (danger.isSafe(cell) && arrivals[cell] < deadline) {
+                return cell;
+            }
+            if (danger.isSafe(cell) && nearest == NO_CELL) {
+                nearest = cell;
+            }
+            if (danger.getBlastTick(cell) > danger.getBlastTick(latest)) {
+                latest = cell;
+            }
+        }
+        return nearest != NO_CELL ? nearest : latest;
+    }
+
+    /**
+     * Picks a random safe visited cell.
+     * @return the cell, or {@link #NO_CELL} if no visited cell is safe
+     */
+    private int randomSafeCell() {
+        int start = random.nextInt(visitedCount);
+        for (int i = 0; i < visitedCount; i++) {
+            int cell = queue[(start + i) % visitedCount];
+            if (danger.isSafe(cell)) {
+                return cell;
+            }
+        }
+        return NO_CELL;
+    }
+
+    /**
+     * Returns the closest safe visited cell holding a kind of element.
+     * @param map the map of the player
+     * @param kind the {@link ElementKind} to look for
+     * @param range the maximum distance (in cells)
+     * @return the cell, or {@link #NO_CELL}
+     */
+    private int nearestVisited(LevelMap map, byte kind, int range) {
+        for (int i = 0; i < visitedCount && distances[queue[i]] <= range; i++) {
+            int cell = queue[i];
+            if (danger.isSafe(cell) && map.getElementKind(cell % map.getWidth(), cell / map.getWidth()) == kind) {
+                return cell;
+            }
+        }
+        return NO_CELL;
+    }
+
+    /**
+     * Returns the closest visited cell holding another living character.
+     * @param map the map of the player
+     * @return the cell, or {@link #NO_CELL}
+     */
+    private int nearestEnemyCell(LevelMap map) {
+        int best = NO_CELL;
+        for (int i = 0; i < map.getCharacterCount(); i++) {
+            Character other = map.getCharacter(i);
+            if (other == player || !other.isAlive() || !map.isInBounds(other.getMapX(), other.getMapY())) {
+                continue;
+            }
+            int cell = map.cellIndex(other.getMapX(), other.getMapY());
+            if (isVisited(cell) && (best == NO_CELL || distances[cell] < distances[best])) {
+                best = cell;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the closest safe visited cell next to a breakable wall.
+     * @param map the map of the player
+     * @return the cell, or {@link #NO_CELL}
+     */
+    private int nearestCellNextToBreakableWall(LevelMap map) {
+        for (int i = 0; i < visitedCount; i++) {
+            if (danger.isSafe(queue[i]) && nextToBreakableWall(map, queue[i])) {
+                return queue[i];
+            }
+        }
+        return NO_CELL;
+    }
+
+    /**
+     * Checks whether a breakable wall is next to a cell.
+     * @param map the map of the player
+     * @param cell the cell
+     * @return true if a neighbour is a breakable wall
+     */
+    private boolean nextToBreakableWall(LevelMap map, int cell) {
+        int x = cell % map.getWidth();
+        int y = cell / map.getWidth();
+        for (int[] direction : DIRECTIONS) {
+            int nx = x + direction[0];
+            int ny = y + direction[1];
+            if (map.isInBounds(nx, ny) && map.getElementKind(nx, ny) == ElementKind.BREAKABLE_WALL) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether another living character stands within a distance of a cell.
+     * @param map the map of the player
+     * @param cell the cell
+     * @param range the maximum distance (in cells, Manhattan)
+     * @return true if an enemy is that close
+     */
+    private boolean enemyWithin(LevelMap map, int cell, int range) {
+        int x = cell % map.getWidth();
+        int y = cell / map.getWidth();
+        for (int i = 0; i < map.getCharacterCount(); i++) {
+            Character other = map.getCharacter(i);
+            if (other != player && other.isAlive()
+                && Math.abs(other.getMapX() - x) + Math.abs(other.getMapY() - y) <= range) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether another living character would be hit by a bomb dropped on a cell.
+     * @param map the map of the player
+     * @param cell the cell
+     * @return true if an enemy is in the blast lines
+     */
+    private boolean enemyInBlastLine(LevelMap map, int cell) {
+        int x = cell % map.getWidth();
+        int y = cell / map.getWidth();
+        for (int i = 0; i < map.getCharacterCount(); i++) {
+            Character other = map.getCharacter(i);
+            if (other != player && other.isAlive()
+                && danger.isInBlast(x, y, player.getPower(), other.getMapX(), other.getMapY())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the movement controls leading to the next cell of the plan.
+     * @param map the map of the player
+     * @param cell the current cell of the player
+     * @return the controls to hold
+     */
+    private int steer(LevelMap map, int cell) {
+        int next = target == NO_CELL || !isVisited(target) ? cell : firstSteps[target];
+        return Steering.towards(map, player, cell, next);
+    }
+
+    /**
+     * Checks whether the last BFS reached a cell.
+     * @param cell the cell
+     * @return true if the cell was visited
+     */
+    private boolean isVisited(int cell) {
+        return stamps[cell] == generation;
+    }
+
+    /**
+     * Returns the number of ticks the player needs to walk across a cell at its current speed.
+     * @return the ticks per cell
+     */
+    private int ticksPerCell() {
+        return (int) Math.ceil(CELL_SIZE / player.getSpeed());
+    }
+
+    /**
+     * Returns the number of ticks the player needs to walk from its pixel position to the centre of a cell,
+     * going along one axis after the other as the steering does.
+     * @param map the map of the player
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return the ticks to reach the cell
+     */
+    private int ticksFromPosition(LevelMap map, int x, int y) {
+        int pixels = Math.abs(map.toPixelX(x) - player.getPositionX()) + Math.abs(map.toPixelY(y) - player.getPositionY());
+        return (pixels + player.getSpeed() - 1) / player.getSpeed();
+    }
+}
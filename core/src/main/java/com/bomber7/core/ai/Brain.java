@@ -0,0 +1,14 @@
+package com.bomber7.core.ai;
+
+/**
+ * Decision making of a bot, asked for the controls of its player once per tick.
+ */
+public interface Brain {
+
+    /**
+     * Decides the controls of the player for a tick.
+     * @param tick the index of the tick in the round
+     * @return a {@link com.bomber7.core.controller.ControlMask} bit mask
+     */
+    int decide(long tick);
+}
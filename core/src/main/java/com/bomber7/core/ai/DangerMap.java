@@ -0,0 +1,440 @@
+package com.bomber7.core.ai;
+
+import com.bomber7.core.model.map.CellChangeListener;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.ElementKind;
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.core.model.square.TimeBomb;
+
+import java.util.Arrays;
+
+/**
+ * For every cell of a map, the tick at which a pending blast will reach it.
+ * <p>
+ * Blast ticks are absolute (timer wheel ticks), so they stay valid while the bombs tick down. The danger is built
+ * once from the whole board on the first {@link #refresh()}, then kept up to date from the
+ * {@link CellChangeListener cell changes} of the map: only the blast lines crossing a changed cell, and the lines
+ * of the bombs whose chained explosion tick moved, are painted again.
+ * Chain reactions are taken into account: a bomb reached by a blast explodes with it.
+ * Blasts follow the rules of {@link com.bomber7.core.model.ExplosionResolver}. Trigger bombs can be activated at
+ * any time and count as exploding on the tick they appeared.
+ * </p>
+ */
+public class DangerMap implements CellChangeListener {
+
+    /** Blast tick of a cell that no pending blast reaches. */
+    public static final long SAFE = Long.MAX_VALUE;
+
+    /** Propagation directions: down, up, left, right. */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
+
+    /** Slot of a cell holding no bomb. */
+    private static final int NO_BOMB = -1;
+
+    /** The analysed map. */
+    private final LevelMap map;
+
+    /** Tick at which a blast reaches each cell, or {@link #SAFE}. */
+    private final long[] blastTicks;
+
+    /** Slot of the bomb standing on each cell, or {@link #NO_BOMB}. */
+    private final int[] bombSlots;
+
+    /** Stamp of the update that listed each cell in {@link #repaintCells}. */
+    private final int[] repaintStamps;
+
+    /** Cells whose blast tick is computed again by the current update. */
+    private final int[] repaintCells;
+
+    /** Number of cells listed in {@link #repaintCells}. */
+    private int repaintCount;
+
+    /** Stamp of the current update. */
+    private int stamp;
+
+    /** Bomb of each slot. */
+    private final Bomb[] bombs;
+
+    /** Cell of the bomb of each slot. */
+    private final int[] bombCells;
+
+    /** Tick at which the bomb of each slot explodes on its own. */
+    private final long[] fuseTicks;
+
+    /** Explosion tick of the bomb of each slot, lowered by chain reactions. */
+    private final long[] bombTicks;
+
+    /** Explosion ticks being computed by {@link #chain()}. */
+    private final long[] chainTicks;
+
+    /** Whether the bomb of each slot has been propagated by {@link #chain()}. */
+    private final boolean[] bombDone;
+
+    /** Whether the blast lines of the bomb of each slot must be measured and painted again. */
+    private final boolean[] touched;
+
+    /** Number of cells covered by the blast of each slot in each of the {@link #DIRECTIONS}. */
+    private final int[] reaches;
+
+    /** Number of bombs, stored in the first slots. */
+    private int bombCount;
+
+    /** Whether the danger was built from the board. */
+    private boolean computed;
+
+    /**
+     * Creates the danger map of a map and subscribes it to the cell changes of the map.
+     * It is built on the first {@link #refresh()}.
+     * @param map the map to analyse
+     */
+    public DangerMap(LevelMap map) {
+        this.map = map;
+        int cells = map.getWidth() * map.getHeight();
+        this.blastTicks = new long[cells];
+        this.bombSlots = new int[cells];
+        this.repaintStamps = new int[cells];
+        this.repaintCells = new int[cells];
+        this.bombs = new Bomb[cells];
+        this.bombCells = new int[cells];
+        this.fuseTicks = new long[cells];
+        this.bombTicks = new long[cells];
+        this.chainTicks = new long[cells];
+        this.bombDone = new boolean[cells];
+        this.touched = new boolean[cells];
+        this.reaches = new int[cells * DIRECTIONS.length];
+        map.addCellChangeListener(this);
+    }
+
+    /**
+     * Returns the analysed map.
+     * @return the level map
+     */
+    public LevelMap getMap() {
+        return map;
+    }
+
+    /**
+     * Unsubscribes the danger map from the cell changes of its map, once it is not used anymore.
+     */
+    public void detach() {
+        map.removeCellChangeListener(this);
+    }
+
+    /**
+     * Builds the danger from the board if it was not built yet. Afterwards, the cell changes keep it up to date.
+     * @return true if the danger was built
+     */
+    public boolean refresh() {
+        if (computed) {
+            return false;
+        }
+        computed = true;
+        compute();
+        return true;
+    }
+
+    /**
+     * Returns the tick at which a pending blast reaches a cell.
+     * @param cell the index of the cell
+     * @return the blast tick, or {@link #SAFE}
+     */
+    public long getBlastTick(int cell) {
+        return blastTicks[cell];
+    }
+
+    /**
+     * Checks whether no pending blast reaches a cell.
+     * @param cell the index of the cell
+     * @return true if the cell is safe
+     */
+    public boolean isSafe(int cell) {
+        return blastTicks[cell] == SAFE;
+    }
+
+    /**
+     * Checks whether a bomb would reach a cell, ignoring chain reactions.
+     * @param bombX the x-coordinate of the bomb
+     * @param bombY the y-coordinate of the bomb
+     * @param power the power of the bomb
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return true if the cell is in the blast of the bomb
+     */
+    public boolean isInBlast(int bombX, int bombY, int power, int x, int y) {
+        if (x != bombX && y != bombY) {
+            return false;
+        }
+        int distance = Math.abs(x - bombX) + Math.abs(y - bombY);
+        if (distance > power) {
+            return false;
+        }
+        int stepX = Integer.signum(x - bombX);
+        int stepY = Integer.signum(y - bombY);
+        for (int i = 1; i < distance; i++) {
+            if (map.getElementKind(bombX + stepX * i, bombY + stepY * i) == ElementKind.UNBREAKABLE_WALL) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Updates the blast lines affected by the cells changed during a tick.
+     * The lines crossing a changed cell are measured again, the chain reactions are replayed on the bombs, and the
+     * cells of every line that moved, before or after the update, get the earliest tick of the lines covering them.
+     */
+    @Override
+    public void cellsChanged(LevelMap changed, int[] cells, int count) {
+        if (!computed) {
+            return;
+        }
+        stamp++;
+        repaintCount = 0;
+        long now = map.getTimers().getCurrentTick();
+        int width = map.getWidth();
+
+        for (int slot = 0; slot < bombCount; slot++) {
+            touched[slot] = false;
+            for (int i = 0; i < count && !touched[slot]; i++) {
+                touched[slot] = covers(slot, cells[i]);
+            }
+            if (touched[slot]) {
+                listLine(slot);
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            int cell = cells[i];
+            MapElement element = map.getMapElement(cell % width, cell / width);
+            int slot = bombSlots[cell];
+            if (slot != NO_BOMB && bombs[slot] != element) {
+                removeBomb(slot);
+                slot = NO_BOMB;
+            }
+            if (map.getElementKind(cell % width, cell / width) == ElementKind.BOMB) {
+                if (slot == NO_BOMB) {
+                    addBomb(cell, (Bomb) element, now);
+                } else if (element instanceof TimeBomb) {
+                    // Same bomb with a new fuse, e.g. after a restore
+                    fuseTicks[slot] = now + ((TimeBomb) element).getRemainingTicks();
+                }
+            }
+        }
+
+        for (int slot = 0; slot < bombCount; slot++) {
+            if (touched[slot]) {
+                measureReach(slot);
+            }
+        }
+        chain();
+        for (int slot = 0; slot < bombCount; slot++) {
+            if (touched[slot] || chainTicks[slot] != bombTicks[slot]) {
+                listLine(slot);
+            }
+            bombTicks[slot] = chainTicks[slot];
+        }
+
+        for (int i = 0; i < repaintCount; i++) {
+            int cell = repaintCells[i];
+            long tick = SAFE;
+            for (int slot = 0; slot < bombCount; slot++) {
+                if (covers(slot, cell)) {
+                    tick = Math.min(tick, bombTicks[slot]);
+                }
+            }
+            blastTicks[cell] = tick;
+        }
+    }
+
+    /**
+     * Builds the blast ticks from the bombs on the board.
+     */
+    private void compute() {
+        Arrays.fill(blastTicks, SAFE);
+        Arrays.fill(bombSlots, NO_BOMB);
+        bombCount = 0;
+        long now = map.getTimers().getCurrentTick();
+        int width = map.getWidth();
+
+        for (int cell = 0; cell < blastTicks.length; cell++) {
+            if (map.getElementKind(cell % width, cell / width) == ElementKind.BOMB) {
+                addBomb(cell, (Bomb) map.getMapElement(cell % width, cell / width), now);
+            }
+        }
+        for (int slot = 0; slot < bombCount; slot++) {
+            measureReach(slot);
+        }
+        chain();
+        for (int slot = 0; slot < bombCount; slot++) {
+            bombTicks[slot] = chainTicks[slot];
+            paint(slot);
+        }
+    }
+
+    /**
+     * Stores a bomb in the next free slot, to be measured.
+     * @param cell the cell of the bomb
+     * @param bomb the bomb
+     * @param now the current tick
+     */
+    private void addBomb(int cell, Bomb bomb, long now) {
+        int slot = bombCount++;
+        bombs[slot] = bomb;
+        bombCells[slot] = cell;
+        fuseTicks[slot] = bomb instanceof TimeBomb ? now + ((TimeBomb) bomb).getRemainingTicks() : now;
+        bombTicks[slot] = fuseTicks[slot];
+        touched[slot] = true;
+        bombSlots[cell] = slot;
+    }
+
+    /**
+     * Forgets a bomb, moving the bomb of the last slot in its slot.
+     * @param slot the slot of the bomb
+     */
+    private void removeBomb(int slot) {
+        bombSlots[bombCells[slot]] = NO_BOMB;
+        bombs[slot] = null;
+        int last = --bombCount;
+        if (slot == last) {
+            return;
+        }
+        bombs[slot] = bombs[last];
+        bombCells[slot] = bombCells[last];
+        fuseTicks[slot] = fuseTicks[last];
+        bombTicks[slot] = bombTicks[last];
+        touched[slot] = touched[last];
+        System.arraycopy(reaches, last * DIRECTIONS.length, reaches, slot * DIRECTIONS.length, DIRECTIONS.length);
+        bombs[last] = null;
+        bombSlots[bombCells[slot]] = slot;
+    }
+
+    /**
+     * Measures the blast lines of a bomb: they stop before an unbreakable wall and after another bomb.
+     * @param slot the slot of the bomb
+     */
+    private void measureReach(int slot) {
+        int width = map.getWidth();
+        int originX = bombCells[slot] % width;
+        int originY = bombCells[slot] / width;
+        int power = bombs[slot].getPower();
+
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int reach = 0;
+            for (int i = 1; i <= power; i++) {
+                int x = originX + DIRECTIONS[d][0] * i;
+                int y = originY + DIRECTIONS[d][1] * i;
+                if (!map.isInBounds(x, y) || map.getElementKind(x, y) == ElementKind.UNBREAKABLE_WALL) {
+                    break;
+                }
+                reach = i;
+                if (map.getElementKind(x, y) == ElementKind.BOMB) {
+                    break;
+                }
+            }
+            reaches[slot * DIRECTIONS.length + d] = reach;
+        }
+    }
+
+    /**
+     * Computes the explosion tick of every bomb in {@link #chainTicks}.
+     * Bombs are propagated by increasing explosion tick, so that a chained bomb inherits the earliest tick.
+     * A blast line reaching another bomb ends on it.
+     */
+    private void chain() {
+        for (int slot = 0; slot < bombCount; slot++) {
+            chainTicks[slot] = fuseTicks[slot];
+            bombDone[slot] = false;
+        }
+        int width = map.getWidth();
+        for (int round = 0; round < bombCount; round++) {
+            int next = -1;
+            for (int slot = 0; slot < bombCount; slot++) {
+                if (!bombDone[slot] && (next == -1 || chainTicks[slot] < chainTicks[next])) {
+                    next = slot;
+                }
+            }
+            bombDone[next] = true;
+
+            for (int d = 0; d < DIRECTIONS.length; d++) {
+                int reach = reaches[next * DIRECTIONS.length + d];
+                if (reach == 0) {
+                    continue;
+                }
+                int end = bombCells[next] + (DIRECTIONS[d][1] * width + DIRECTIONS[d][0]) * reach;
+                int other = bombSlots[end];
+                if (other != NO_BOMB && !bombDone[other]) {
+                    chainTicks[other] = Math.min(chainTicks[other], chainTicks[next]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lowers the blast tick of the cells covered by a bomb to its explosion tick.
+     * @param slot the slot of the bomb
+     */
+    private void paint(int slot) {
+        int origin = bombCells[slot];
+        int width = map.getWidth();
+        blastTicks[origin] = Math.min(blastTicks[origin], bombTicks[slot]);
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int step = DIRECTIONS[d][1] * width + DIRECTIONS[d][0];
+            for (int i = 1; i <= reaches[slot * DIRECTIONS.length + d]; i++) {
+                int cell = origin + step * i;
+                blastTicks[cell] = Math.min(blastTicks[cell], bombTicks[slot]);
+            }
+        }
+    }
+
+    /**
+     * Lists the cells covered by a bomb, as currently measured, in the cells to repaint.
+     * @param slot the slot of the bomb
+     */
+    private void listLine(int slot) {
+        int origin = bombCells[slot];
+        int width = map.getWidth();
+        listCell(origin);
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            int step = DIRECTIONS[d][1] * width + DIRECTIONS[d][0];
+            for (int i = 1; i <= reaches[slot * DIRECTIONS.length + d]; i++) {
+                listCell(origin + step * i);
+            }
+        }
+    }
+
+    /**
+     * Lists a cell in the cells to repaint, once per update.
+     * @param cell the index of the cell
+     */
+    private void listCell(int cell) {
+        if (repaintStamps[cell] != stamp) {
+            repaintStamps[cell] = stamp;
+            repaintCells[repaintCount++] = cell;
+        }
+    }
+
+    /**
+     * Checks whether a cell is covered by a bomb, as currently measured.
+     * @param slot the slot of the bomb
+     * @param cell the index of the cell
+     * @return true if the cell is the cell of the bomb or on one of its blast lines
+     */
+    private boolean covers(int slot, int cell) {
+        int width = map.getWidth();
+        int dx = cell % width - bombCells[slot] % width;
+        int dy = cell / width - bombCells[slot] / width;
+        if (dx != 0 && dy != 0) {
+            return false;
+        }
+        if (dx == 0 && dy == 0) {
+            return true;
+        }
+        for (int d = 0; d < DIRECTIONS.length; d++) {
+            if (DIRECTIONS[d][0] == Integer.signum(dx) && DIRECTIONS[d][1] == Integer.signum(dy)) {
+                return Math.abs(dx + dy) <= reaches[slot * DIRECTIONS.length + d];
+            }
+        }
+        return false;
+    }
+}
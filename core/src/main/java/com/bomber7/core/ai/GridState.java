@@ -0,0 +1,635 @@
+package com.bomber7.core.ai;
+
+import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.BombType;
+import com.bomber7.core.model.square.ElementKind;
+import com.bomber7.core.model.square.TimeBomb;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.Controls;
+
+import java.util.SplittableRandom;
+
+/**
+ * Compact copy of the state of a {@link LevelMap} that Monte Carlo rollouts can play forward cheaply.
+ * <p>
+ * The board is a byte per cell and the bombs and players are parallel int arrays, so that a rollout starts by
+ * {@link #copyFrom(GridState) copying} a few small arrays instead of cloning map elements and timers. Time moves
+ * by steps: a step is the time a player at default speed needs to walk across a cell, and every player does one
+ * action per step. Actions are the ordinals of {@link Controls} plus {@link #IDLE}. Blasts follow the rules of
+ * {@link com.bomber7.core.model.ExplosionResolver}; the content of broken walls is unknown and left empty.
+ * </p>
+ */
+public final class GridState {
+
+    /** Action doing nothing for a step. */
+    public static final int IDLE = Controls.values().length;
+
+    /** Number of actions: every control plus {@link #IDLE}. */
+    public static final int ACTION_COUNT = IDLE + 1;
+
+    /** Cell that can be walked on. */
+    static final byte EMPTY = 0;
+
+    /** Cell blocking players and blasts. */
+    static final byte WALL = 1;
+
+    /** Cell blocking players and broken by blasts. */
+    static final byte CRATE = 2;
+
+    /** Cell holding a bonus. */
+    static final byte BONUS = 3;
+
+    /** Timer of a trigger bomb, which waits for its owner. */
+    static final int NO_TIMER = Integer.MAX_VALUE;
+
+    /** Neighbour offsets of the movement actions: up, down, left, right. */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
+
+    /** Number of ticks of a step. */
+    private static final int STEP_TICKS = (int) Math.ceil(Constants.TEXTURE_SIZE * Constants.SCALE);
+
+    /** Number of steps before a time bomb explodes. */
+    private static final int FUSE_STEPS = (int) Math.ceil(Constants.BOMB_TIMER * Constants.TICK_RATE / STEP_TICKS);
+
+    /** Maximum number of bombs on the board at once. */
+    private static final int MAX_BOMBS = 64;
+
+    /** Chance (in percent) that the rollout policy drops a bomb. */
+    private static final int DROP_PERCENT = 8;
+
+    /** Chance (in percent) that the rollout policy activates its trigger bombs. */
+    private static final int ACTIVATE_PERCENT = 5;
+
+    /** Chance (in percent) that the rollout policy stays still. */
+    private static final int IDLE_PERCENT = 10;
+
+    /** Upper bound of the percentage rolls. */
+    private static final int PERCENT = 100;
+
+    /** Width of the board, in cells. */
+    private final int width;
+
+    /** Height of the board, in cells. */
+    private final int height;
+
+    /** Content of each cell. */
+    private final byte[] cells;
+
+    /** Number of players. */
+    private final int playerCount;
+
+    /** Cell of each player. */
+    private final int[] playerCells;
+
+    /** Remaining lives of each player, 0 once dead. */
+    private final int[] lives;
+
+    /** Bombs each player can still drop. */
+    private final int[] bombsLeft;
+
+    /** Bomb power of each player. */
+    private final int[] powers;
+
+    /** Whether each player drops trigger bombs. */
+    private final boolean[] triggers;
+
+    /** Players killed by each player. */
+    private final int[] kills;
+
+    /** Walls broken and bonuses taken by each player. */
+    private final int[] gains;
+
+    /** Number of bombs on the board. */
+    private int bombCount;
+
+    /** Cell of each bomb. */
+    private final int[] bombCells = new int[MAX_BOMBS];
+
+    /** Steps before each bomb explodes, or {@link #NO_TIMER}. */
+    private final int[] bombTimers = new int[MAX_BOMBS];
+
+    /** Player who dropped each bomb, or -1 if it is unknown. */
+    private final int[] bombOwners = new int[MAX_BOMBS];
+
+    /** Power of each bomb. */
+    private final int[] bombPowers = new int[MAX_BOMBS];
+
+    /** Scratch: whether each bomb explodes during the current step. */
+    private final boolean[] exploding = new boolean[MAX_BOMBS];
+
+    /** Scratch: who blasts each cell during the current step, plus one, or 0. */
+    private final int[] blasts;
+
+    /** Scratch: cells blasted during the current step. */
+    private final int[] blastedCells;
+
+    /**
+     * Creates an empty board.
+     * @param width the width of the board, in cells
+     * @param height the height of the board, in cells
+     * @param playerCount the number of players
+     */
+    public GridState(int width, int height, int playerCount) {
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[width * height];
+        this.playerCount = playerCount;
+        this.playerCells = new int[playerCount];
+        this.lives = new int[playerCount];
+        this.bombsLeft = new int[playerCount];
+        this.powers = new int[playerCount];
+        this.triggers = new boolean[playerCount];
+        this.kills = new int[playerCount];
+        this.gains = new int[playerCount];
+        this.blasts = new int[width * height];
+        this.blastedCells = new int[width * height];
+    }
+
+    /**
+     * Copies the current state of a map. Players are the characters of the map, in the same order.
+     * @param map the map to copy
+     * @return the compact state of the map
+     */
+    public static GridState capture(LevelMap map) {
+        GridState state = new GridState(map.getWidth(), map.getHeight(), map.getCharacterCount());
+        for (int cell = 0; cell < state.cells.length; cell++) {
+            int x = cell % state.width;
+            int y = cell / state.width;
+            byte kind = map.getElementKind(x, y);
+            if (kind == ElementKind.UNBREAKABLE_WALL) {
+                state.cells[cell] = WALL;
+            } else if (kind == ElementKind.BREAKABLE_WALL) {
+                state.cells[cell] = CRATE;
+            } else if (kind == ElementKind.BONUS) {
+                state.cells[cell] = BONUS;
+            } else if (kind == ElementKind.BOMB && state.bombCount < MAX_BOMBS) {
+                Bomb bomb = (Bomb) map.getMapElement(x, y);
+                int index = state.bombCount++;
+                state.bombCells[index] = cell;
+                state.bombPowers[index] = bomb.getPower();
+                state.bombOwners[index] = -1;
+                state.bombTimers[index] = bomb instanceof TimeBomb
+                    ? (int) Math.max(1, ((TimeBomb) bomb).getRemainingTicks() / STEP_TICKS) : NO_TIMER;
+            }
+        }
+        for (int p = 0; p < state.playerCount; p++) {
+            Character character = map.getCharacter(p);
+            boolean onBoard = character.isAlive() && map.isInBounds(character.getMapX(), character.getMapY());
+            state.playerCells[p] = onBoard ? map.cellIndex(character.getMapX(), character.getMapY()) : 0;
+            state.lives[p] = onBoard ? character.getLife() : 0;
+            state.powers[p] = Constants.DEFAULT_BOMB_POWER;
+            if (character instanceof Player) {
+                Player player = (Player) character;
+                state.bombsLeft[p] = player.getNbBomb();
+                state.powers[p] = player.getPower();
+                state.triggers[p] = player.getBombType() == BombType.TRIGGER;
+            }
+            for (int b = 0; b < state.bombCount; b++) {
+                Bomb bomb = (Bomb) map.getMapElement(state.bombCells[b] % state.width, state.bombCells[b] / state.width);
+                if (bomb.getPlanter() == character) {
+                    state.bombOwners[b] = p;
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Overwrites this state with another state of the same board, without allocating.
+     * @param other the state to copy, built for the same board size and player count
+     */
+    public void copyFrom(GridState other) {
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+        System.arraycopy(other.playerCells, 0, playerCells, 0, playerCount);
+        System.arraycopy(other.lives, 0, lives, 0, playerCount);
+        System.arraycopy(other.bombsLeft, 0, bombsLeft, 0, playerCount);
+        System.arraycopy(other.powers, 0, powers, 0, playerCount);
+        System.arraycopy(other.triggers, 0, triggers, 0, playerCount);
+        System.arraycopy(other.kills, 0, kills, 0, playerCount);
+        System.arraycopy(other.gains, 0, gains, 0, playerCount);
+        bombCount = other.bombCount;
+        System.arraycopy(other.bombCells, 0, bombCells, 0, bombCount);
+        System.arraycopy(other.bombTimers, 0, bombTimers, 0, bombCount);
+        System.arraycopy(other.bombOwners, 0, bombOwners, 0, bombCount);
+        System.arraycopy(other.bombPowers, 0, bombPowers, 0, bombCount);
+    }
+
+    /**
+     * Creates an empty state of the same board size and player count, to be filled by {@link #copyFrom(GridState)}.
+     * @return a new state
+     */
+    public GridState newScratch() {
+        return new GridState(width, height, playerCount);
+    }
+
+    /**
+     * Plays one step: players act in order, then bombs tick down and explode.
+     * @param actions the action of each player, ignored for dead players
+     */
+    public void step(int[] actions) {
+        for (int p = 0; p < playerCount; p++) {
+            if (lives[p] > 0) {
+                act(p, actions[p]);
+            }
+        }
+        int blastedCount = 0;
+        boolean any = false;
+        for (int b = 0; b < bombCount; b++) {
+            if (bombTimers[b] != NO_TIMER) {
+                bombTimers[b]--;
+            }
+            exploding[b] = bombTimers[b] <= 0;
+            any |= exploding[b];
+        }
+        if (!any) {
+            return;
+        }
+
+        // Chain reactions: a blast reaching a bomb makes it explode in the same step
+        for (boolean chained = true; chained;) {
+            chained = false;
+            for (int b = 0; b < bombCount; b++) {
+                if (exploding[b] && bombTimers[b] != Integer.MIN_VALUE) {
+                    bombTimers[b] = Integer.MIN_VALUE;
+                    blastedCount = blast(b, blastedCount);
+                    chained = true;
+                }
+            }
+        }
+
+        for (int p = 0; p < playerCount; p++) {
+            int blaster = blasts[playerCells[p]] - 1;
+            if (lives[p] > 0 && blaster >= 0) {
+                lives[p]--;
+                if (lives[p] == 0 && blaster != p && blaster < playerCount) {
+                    kills[blaster]++;
+                }
+            }
+        }
+        for (int i = 0; i < blastedCount; i++) {
+            blasts[blastedCells[i]] = 0;
+        }
+
+        int kept = 0;
+        for (int b = 0; b < bombCount; b++) {
+            if (exploding[b]) {
+                if (bombOwners[b] >= 0) {
+                    bombsLeft[bombOwners[b]]++;
+                }
+                continue;
+            }
+            bombCells[kept] = bombCells[b];
+            bombTimers[kept] = bombTimers[b];
+            bombOwners[kept] = bombOwners[b];
+            bombPowers[kept] = bombPowers[b];
+            kept++;
+        }
+        bombCount = kept;
+    }
+
+    /**
+     * Picks an action for a player with a cheap random policy: mostly legal moves, sometimes a bomb.
+     * Players leave blast lines of time bombs and do not walk into them, so that a dropped bomb is not
+     * judged by how often a blind random walk dies on it.
+     * @param player the index of the player
+     * @param random the random stream of the rollout
+     * @return the action
+     */
+    public int randomAction(int player, SplittableRandom random) {
+        int threat = threatOf(playerCells[player]);
+        if (threat < 0) {
+            int roll = random.nextInt(PERCENT);
+            if (roll < DROP_PERCENT && isLegal(player, Controls.DROP_BOMB.ordinal())) {
+                return Controls.DROP_BOMB.ordinal();
+            }
+            if (roll < DROP_PERCENT + ACTIVATE_PERCENT && isLegal(player, Controls.ACTIVATE_BOMB.ordinal())) {
+                return Controls.ACTIVATE_BOMB.ordinal();
+            }
+            if (roll < DROP_PERCENT + ACTIVATE_PERCENT + IDLE_PERCENT) {
+                return IDLE;
+            }
+        }
+        int start = random.nextInt(DIRECTIONS.length);
+        int fallback = IDLE;
+        int fallbackDistance = -1;
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            int action = (start + i) % DIRECTIONS.length;
+            int next = neighbour(playerCells[player], action);
+            if (next < 0) {
+                continue;
+            }
+            if (threatOf(next) < 0) {
+                return action;
+            }
+            // No way out of the blast line yet: run away from the bomb along it
+            int distance = threat < 0 ? 0 : distance(next, bombCells[threat]);
+            if (distance > fallbackDistance) {
+                fallback = action;
+                fallbackDistance = distance;
+            }
+        }
+        return threat >= 0 ? fallback : IDLE;
+    }
+
+    /**
+     * Checks whether an action would change anything for a player.
+     * @param player the index of the player
+     * @param action the action
+     * @return true if a move leads to a free cell, a bomb can be dropped or activated, or the action is idle
+     */
+    public boolean isLegal(int player, int action) {
+        if (action < DIRECTIONS.length) {
+            return neighbour(playerCells[player], action) >= 0;
+        }
+        if (action == Controls.DROP_BOMB.ordinal()) {
+            return bombsLeft[player] > 0 && bombAt(playerCells[player]) < 0 && bombCount < MAX_BOMBS;
+        }
+        if (action == Controls.ACTIVATE_BOMB.ordinal()) {
+            for (int b = 0; b < bombCount; b++) {
+                if (bombOwners[b] == player && bombTimers[b] == NO_TIMER) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return action == IDLE;
+    }
+
+    /**
+     * Checks whether an action is legal and does not walk into a blast for nothing: a player in a blast line
+     * leaves it if a neighbour is out of every blast line, and otherwise runs away from the bomb along the line.
+     * @param player the index of the player
+     * @param action the action
+     * @return true if the action is worth searching
+     */
+    public boolean isSensible(int player, int action) {
+        if (!isLegal(player, action)) {
+            return false;
+        }
+        int cell = playerCells[player];
+        int threat = threatOf(cell);
+        if (action >= DIRECTIONS.length) {
+            return threat < 0 || !canMove(cell);
+        }
+        int next = neighbour(cell, action);
+        if (threatOf(next) < 0) {
+            return true;
+        }
+        if (threat < 0) {
+            return false;
+        }
+        for (int other = 0; other < DIRECTIONS.length; other++) {
+            int candidate = neighbour(cell, other);
+            if (candidate >= 0 && threatOf(candidate) < 0) {
+                return false;
+            }
+        }
+        return distance(next, bombCells[threat]) > distance(cell, bombCells[threat]);
+    }
+
+    /**
+     * Returns the width of the board.
+     * @return the number of columns
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the board.
+     * @return the number of rows
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the number of cells of the board.
+     * @return the cell count
+     */
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Returns the number of players.
+     * @return the player count
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Checks whether a player is still alive.
+     * @param player the index of the player
+     * @return true if the player has lives left
+     */
+    public boolean isAlive(int player) {
+        return lives[player] > 0;
+    }
+
+    /**
+     * Returns the cell of a player.
+     * @param player the index of the player
+     * @return the cell index
+     */
+    public int getCell(int player) {
+        return playerCells[player];
+    }
+
+    /**
+     * Returns the number of players killed by a player.
+     * @param player the index of the player
+     * @return the kill count
+     */
+    public int getKills(int player) {
+        return kills[player];
+    }
+
+    /**
+     * Returns the number of walls broken and bonuses taken by a player.
+     * @param player the index of the player
+     * @return the gain count
+     */
+    public int getGains(int player) {
+        return gains[player];
+    }
+
+    /**
+     * Returns the number of bombs on the board.
+     * @return the bomb count
+     */
+    public int getBombCount() {
+        return bombCount;
+    }
+
+    /**
+     * Returns the cell reached by a movement action, if it can be walked on.
+     * @param cell the starting cell
+     * @param action a movement action
+     * @return the neighbour cell, or -1 if it is out of the board or blocked
+     */
+    int neighbour(int cell, int action) {
+        int x = cell % width + DIRECTIONS[action][0];
+        int y = cell / width + DIRECTIONS[action][1];
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return -1;
+        }
+        int next = y * width + x;
+        return cells[next] == WALL || cells[next] == CRATE ? -1 : next;
+    }
+
+    /**
+     * Applies the action of a living player.
+     * @param p the index of the player
+     * @param action the action
+     */
+    private void act(int p, int action) {
+        if (!isLegal(p, action) || action == IDLE) {
+            return;
+        }
+        if (action < DIRECTIONS.length) {
+            int next = neighbour(playerCells[p], action);
+            playerCells[p] = next;
+            if (cells[next] == BONUS) {
+                cells[next] = EMPTY;
+                gains[p]++;
+            }
+        } else if (action == Controls.DROP_BOMB.ordinal()) {
+            int index = bombCount++;
+            bombCells[index] = playerCells[p];
+            bombTimers[index] = triggers[p] ? NO_TIMER : FUSE_STEPS;
+            bombOwners[index] = p;
+            bombPowers[index] = powers[p];
+            bombsLeft[p]--;
+        } else {
+            for (int b = 0; b < bombCount; b++) {
+                if (bombOwners[b] == p && bombTimers[b] == NO_TIMER) {
+                    bombTimers[b] = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the blast of a bomb, breaks the walls it reaches and sets off the bombs it reaches.
+     * @param b the index of the bomb
+     * @param blastedCount the number of cells already blasted during this step
+     * @return the new number of blasted cells
+     */
+    private int blast(int b, int blastedCount) {
+        int count = mark(bombCells[b], bombOwners[b], blastedCount);
+        int originX = bombCells[b] % width;
+        int originY = bombCells[b] / width;
+        for (int[] direction : DIRECTIONS) {
+            for (int i = 1; i <= bombPowers[b]; i++) {
+                int x = originX + direction[0] * i;
+                int y = originY + direction[1] * i;
+                if (x < 0 || y < 0 || x >= width || y >= height || cells[y * width + x] == WALL) {
+                    break;
+                }
+                int cell = y * width + x;
+                count = mark(cell, bombOwners[b], count);
+                if (cells[cell] == CRATE) {
+                    cells[cell] = EMPTY;
+                    if (bombOwners[b] >= 0) {
+                        gains[bombOwners[b]]++;
+                    }
+                }
+                int other = bombAt(cell);
+                if (other >= 0) {
+                    exploding[other] = true;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Marks a cell as blasted by a player.
+     * @param cell the cell
+     * @param owner the player who dropped the bomb, or -1
+     * @param count the number of cells already blasted during this step
+     * @return the new number of blasted cells
+     */
+    private int mark(int cell, int owner, int count) {
+        if (blasts[cell] == 0) {
+            blastedCells[count++] = cell;
+            // Unknown owners are stored past the players so that they kill without crediting anyone
+            blasts[cell] = (owner >= 0 ? owner : playerCount) + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the time bomb whose blast line holds a cell, ignoring chain reactions.
+     * @param cell the cell
+     * @return the index of the bomb, or -1 if no time bomb will blast the cell
+     */
+    private int threatOf(int cell) {
+        int x = cell % width;
+        int y = cell / width;
+        for (int b = 0; b < bombCount; b++) {
+            if (bombTimers[b] == NO_TIMER) {
+                continue;
+            }
+            int bombX = bombCells[b] % width;
+            int bombY = bombCells[b] / width;
+            int distance = Math.abs(x - bombX) + Math.abs(y - bombY);
+            if ((x != bombX && y != bombY) || distance > bombPowers[b]) {
+                continue;
+            }
+            int step = x == bombX ? Integer.signum(y - bombY) * width : Integer.signum(x - bombX);
+            boolean blocked = false;
+            for (int i = 1; i < distance && !blocked; i++) {
+                blocked = cells[bombCells[b] + step * i] == WALL;
+            }
+            if (!blocked) {
+                return b;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether a player standing on a cell can move at all.
+     * @param cell the cell
+     * @return true if a neighbour can be walked on
+     */
+    private boolean canMove(int cell) {
+        for (int action = 0; action < DIRECTIONS.length; action++) {
+            if (neighbour(cell, action) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the Manhattan distance between two cells.
+     * @param a the first cell
+     * @param b the second cell
+     * @return the distance, in cells
+     */
+    private int distance(int a, int b) {
+        return Math.abs(a % width - b % width) + Math.abs(a / width - b / width);
+    }
+
+    /**
+     * Returns the bomb lying on a cell.
+     * @param cell the cell
+     * @return the index of the bomb, or -1
+     */
+    private int bombAt(int cell) {
+        for (int b = 0; b < bombCount; b++) {
+            if (bombCells[b] == cell) {
+                return b;
+            }
+        }
+        return -1;
+    }
+}
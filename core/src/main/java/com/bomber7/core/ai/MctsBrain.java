@@ -0,0 +1,201 @@
+package com.bomber7.core.ai;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.utils.Controls;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Decision making of the expert bot: a {@link MctsPlanner} chooses an action each time the previous one is done.
+ * <p>
+ * An action lasts one cell: a move ends when the player reaches the neighbour cell, a bomb drop or activation
+ * ends once it is pressed, and staying still ends after a short while. The board is captured in a
+ * {@link GridState} on the simulation thread, then searched on the rollout pool.
+ * </p>
+ * <p>
+ * In real time mode the search runs in the background for a fixed time and the bot keeps steering meanwhile,
+ * so that the render thread never waits for it. Otherwise every search plays its full iteration budget and the
+ * simulation waits for it, which keeps headless matches reproducible from their seed.
+ * </p>
+ */
+public class MctsBrain implements Brain {
+
+    /** Time (in milliseconds) given to a search in real time mode. */
+    public static final int REAL_TIME_BUDGET_MILLIS = 8;
+
+    /** Iterations of a search when it is not time-boxed. */
+    public static final int FIXED_ITERATIONS = 1200;
+
+    /** Number of trees of a search when it is not time-boxed, independent of the machine. */
+    private static final int FIXED_WORKERS = 4;
+
+    /** Ticks the bot stays still when it chooses to. */
+    private static final int IDLE_TICKS = 15;
+
+    /** Nanoseconds in a millisecond. */
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    /** Neighbour offsets of the movement actions, in {@link Controls} order: up, down, left, right. */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
+
+    /** Marks a missing cell. */
+    private static final int NO_CELL = -1;
+
+    /** The player driven by this brain. */
+    private final Player player;
+
+    /** The random stream of the bots. */
+    private final SplittableRandom random;
+
+    /** Whether searches are time-boxed and run in the background. */
+    private final boolean realTime;
+
+    /** The planner choosing the actions. */
+    private final MctsPlanner planner;
+
+    /** The running background search, or null. */
+    private ForkJoinTask<Integer> pending;
+
+    /** The current action, a {@link Controls} ordinal or {@link GridState#IDLE}. */
+    private int action = GridState.IDLE;
+
+    /** Cell the current move leads to, or {@link #NO_CELL}. */
+    private int targetCell = NO_CELL;
+
+    /** Whether the current bomb action was pressed. */
+    private boolean pressed;
+
+    /** Tick at which staying still ends. */
+    private long idleUntil;
+
+    /** Board version the last search was started for. */
+    private int searchedVersion = -1;
+
+    /**
+     * Creates the brain of an expert bot.
+     * @param player the player to drive
+     * @param random the random stream of the bots, seeding the searches
+     * @param realTime true to time-box searches and run them in the background
+     */
+    public MctsBrain(Player player, SplittableRandom random, boolean realTime) {
+        this.player = player;
+        this.random = random;
+        this.realTime = realTime;
+        this.planner = realTime
+            ? new MctsPlanner(MctsPlanner.getPoolParallelism(), Integer.MAX_VALUE)
+            : new MctsPlanner(FIXED_WORKERS, FIXED_ITERATIONS);
+    }
+
+    /**
+     * Returns the planner of this brain, to read its rollout throughput.
+     * @return the planner
+     */
+    public MctsPlanner getPlanner() {
+        return planner;
+    }
+
+    @Override
+    public int decide(long tick) {
+        if (!player.isAlive()) {
+            return ControlMask.NONE;
+        }
+        LevelMap map = player.getMap();
+        int cell = map.cellIndex(player.getMapX(), player.getMapY());
+
+        if (pending != null && pending.isDone()) {
+            adopt(pending.join(), map, cell, tick);
+            pending = null;
+        }
+        if (pending == null && (isActionDone(cell, tick) || searchedVersion != map.getVersion())) {
+            startSearch(map, cell, tick);
+        }
+
+        if (action == Controls.DROP_BOMB.ordinal() || action == Controls.ACTIVATE_BOMB.ordinal()) {
+            if (!pressed) {
+                pressed = true;
+                return ControlMask.of(Controls.values()[action]);
+            }
+            return Steering.towards(map, player, cell, cell);
+        }
+        return Steering.towards(map, player, cell, targetCell == NO_CELL ? cell : targetCell);
+    }
+
+    /**
+     * Checks whether the current action is over.
+     * @param cell the current cell of the player
+     * @param tick the current tick
+     * @return true if a new action is needed
+     */
+    private boolean isActionDone(int cell, long tick) {
+        if (action == GridState.IDLE) {
+            return tick >= idleUntil;
+        }
+        if (action == Controls.DROP_BOMB.ordinal() || action == Controls.ACTIVATE_BOMB.ordinal()) {
+            return pressed;
+        }
+        return targetCell == NO_CELL || cell == targetCell;
+    }
+
+    /**
+     * Captures the board and searches it, in the background in real time mode.
+     * @param map the map of the player
+     * @param cell the current cell of the player
+     * @param tick the current tick
+     */
+    private void startSearch(LevelMap map, int cell, long tick) {
+        searchedVersion = map.getVersion();
+        int self = indexOf(map);
+        if (self < 0) {
+            return;
+        }
+        GridState root = GridState.capture(map);
+        long seed = random.nextLong();
+        if (realTime) {
+            pending = planner.searchAsync(root, self, seed, System.nanoTime() + REAL_TIME_BUDGET_MILLIS * NANOS_PER_MILLI);
+        } else {
+            adopt(planner.search(root, self, seed, MctsPlanner.NO_DEADLINE), map, cell, tick);
+        }
+    }
+
+    /**
+     * Makes a searched action the current one.
+     * @param chosen the chosen action
+     * @param map the map of the player
+     * @param cell the current cell of the player
+     * @param tick the current tick
+     */
+    private void adopt(int chosen, LevelMap map, int cell, long tick) {
+        action = chosen;
+        pressed = false;
+        targetCell = NO_CELL;
+        if (chosen < DIRECTIONS.length) {
+            int x = cell % map.getWidth() + DIRECTIONS[chosen][0];
+            int y = cell / map.getWidth() + DIRECTIONS[chosen][1];
+            if (map.isInBounds(x, y) && map.isWalkable(x, y)) {
+                targetCell = map.cellIndex(x, y);
+            } else {
+                action = GridState.IDLE;
+            }
+        }
+        if (action == GridState.IDLE) {
+            idleUntil = tick + IDLE_TICKS;
+        }
+    }
+
+    /**
+     * Returns the index of the player among the characters of its map.
+     * @param map the map of the player
+     * @return the index, or -1 if the player is not on the map
+     */
+    private int indexOf(LevelMap map) {
+        for (int i = 0; i < map.getCharacterCount(); i++) {
+            if (map.getCharacter(i) == player) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
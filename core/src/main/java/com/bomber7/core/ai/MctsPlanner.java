@@ -0,0 +1,400 @@
+package com.bomber7.core.ai;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo tree search over the actions of one player of a {@link GridState}.
+ * <p>
+ * The search is root parallel: every worker grows its own open-loop UCT tree over the action sequences of the
+ * player, with its own random stream and its own scratch copy of the board, so that workers share nothing while
+ * they run. Other players follow {@link GridState#randomAction(int, SplittableRandom) a random policy}. When
+ * every worker is done, the visit counts of the root actions are summed and the most visited action wins.
+ * </p>
+ * <p>
+ * Workers run on a shared {@link ForkJoinPool} of daemon threads leaving one core to the render thread. A search
+ * stops at its deadline or after its iteration budget: with no deadline, a fixed number of workers and a fixed
+ * seed, the chosen action does not depend on the machine.
+ * </p>
+ */
+public class MctsPlanner {
+
+    /** Deadline of a search that is only bounded by its iteration budget. */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    /** Pool running the rollouts of every planner. */
+    private static final ForkJoinPool POOL = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    /** Maximum number of steps played by the tree part of an iteration. */
+    private static final int MAX_TREE_DEPTH = 12;
+
+    /** Number of random steps played after the tree part of an iteration. */
+    private static final int ROLLOUT_STEPS = 16;
+
+    /** Maximum number of nodes of the tree of a worker. */
+    private static final int MAX_NODES = 4096;
+
+    /** Exploration constant of UCT. */
+    private static final double EXPLORATION = 1.4;
+
+    /** Value of a rollout in which the player survives. */
+    private static final double SURVIVAL_VALUE = 0.5;
+
+    /** Value added when every other player is killed by the player. */
+    private static final double KILL_VALUE = 0.3;
+
+    /** Value added for {@link #GAIN_CAP} gains (walls broken, bonuses taken). */
+    private static final double GAIN_VALUE = 0.2;
+
+    /** Number of gains worth {@link #GAIN_VALUE}. */
+    private static final double GAIN_CAP = 3;
+
+    /** Nanoseconds in a second. */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /** Scratch buffers of the workers, reused from one search to the next. */
+    private static final ThreadLocal<Worker> WORKERS = ThreadLocal.withInitial(Worker::new);
+
+    /** Number of independent trees of a search. */
+    private final int workers;
+
+    /** Maximum number of iterations of a search, split between the workers. */
+    private final int maxIterations;
+
+    /** Rollouts played by every search of this planner. */
+    private final AtomicLong totalRollouts = new AtomicLong();
+
+    /** Time (in nanoseconds) spent by every search of this planner. */
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    /**
+     * Creates a planner.
+     * @param workers the number of independent trees of a search, at least 1
+     * @param maxIterations the maximum number of iterations of a search, split between the workers
+     */
+    public MctsPlanner(int workers, int maxIterations) {
+        if (workers < 1 || maxIterations < workers) {
+            throw new IllegalArgumentException("A search needs at least one iteration per worker");
+        }
+        this.workers = workers;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Returns the parallelism of the shared pool, a sensible worker count for time-boxed searches.
+     * @return the number of pool threads
+     */
+    public static int getPoolParallelism() {
+        return POOL.getParallelism();
+    }
+
+    /**
+     * Starts a search in the background.
+     * @param root the state to search from, which must not be modified until the search is done
+     * @param player the index of the player choosing an action
+     * @param seed the seed of the random streams of the workers
+     * @param deadline the {@link System#nanoTime()} at which the search stops, or {@link #NO_DEADLINE}
+     * @return the pending search, giving the chosen action
+     */
+    public ForkJoinTask<Integer> searchAsync(GridState root, int player, long seed, long deadline) {
+        return POOL.submit(new Search(root, player, seed, deadline));
+    }
+
+    /**
+     * Searches and waits for the chosen action.
+     * @param root the state to search from
+     * @param player the index of the player choosing an action
+     * @param seed the seed of the random streams of the workers
+     * @param deadline the {@link System#nanoTime()} at which the search stops, or {@link #NO_DEADLINE}
+     * @return the chosen action
+     */
+    public int search(GridState root, int player, long seed, long deadline) {
+        return searchAsync(root, player, seed, deadline).join();
+    }
+
+    /**
+     * Returns the average number of rollouts played per second of search by this planner.
+     * @return the rollouts per second, or 0 before the first search
+     */
+    public double getRolloutsPerSecond() {
+        long nanos = totalNanos.get();
+        return nanos == 0 ? 0 : totalRollouts.get() * NANOS_PER_SECOND / nanos;
+    }
+
+    /**
+     * Returns the number of rollouts played by every search of this planner.
+     * @return the rollout count
+     */
+    public long getTotalRollouts() {
+        return totalRollouts.get();
+    }
+
+    /**
+     * A search: forks one tree per worker and merges their root statistics.
+     */
+    private final class Search extends RecursiveTask<Integer> {
+
+        /** Serial version, {@link RecursiveTask} being serializable. */
+        private static final long serialVersionUID = 1L;
+
+        /** The state to search from. */
+        private final transient GridState root;
+
+        /** The index of the player choosing an action. */
+        private final int player;
+
+        /** The seed of the random streams of the workers. */
+        private final long seed;
+
+        /** The {@link System#nanoTime()} at which the search stops. */
+        private final long deadline;
+
+        /**
+         * Creates a search.
+         * @param root the state to search from
+         * @param player the index of the player choosing an action
+         * @param seed the seed of the random streams of the workers
+         * @param deadline the {@link System#nanoTime()} at which the search stops
+         */
+        Search(GridState root, int player, long seed, long deadline) {
+            this.root = root;
+            this.player = player;
+            this.seed = seed;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected Integer compute() {
+            long start = System.nanoTime();
+            SplittableRandom streams = new SplittableRandom(seed);
+            TreeTask[] tasks = new TreeTask[workers];
+            for (int i = 0; i < workers; i++) {
+                int budget = maxIterations / workers + (i < maxIterations % workers ? 1 : 0);
+                tasks[i] = new TreeTask(root, player, streams.split(), deadline, budget);
+            }
+            invokeAll(tasks);
+
+            long[] visits = new long[GridState.ACTION_COUNT];
+            long rollouts = 0;
+            for (TreeTask task : tasks) {
+                int[] result = task.join();
+                for (int a = 0; a < GridState.ACTION_COUNT; a++) {
+                    visits[a] += result[a];
+                }
+                rollouts += result[GridState.ACTION_COUNT];
+            }
+            totalRollouts.addAndGet(rollouts);
+            totalNanos.addAndGet(System.nanoTime() - start);
+
+            int best = GridState.IDLE;
+            for (int a = 0; a < GridState.ACTION_COUNT; a++) {
+                if (visits[a] > visits[best]) {
+                    best = a;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * One worker of a search, growing its own tree.
+     */
+    private static final class TreeTask extends RecursiveTask<int[]> {
+
+        /** Serial version, {@link RecursiveTask} being serializable. */
+        private static final long serialVersionUID = 1L;
+
+        /** The state to search from. */
+        private final transient GridState root;
+
+        /** The index of the player choosing an action. */
+        private final int player;
+
+        /** The random stream of this worker. */
+        private final transient SplittableRandom random;
+
+        /** The {@link System#nanoTime()} at which the search stops. */
+        private final long deadline;
+
+        /** Maximum number of iterations of this worker. */
+        private final int budget;
+
+        /**
+         * Creates a worker.
+         * @param root the state to search from
+         * @param player the index of the player choosing an action
+         * @param random the random stream of this worker
+         * @param deadline the {@link System#nanoTime()} at which the search stops
+         * @param budget the maximum number of iterations of this worker
+         */
+        TreeTask(GridState root, int player, SplittableRandom random, long deadline, int budget) {
+            this.root = root;
+            this.player = player;
+            this.random = random;
+            this.deadline = deadline;
+            this.budget = budget;
+        }
+
+        @Override
+        protected int[] compute() {
+            return WORKERS.get().run(root, player, random, deadline, budget);
+        }
+    }
+
+    /**
+     * Scratch buffers of a pool thread: an open-loop tree stored in flat arrays and a board to play on.
+     */
+    private static final class Worker {
+
+        /** Number of visits of each node. */
+        private final int[] visits = new int[MAX_NODES];
+
+        /** Sum of the rollout values of each node. */
+        private final double[] values = new double[MAX_NODES];
+
+        /** Child of each node for each action, or 0 if it is not expanded (the root is never a child). */
+        private final int[] children = new int[MAX_NODES * GridState.ACTION_COUNT];
+
+        /** Nodes visited by the current iteration. */
+        private final int[] path = new int[MAX_TREE_DEPTH + 1];
+
+        /** Actions of every player for the current step. */
+        private int[] actions;
+
+        /** The board of the current iteration. */
+        private GridState state;
+
+        /** Number of nodes of the tree. */
+        private int nodeCount;
+
+        /**
+         * Runs the iterations of a worker.
+         * @param root the state to search from
+         * @param player the index of the player choosing an action
+         * @param random the random stream of this worker
+         * @param deadline the {@link System#nanoTime()} at which the search stops
+         * @param budget the maximum number of iterations
+         * @return the visits of each root action, followed by the number of rollouts
+         */
+        int[] run(GridState root, int player, SplittableRandom random, long deadline, int budget) {
+            if (state == null || state.getPlayerCount() != root.getPlayerCount()
+                || state.getWidth() != root.getWidth() || state.getHeight() != root.getHeight()) {
+                state = root.newScratch();
+                actions = new int[root.getPlayerCount()];
+            }
+            nodeCount = 1;
+            visits[0] = 0;
+            values[0] = 0;
+            Arrays.fill(children, 0, GridState.ACTION_COUNT, 0);
+
+            int iterations = 0;
+            while (iterations < budget && (deadline == NO_DEADLINE || System.nanoTime() < deadline)) {
+                iterate(root, player, random);
+                iterations++;
+            }
+
+            int[] result = new int[GridState.ACTION_COUNT + 1];
+            for (int a = 0; a < GridState.ACTION_COUNT; a++) {
+                int child = children[a];
+                result[a] = child == 0 ? 0 : visits[child];
+            }
+            result[GridState.ACTION_COUNT] = iterations;
+            return result;
+        }
+
+        /**
+         * Plays one iteration: selection and expansion in the tree, a random rollout, then backpropagation.
+         * @param root the state to search from
+         * @param player the index of the player choosing an action
+         * @param random the random stream of this worker
+         */
+        private void iterate(GridState root, int player, SplittableRandom random) {
+            state.copyFrom(root);
+            int node = 0;
+            int depth = 0;
+            path[0] = 0;
+            boolean expanded = false;
+            while (!expanded && depth < MAX_TREE_DEPTH && state.isAlive(player)) {
+                int action = -1;
+                double bestScore = Double.NEGATIVE_INFINITY;
+                double logVisits = Math.log(Math.max(1, visits[node]));
+                for (int a = 0; a < GridState.ACTION_COUNT; a++) {
+                    if (!state.isSensible(player, a)) {
+                        continue;
+                    }
+                    int child = children[node * GridState.ACTION_COUNT + a];
+                    if (child == 0) {
+                        action = a;
+                        break;
+                    }
+                    double score = values[child] / visits[child] + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        action = a;
+                    }
+                }
+
+                if (action < 0) {
+                    // Cornered by a blast: nothing worth searching, the rollout tells how it ends
+                    break;
+                }
+                int child = children[node * GridState.ACTION_COUNT + action];
+                if (child == 0) {
+                    if (nodeCount == MAX_NODES) {
+                        break;
+                    }
+                    child = nodeCount++;
+                    visits[child] = 0;
+                    values[child] = 0;
+                    Arrays.fill(children, child * GridState.ACTION_COUNT, (child + 1) * GridState.ACTION_COUNT, 0);
+                    children[node * GridState.ACTION_COUNT + action] = child;
+                    expanded = true;
+                }
+                playStep(player, action, random);
+                node = child;
+                path[++depth] = node;
+            }
+
+            for (int step = 0; step < ROLLOUT_STEPS && state.isAlive(player); step++) {
+                playStep(player, state.randomAction(player, random), random);
+            }
+
+            double value = evaluate(player);
+            for (int i = 0; i <= depth; i++) {
+                visits[path[i]]++;
+                values[path[i]] += value;
+            }
+        }
+
+        /**
+         * Plays a step in which the searching player does an action and the others play randomly.
+         * @param player the index of the player choosing an action
+         * @param action the action of that player
+         * @param random the random stream of this worker
+         */
+        private void playStep(int player, int action, SplittableRandom random) {
+            for (int p = 0; p < actions.length; p++) {
+                actions[p] = p == player ? action : state.isAlive(p) ? state.randomAction(p, random) : GridState.IDLE;
+            }
+            state.step(actions);
+        }
+
+        /**
+         * Scores the end of an iteration for the searching player, between 0 and 1.
+         * @param player the index of the player choosing an action
+         * @return 0 if the player died, more if it survived, killed others and broke walls
+         */
+        private double evaluate(int player) {
+            if (!state.isAlive(player)) {
+                return 0;
+            }
+            int others = state.getPlayerCount() - 1;
+            double kills = others == 0 ? 0 : (double) state.getKills(player) / others;
+            return SURVIVAL_VALUE + KILL_VALUE * kills + GAIN_VALUE * Math.min(1, state.getGains(player) / GAIN_CAP);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.bomber7.core.ai;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.utils.Controls;
+
+/**
+ * Turns "go to this neighbour cell" into movement controls for a player moving pixel by pixel.
+ */
+final class Steering {
+
+    /** Neighbour offsets: up, down, left, right. */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
+
+    /** Movement control matching each entry of {@link #DIRECTIONS}. */
+    private static final Controls[] MOVES = {Controls.UP, Controls.DOWN, Controls.LEFT, Controls.RIGHT};
+
+    private Steering() { }
+
+    /**
+     * Returns the movement controls leading from the current cell to a neighbour cell.
+     * The player first centres itself on the axis it does not move along, so that it does not catch wall corners.
+     * Moves go by steps of the player speed, so the centre may be missed by a few pixels: if the hitbox still catches
+     * a corner, the player keeps stepping towards the centre, crossing it if needed.
+     * Giving the current cell as next cell centres the player on it.
+     * @param map the map of the player
+     * @param player the player to steer
+     * @param cell the current cell of the player
+     * @param next the neighbour cell to go to, or the current cell
+     * @return the controls to hold
+     */
+    static int towards(LevelMap map, Player player, int cell, int next) {
+        int width = map.getWidth();
+        int dx = map.toPixelX(cell % width) - player.getPositionX();
+        int dy = map.toPixelY(cell / width) - player.getPositionY();
+        int speed = player.getSpeed();
+
+        if (next == cell) {
+            if (Math.abs(dx) >= speed) {
+                return ControlMask.of(dx > 0 ? Controls.RIGHT : Controls.LEFT);
+            }
+            if (Math.abs(dy) >= speed) {
+                return ControlMask.of(dy > 0 ? Controls.UP : Controls.DOWN);
+            }
+            return ControlMask.NONE;
+        }
+
+        int stepX = next % width - cell % width;
+        int stepY = next / width - cell / width;
+        boolean blocked = !player.checkMove(player.getPositionX() + stepX * speed, player.getPositionY() + stepY * speed);
+        if (stepX != 0 && (Math.abs(dy) >= speed || (blocked && dy != 0))) {
+            return ControlMask.of(dy > 0 ? Controls.UP : Controls.DOWN);
+        }
+        if (stepY != 0 && (Math.abs(dx) >= speed || (blocked && dx != 0))) {
+            return ControlMask.of(dx > 0 ? Controls.RIGHT : Controls.LEFT);
+        }
+        for (int i = 0; i < DIRECTIONS.length; i++) {
+            if (DIRECTIONS[i][0] == stepX && DIRECTIONS[i][1] == stepY) {
+                return ControlMask.of(MOVES[i]);
+            }
+        }
+        return ControlMask.NONE;
+    }
+}
@@ -5,6 +5,8 @@ import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.utils.Align;
 import com.bomber7.core.ResourceManager;
+import com.bomber7.core.model.Observer;
+import com.bomber7.core.model.Subject;
 import com.bomber7.core.model.entities.Player;
 import com.bomber7.utils.Dimensions;
 import com.bomber7.utils.MVCComponent;
@@ -12,8 +14,15 @@ import com.bomber7.utils.MVCComponent;
 /**
  * Represents a scoreboard for a player in the Bomber7 game.
  * This scoreboard displays the player's score, health, and number of bombs.
+ * <p>
+ * It observes its player and only updates the widgets whose value changed, so it costs nothing on frames where
+ * the player's state does not change.
+ * </p>
  */
-public class PlayerScoreBoard extends Table implements MVCComponent {
+public class PlayerScoreBoard extends Table implements MVCComponent, Observer {
+
+    /** Value of the shown numbers before the first refresh. */
+    private static final int NOT_SHOWN = -1;
 
     /** The player associated with this scoreboard. */
     private Player player;
@@ -27,6 +36,14 @@ public class PlayerScoreBoard extends Table implements MVCComponent {
     private Image heartImage;
     /** The image displaying the player's bombs. */
     private Image bombImage;
+    /** The score currently shown. */
+    private int shownScore = NOT_SHOWN;
+    /** The life points currently shown. */
+    private int shownLife = NOT_SHOWN;
+    /** The number of bombs currently shown. */
+    private int shownBombs = NOT_SHOWN;
+    /** The state of life currently shown, null before the first refresh. */
+    private Boolean shownAlive;
 
     /**
      * The player's scoreboard.
@@ -37,6 +54,7 @@ public class PlayerScoreBoard extends Table implements MVCComponent {
 
         initView();
         initController();
+        refresh(player);
     }
 
     @Override
@@ -82,13 +100,22 @@ public class PlayerScoreBoard extends Table implements MVCComponent {
 
     @Override
     public void initController() {
+        player.registerObserver(this);
+    }
 
+    /**
+     * Stops observing the player, once this scoreboard is no longer shown.
+     */
+    public void detach() {
+        player.deleteObserver(this);
     }
 
     /**
-     * Update view accordingly to current player state.
+     * Updates the view elements whose value changed since the last refresh.
+     * @param subject the observed player
      */
-    public void refresh() {
+    @Override
+    public void refresh(Subject subject) {
         refreshScore();
         refreshHealth();
         refreshBomb();
@@ -98,28 +125,40 @@ public class PlayerScoreBoard extends Table implements MVCComponent {
      * Refreshes all the view elements related to player's health.
      */
     private void refreshHealth() {
-        if (player.isAlive()) {
-            healthLabel.setColor(ResourceManager.getInstance().getSkin().getColor("white"));
-            heartImage.setDrawable(ResourceManager.getInstance().getSkin().getDrawable("heart_full.9"));
-        } else {
-            healthLabel.setColor(ResourceManager.getInstance().getSkin().getColor("darkRed"));
-            heartImage.setDrawable(ResourceManager.getInstance().getSkin().getDrawable("heart_none.9"));
+        boolean alive = player.isAlive();
+        if (shownAlive == null || shownAlive != alive) {
+            shownAlive = alive;
+            if (alive) {
+                healthLabel.setColor(ResourceManager.getInstance().getSkin().getColor("white"));
+                heartImage.setDrawable(ResourceManager.getInstance().getSkin().getDrawable("heart_full.9"));
+            } else {
+                healthLabel.setColor(ResourceManager.getInstance().getSkin().getColor("darkRed"));
+                heartImage.setDrawable(ResourceManager.getInstance().getSkin().getDrawable("heart_none.9"));
+            }
+        }
+        if (player.getLife() != shownLife) {
+            shownLife = player.getLife();
+            healthLabel.setText(shownLife);
         }
-        healthLabel.setText(player.getLife());
     }
 
     /**
      * Refreshes all the view elements related to player's score.
      */
     private void refreshScore() {
-        scoreLabel.setText(player.getScore());
+        if (player.getScore() != shownScore) {
+            shownScore = player.getScore();
+            scoreLabel.setText(shownScore);
+        }
     }
 
-
     /**
      * Refreshes all the view elements related to player's bombs.
      */
     private void refreshBomb() {
-        bombLabel.setText(player.getNbBomb());
+        if (player.getNbBomb() != shownBombs) {
+            shownBombs = player.getNbBomb();
+            bombLabel.setText(shownBombs);
+        }
     }
 }
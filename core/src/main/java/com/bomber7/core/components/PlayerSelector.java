@@ -327,6 +327,9 @@ public class PlayerSelector extends Table implements MVCComponent, Observer {
                 case PRO:
                     strategyLabel.setText(resources.getString("strategy_pro"));
                     break;
+                case EXPERT:
+                    strategyLabel.setText(resources.getString("strategy_expert"));
+                    break;
                 default:
                     strategyLabel.setText(resources.getString("error"));
             }
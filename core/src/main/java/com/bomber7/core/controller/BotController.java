@@ -0,0 +1,63 @@
+package com.bomber7.core.controller;
+
+import com.bomber7.core.ai.BotBrain;
+import com.bomber7.core.ai.Brain;
+import com.bomber7.core.ai.MctsBrain;
+import com.bomber7.core.model.entities.AIPlayer;
+import com.bomber7.utils.PlayerStrategy;
+
+import java.util.SplittableRandom;
+
+/**
+ * Controller letting a {@link Brain} decide the controls of an {@link AIPlayer}, according to its strategy:
+ * a {@link MctsBrain} for {@link PlayerStrategy#EXPERT} bots, a {@link BotBrain} for the others.
+ */
+public class BotController implements PlayerController {
+
+    /** The bot this controller drives. */
+    private final AIPlayer player;
+
+    /** The decision making of the bot. */
+    private final Brain brain;
+
+    /**
+     * Creates a controller for a bot whose decisions only depend on the random stream, for headless matches.
+     * @param player the bot to drive
+     * @param random the random stream of the bots of the round
+     */
+    public BotController(AIPlayer player, SplittableRandom random) {
+        this(player, random, false);
+    }
+
+    /**
+     * Creates a controller for a bot.
+     * @param player the bot to drive
+     * @param random the random stream of the bots of the round
+     * @param realTime true to let expert bots search for a fixed time in the background, so that the game never
+     *                 waits for them
+     */
+    public BotController(AIPlayer player, SplittableRandom random, boolean realTime) {
+        this.player = player;
+        this.brain = player.getStrategy() == PlayerStrategy.EXPERT
+            ? new MctsBrain(player, random, realTime)
+            : new BotBrain(player, player.getStrategy(), random);
+    }
+
+    /**
+     * Returns the decision making of the bot.
+     * @return the brain
+     */
+    public Brain getBrain() {
+        return brain;
+    }
+
+    @Override
+    public AIPlayer getPlayer() {
+        return player;
+    }
+
+    @Override
+    public int poll(long tick) {
+        return brain.decide(tick);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bomber7.core.controller;
+
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.utils.Controls;
+
+/**
+ * Encodes the controls held by a player during a tick as a bit mask, one bit per {@link Controls} value.
+ * A mask is what every input source produces (keyboard, replay, network, bot...) and is applied to a player
+ * the same way whatever its origin.
+ */
+public final class ControlMask {
+
+    /** Mask with no control held. */
+    public static final int NONE = 0;
+
+    private ControlMask() { }
+
+    /**
+     * Returns the bit of a control.
+     * @param control the control
+     * @return a mask with only this control held
+     */
+    public static int of(Controls control) {
+        return 1 << control.ordinal();
+    }
+
+    /**
+     * Checks whether a control is held in a mask.
+     * @param mask the control mask
+     * @param control the control
+     * @return true if the control is held
+     */
+    public static boolean has(int mask, Controls control) {
+        return (mask & of(control)) != 0;
+    }
+
+    /**
+     * Applies the controls of a tick to a player: moves, bomb drop and trigger bombs activation.
+     * A living player holding no control stands still.
+     * @param player the player to control
+     * @param mask the controls held during the tick
+     */
+    public static void apply(Player player, int mask) {
+        if (!player.isAlive()) {
+            return;
+        }
+
+        if (has(mask, Controls.UP)) {
+            player.moveUp();
+        }
+        if (has(mask, Controls.DOWN)) {
+            player.moveDown();
+        }
+        if (has(mask, Controls.LEFT)) {
+            player.moveLeft();
+        }
+        if (has(mask, Controls.RIGHT)) {
+            player.moveRight();
+        }
+        if (has(mask, Controls.DROP_BOMB)) {
+            player.dropBomb();
+        }
+        if (has(mask, Controls.ACTIVATE_BOMB)) {
+            player.activateAllTriggerBombs();
+        }
+        if (mask == NONE) {
+            player.setStandingStill();
+        }
+    }
+}
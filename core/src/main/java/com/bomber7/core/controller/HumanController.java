@@ -15,7 +15,7 @@ import com.bomber7.utils.Controls;
  * the game using customizable key bindings defined in a {@link Config} object.
  * </p>
  */
-public class HumanController {
+public class HumanController implements PlayerController {
 
     /** The HumanPlayer instance that this controller manages. */
     private final HumanPlayer player;
@@ -33,45 +33,25 @@ public class HumanController {
         this.playerConfig = player.getConfig();
     }
 
+    @Override
+    public HumanPlayer getPlayer() {
+        return player;
+    }
+
     /**
-     * Processes input keys to control the player's movement. This method checks if
-     * the player is pressing any movement keys and updates the player's position
-     * accordingly.
+     * Reads the keys currently pressed for this player.
+     * @param tick the index of the current tick (the keyboard state does not depend on it)
+     * @return the held controls, as a {@link ControlMask}
      */
-    public void processKeys() {
-        if (!this.player.isAlive()) {
-            return;
-        }
-
-        boolean anyKeyPressed = false;
-
-        if (Gdx.input.isKeyPressed(this.playerConfig.getKeyBinding(Controls.UP))) {
-            this.player.moveUp();
-            anyKeyPressed = true;
-        }
-        if (Gdx.input.isKeyPressed(this.playerConfig.getKeyBinding(Controls.DOWN))) {
-            this.player.moveDown();
-            anyKeyPressed = true;
-        }
-        if (Gdx.input.isKeyPressed(this.playerConfig.getKeyBinding(Controls.LEFT))) {
-            this.player.moveLeft();
-            anyKeyPressed = true;
-        }
-        if (Gdx.input.isKeyPressed(this.playerConfig.getKeyBinding(Controls.RIGHT))) {
-            this.player.moveRight();
-            anyKeyPressed = true;
-        }
-        if (Gdx.input.isKeyPressed(this.playerConfig.getKeyBinding(Controls.DROP_BOMB))) {
-            this.player.dropBomb();
-            anyKeyPressed = true;
-        }
-        if (Gdx.input.isKeyPressed(this.playerConfig.getKeyBinding(Controls.ACTIVATE_BOMB))) {
-            this.player.activateAllTriggerBombs();
-            anyKeyPressed = true;
-        }
-        if (!anyKeyPressed) {
-            this.player.setStandingStill();
-        }
+    @Override
+    public int poll(long tick) {
+        int mask = ControlMask.NONE;
+        for (Controls control : Controls.values()) {
+            if (Gdx.input.isKeyPressed(this.playerConfig.getKeyBinding(control))) {
+                mask |= ControlMask.of(control);
+            }
+        }
+        return mask;
     }
 
 }
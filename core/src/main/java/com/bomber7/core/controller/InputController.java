@@ -0,0 +1,40 @@
+package com.bomber7.core.controller;
+
+import com.bomber7.core.model.entities.Player;
+
+/**
+ * Controller reading the controls of a player from an {@link InputSource}.
+ */
+public class InputController implements PlayerController {
+
+    /** The player this controller drives. */
+    private final Player player;
+
+    /** The index of the player in the input source. */
+    private final int playerIndex;
+
+    /** Where the controls come from. */
+    private final InputSource source;
+
+    /**
+     * Creates a controller for a player.
+     * @param player the player to drive
+     * @param playerIndex the index of the player in the input source
+     * @param source where the controls come from
+     */
+    public InputController(Player player, int playerIndex, InputSource source) {
+        this.player = player;
+        this.playerIndex = playerIndex;
+        this.source = source;
+    }
+
+    @Override
+    public Player getPlayer() {
+        return player;
+    }
+
+    @Override
+    public int poll(long tick) {
+        return source.poll(tick, playerIndex);
+    }
+}
@@ -0,0 +1,16 @@
+package com.bomber7.core.controller;
+
+/**
+ * Receives the controls applied to every player, tick after tick, e.g. to write a replay.
+ */
+public interface InputRecorder {
+
+    /**
+     * Records the controls applied to a player during a tick.
+     * Called for every controller of the round, in order, once per tick.
+     * @param tick the index of the tick, starting at 0 for the first tick of the round
+     * @param controllerIndex the index of the controller in the round
+     * @param mask the applied {@link ControlMask} bit mask
+     */
+    void record(long tick, int controllerIndex, int mask);
+}
@@ -0,0 +1,16 @@
+package com.bomber7.core.controller;
+
+/**
+ * Source of player inputs, polled once per player and per simulation tick.
+ * Implementations can read a keyboard, a replay file, a network peer or a script.
+ */
+public interface InputSource {
+
+    /**
+     * Returns the controls held by a player during a tick.
+     * @param tick the index of the tick, starting at 0 for the first tick of the round
+     * @param playerIndex the index of the player (its slot in the game candidate)
+     * @return a {@link ControlMask} bit mask
+     */
+    int poll(long tick, int playerIndex);
+}
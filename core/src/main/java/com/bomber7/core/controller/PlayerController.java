@@ -0,0 +1,23 @@
+package com.bomber7.core.controller;
+
+import com.bomber7.core.model.entities.Player;
+
+/**
+ * Drives a player during a round. Once per tick, before advancing the timers of the map, the simulation polls
+ * every controller for the controls of its player and applies them with {@link ControlMask#apply}.
+ */
+public interface PlayerController {
+
+    /**
+     * Returns the player driven by this controller.
+     * @return the controlled player
+     */
+    Player getPlayer();
+
+    /**
+     * Decides the controls held by the player during a tick.
+     * @param tick the index of the tick, starting at 0 for the first tick of the round
+     * @return a {@link ControlMask} bit mask
+     */
+    int poll(long tick);
+}
@@ -0,0 +1,174 @@
+package com.bomber7.core.engine;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.bomber7.core.controller.BotController;
+import com.bomber7.core.controller.InputController;
+import com.bomber7.core.controller.InputSource;
+import com.bomber7.core.controller.PlayerController;
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.entities.AIPlayer;
+import com.bomber7.core.model.entities.HumanPlayer;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.replay.Replay;
+import com.bomber7.core.replay.ReplayHeader;
+import com.bomber7.core.replay.ReplayInputSource;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.PlayerBlueprint;
+import com.bomber7.utils.PlayerStrategy;
+import com.bomber7.utils.SpawnPoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs a full round without any window, graphics or sound, for bot training, balance analysis and CI.
+ * <p>
+ * Players are created from blueprints like in {@link com.bomber7.core.BomberGame}: human players are driven by
+ * an injected {@link InputSource}, bots by their strategy. The map stays silent. Ticks are simulated as fast as
+ * the JVM allows.
+ * </p>
+ */
+public class HeadlessMatch {
+
+    /** Width (in pixels) of the virtual window the map is laid out in. */
+    public static final int VIRTUAL_WIDTH = 1280;
+
+    /** Height (in pixels) of the virtual window the map is laid out in. */
+    public static final int VIRTUAL_HEIGHT = 720;
+
+    /** The players, indexed like their blueprints (null for an empty slot). */
+    private final List<Player> players;
+
+    /** The simulation of the round. */
+    private final RoundSimulation round;
+
+    /**
+     * Creates a headless round.
+     * @param mapName the asset name of the map
+     * @param blueprints the players, indexed by slot (null for an empty slot), at most {@link Constants#MAX_PLAYERS}
+     * @param input the source of the player controls, polled with the slot of each player
+     * @param seed the seed of the random streams, the same seed and inputs giving the same round
+     */
+    public HeadlessMatch(String mapName, PlayerBlueprint[] blueprints, InputSource input, long seed) {
+        this(mapName, blueprints, input, new MatchRandom(seed));
+    }
+
+    /**
+     * Creates a headless round with the given random streams.
+     * @param mapName the asset name of the map
+     * @param blueprints the players, indexed by slot (null for an empty slot), at most {@link Constants#MAX_PLAYERS}
+     * @param input the source of the controls of the human players, polled with the slot of each player
+     * @param random the random streams of the match
+     */
+    public HeadlessMatch(String mapName, PlayerBlueprint[] blueprints, InputSource input, MatchRandom random) {
+        this(LevelMapFactory.createLevelMap(mapName, VIRTUAL_WIDTH, VIRTUAL_HEIGHT, random), blueprints, input, random);
+    }
+
+    /**
+     * Creates a headless round on an already loaded map. Human players are driven by the input source,
+     * bots by their {@link BotController}.
+     * @param map the map to play on, without characters
+     * @param blueprints the players, indexed by slot (null for an empty slot), at most {@link Constants#MAX_PLAYERS}
+     * @param input the source of the controls of the human players, polled with the slot of each player
+     * @param random the random streams of the match
+     */
+    public HeadlessMatch(LevelMap map, PlayerBlueprint[] blueprints, InputSource input, MatchRandom random) {
+        this(map, blueprints, input, random, false);
+    }
+
+    /**
+     * Creates a headless round on an already loaded map.
+     * @param map the map to play on, without characters
+     * @param blueprints the players, indexed by slot (null for an empty slot), at most {@link Constants#MAX_PLAYERS}
+     * @param input the source of the player controls, polled with the slot of each player
+     * @param random the random streams of the match
+     * @param botsFromInput whether bots are driven by the input source too, e.g. to play their recorded controls
+     */
+    private HeadlessMatch(
+        LevelMap map,
+        PlayerBlueprint[] blueprints,
+        InputSource input,
+        MatchRandom random,
+        boolean botsFromInput
+    ) {
+        if (blueprints.length > Constants.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Too many players: " + blueprints.length);
+        }
+        List<Player> slots = new ArrayList<>();
+        List<PlayerController> controllers = new ArrayList<>();
+
+        for (int i = 0; i < blueprints.length; i++) {
+            PlayerBlueprint blueprint = blueprints[i];
+            if (blueprint == null) {
+                slots.add(null);
+                continue;
+            }
+            GridPoint2 spawnPoint = SpawnPoint.getForPlayer(i);
+            Player player;
+            if (blueprint.getStrategy() == PlayerStrategy.HUMAN) {
+                player = new HumanPlayer(null, map, blueprint.getName(), spawnPoint.x, spawnPoint.y, blueprint.getCharacter());
+            } else {
+                player = new AIPlayer(
+                    map, blueprint.getName(), spawnPoint.x, spawnPoint.y, blueprint.getCharacter(), blueprint.getStrategy()
+                );
+            }
+            map.addCharacter(player);
+            slots.add(player);
+            if (player instanceof AIPlayer && !botsFromInput) {
+                controllers.add(new BotController((AIPlayer) player, random.getAi()));
+            } else {
+                controllers.add(new InputController(player, i, input));
+            }
+        }
+
+        this.players = Collections.unmodifiableList(slots);
+        this.round = new RoundSimulation(map, controllers);
+    }
+
+    /**
+     * Rebuilds the round of a replay, every player (bots included) being driven by its recorded controls.
+     * The map is laid out for the window size of the recording, so that the controls move the players to the same
+     * cells. Running it for {@link Replay#getTickCount()} ticks plays the whole round again.
+     * @param replay the replay to play
+     * @return the headless round
+     */
+    public static HeadlessMatch fromReplay(Replay replay) {
+        ReplayHeader header = replay.getHeader();
+        MatchRandom random = new MatchRandom(header.getSeed());
+        LevelMap map = LevelMapFactory.createLevelMap(
+            header.getMapName(), header.getWindowWidth(), header.getWindowHeight(), random
+        );
+        return new HeadlessMatch(map, header.getBlueprints(), new ReplayInputSource(replay), random, true);
+    }
+
+    /**
+     * Simulates the round until it is over or until the tick limit is reached.
+     * @param maxTicks the maximum number of ticks of the round
+     * @return true if the round is over, false if the tick limit was reached first
+     */
+    public boolean run(long maxTicks) {
+        while (!round.isOver() && round.getTicks() < maxTicks) {
+            round.tick();
+        }
+        return round.isOver();
+    }
+
+    /**
+     * Returns the players, indexed like their blueprints.
+     * @return an unmodifiable list of players, with null for empty slots
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the simulation of the round.
+     * @return the round simulation
+     */
+    public RoundSimulation getRound() {
+        return round;
+    }
+}
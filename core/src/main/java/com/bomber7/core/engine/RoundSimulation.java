@@ -0,0 +1,163 @@
+package com.bomber7.core.engine;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.controller.InputRecorder;
+import com.bomber7.core.controller.PlayerController;
+import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.Score;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Simulation of a single round, stepped one fixed tick at a time.
+ * <p>
+ * It does not depend on LibGDX: the same simulation is driven by {@link com.bomber7.core.BomberGame}
+ * with a {@link com.bomber7.core.model.SimulationClock} while rendering, and by {@link HeadlessMatch}
+ * as fast as possible.
+ * </p>
+ */
+public class RoundSimulation {
+
+    /** The map of the round, with its characters. */
+    private final LevelMap map;
+
+    /** Controllers of the players, updated in this order every tick. */
+    private final List<PlayerController> controllers;
+
+    /** Receives the controls applied every tick, or null if the round is not recorded. */
+    private InputRecorder recorder;
+
+    /** Number of ticks simulated so far. */
+    private long ticks;
+
+    /** Whether the round is over. */
+    private boolean over;
+
+    /** The last character alive once the round is over, null for a draw or while the round goes on. */
+    private Character winner;
+
+    /**
+     * Creates the simulation of a round. The characters must already be added to the map.
+     * @param map the map of the round
+     * @param controllers the controllers of the players
+     */
+    public RoundSimulation(LevelMap map, List<? extends PlayerController> controllers) {
+        this.map = map;
+        this.controllers = new ArrayList<>(controllers);
+        map.getTimers().scheduleRepeating(
+            Math.round(Constants.ALIVE_SCORE_TIMER * Constants.TICK_RATE), this::creditAlivePlayers
+        );
+    }
+
+    /**
+     * Runs one fixed step: player controls, timed events (bomb fuses, alive score), publication of the cell
+     * changes of the map, then end of round detection.
+     * Does nothing once the round is over.
+     */
+    public void tick() {
+        if (over) {
+            return;
+        }
+        for (int i = 0; i < controllers.size(); i++) {
+            PlayerController controller = controllers.get(i);
+            int mask = controller.poll(ticks);
+            if (recorder != null) {
+                recorder.record(ticks, i, mask);
+            }
+            ControlMask.apply(controller.getPlayer(), mask);
+        }
+        map.getTimers().advance();
+        map.publishChanges();
+        ticks++;
+        checkEndOfRound();
+    }
+
+    /**
+     * Ends the round when at most one character is alive. The survivor, if any, is credited the win.
+     */
+    private void checkEndOfRound() {
+        Character survivor = null;
+        int aliveCount = 0;
+
+        for (int i = 0; i < map.getCharacterCount(); i++) {
+            Character character = map.getCharacter(i);
+            if (character.isAlive()) {
+                survivor = character;
+                aliveCount++;
+            }
+        }
+
+        if (aliveCount <= 1) {
+            over = true;
+            winner = survivor;
+            if (winner != null) {
+                winner.addScore(Score.WIN);
+            }
+        }
+    }
+
+    /**
+     * Credits all alive players with score points for being alive.
+     * Scheduled every {@link Constants#ALIVE_SCORE_TIMER} seconds on the timers of the map.
+     */
+    private void creditAlivePlayers() {
+        for (int i = 0; i < map.getCharacterCount(); i++) {
+            Character character = map.getCharacter(i);
+            if (character.isAlive()) {
+                character.addScore(Score.ALIVE);
+            }
+        }
+    }
+
+    /**
+     * Sets the recorder receiving the controls applied every tick.
+     * @param recorder the recorder, or null to stop recording
+     */
+    public void setRecorder(InputRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Returns the map of the round.
+     * @return the level map
+     */
+    public LevelMap getMap() {
+        return map;
+    }
+
+    /**
+     * Returns the number of ticks simulated so far.
+     * @return the tick count
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Indicates whether the round is over.
+     * @return true once at most one character is alive
+     */
+    public boolean isOver() {
+        return over;
+    }
+
+    /**
+     * Returns the controllers of the players, in the order they are polled.
+     * @return an unmodifiable view of the controllers
+     */
+    public List<PlayerController> getControllers() {
+        return Collections.unmodifiableList(controllers);
+    }
+
+    /**
+     * Returns the winner of the round.
+     * @return the last character alive, or null for a draw or if the round is not over
+     */
+    public Character getWinner() {
+        return winner;
+    }
+}
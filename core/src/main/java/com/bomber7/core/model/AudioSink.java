@@ -0,0 +1,17 @@
+package com.bomber7.core.model;
+
+import com.bomber7.utils.SoundType;
+
+/**
+ * Destination of the sounds of the gameplay events (explosions, deaths...).
+ * The game plugs the {@link com.bomber7.utils.SoundManager} into a
+ * {@link com.bomber7.core.model.event.SoundEventListener}; headless simulations play no sound.
+ */
+public interface AudioSink {
+
+    /**
+     * Plays a sound.
+     * @param type the sound to play
+     */
+    void play(SoundType type);
+}
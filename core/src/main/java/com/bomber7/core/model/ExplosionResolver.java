@@ -0,0 +1,193 @@
+package com.bomber7.core.model;
+
+import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.event.GameEventType;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.ElementKind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resolves a bomb explosion and the chain reaction it causes, in phases and without recursion.
+ * <ol>
+ *     <li>Collect: starting from the first bomb, a worklist gathers every bomb reached by a blast
+ *     and the union of all the blast cells. Each cell is owned by the first bomb reaching it.</li>
+ *     <li>Apply: the map is only modified once the whole chain is known. Bombs are released to their
+ *     planter, then blast cells are cleared (walls broken, events published), then characters are hit.</li>
+ * </ol>
+ * Every hit of a chain is credited to the planter of its first bomb, who set the chain off: a player caught by their
+ * own bomb only commits suicide if they set it off themselves.
+ * Bombs are processed in the order they are reached and directions always in the same order,
+ * so the result of a chain does not depend on the call stack.
+ */
+public class ExplosionResolver {
+
+    /** Propagation directions, in processing order: up, down, left, right. */
+    private static final int[][] DIRECTIONS = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
+
+    /** Marks a cell that is not reached by the blast. */
+    private static final int NO_OWNER = -1;
+
+    /** The map where the explosion occurs. */
+    private final LevelMap map;
+
+    /** Bombs of the chain, in detonation order. Also used as the worklist of the collect phase. */
+    private final List<Bomb> detonated = new ArrayList<>();
+
+    /** Blast cell indexes, in the order they were reached. */
+    private final int[] blastCells;
+
+    /** Number of cells in {@link #blastCells}. */
+    private int blastCount;
+
+    /** For each cell, the index in {@link #detonated} of the bomb owning its blast, or {@link #NO_OWNER}. */
+    private final int[] cellOwners;
+
+    /** Scratch list of the characters standing on a blast cell. */
+    private final List<Character> victims = new ArrayList<>();
+
+    /**
+     * Creates a resolver for the given map.
+     * @param map the map where explosions occur
+     * @throws NullPointerException if the map is null
+     */
+    public ExplosionResolver(LevelMap map) {
+        if (map == null) {
+            throw new NullPointerException("LevelMap cannot be null");
+        }
+        this.map = map;
+        this.cellOwners = new int[map.getWidth() * map.getHeight()];
+        this.blastCells = new int[cellOwners.length];
+        Arrays.fill(cellOwners, NO_OWNER);
+    }
+
+    /**
+     * Explodes a bomb and every bomb reached by the chain reaction.
+     * Does nothing if the bomb has already exploded.
+     * @param bomb the first bomb of the chain
+     */
+    public void resolve(Bomb bomb) {
+        if (bomb.hasExploded()) {
+            return;
+        }
+        collect(bomb);
+        releaseBombs();
+        applyBlast();
+        hitCharacters();
+        clear();
+    }
+
+    /**
+     * Collect phase: gathers the detonation set and the blast cells, without modifying the map.
+     * Blasts pass through breakable walls, bonuses and bombs already in the chain, stop on unbreakable walls
+     * and stop on any other bomb, which joins the chain.
+     * @param first the first bomb of the chain
+     */
+    private void collect(Bomb first) {
+        first.markExploded();
+        detonated.add(first);
+
+        for (int owner = 0; owner < detonated.size(); owner++) {
+            Bomb bomb = detonated.get(owner);
+            addBlastCell(bomb.getX(), bomb.getY(), owner);
+
+            for (int[] direction : DIRECTIONS) {
+                for (int i = 1; i <= bomb.getPower(); i++) {
+                    int x = bomb.getX() + direction[0] * i;
+                    int y = bomb.getY() + direction[1] * i;
+
+                    if (!map.isInBounds(x, y) || map.getElementKind(x, y) == ElementKind.UNBREAKABLE_WALL) {
+                        break;
+                    }
+                    addBlastCell(x, y, owner);
+
+                    if (map.getElementKind(x, y) == ElementKind.BOMB) {
+                        Bomb other = (Bomb) map.getMapElement(x, y);
+                        if (!other.hasExploded()) {
+                            other.markExploded();
+                            detonated.add(other);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a cell to the union of blast cells, keeping its first owner.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @param owner the index of the bomb whose blast reaches the cell
+     */
+    private void addBlastCell(int x, int y, int owner) {
+        int cell = map.cellIndex(x, y);
+        if (cellOwners[cell] == NO_OWNER) {
+            cellOwners[cell] = owner;
+            blastCells[blastCount++] = cell;
+        }
+    }
+
+    /**
+     * Gives every detonated bomb back to its planter and publishes its detonation.
+     */
+    private void releaseBombs() {
+        for (Bomb bomb : detonated) {
+            if (bomb.getPlanter() instanceof Player) {
+                Player player = (Player) bomb.getPlanter();
+                player.setNbBomb(player.getNbBomb() + 1);
+            }
+            map.getEvents().publish(GameEventType.BOMB_DETONATED, bomb.getPlanter(), bomb.getX(), bomb.getY(), bomb.getPower());
+        }
+    }
+
+    /**
+     * Clears every blast cell: bombs are removed, breakable walls are broken, bonuses are kept.
+     */
+    private void applyBlast() {
+        for (int i = 0; i < blastCount; i++) {
+            int cell = blastCells[i];
+            detonated.get(cellOwners[cell]).onExplosion(map, cell % map.getWidth(), cell / map.getWidth());
+        }
+    }
+
+    /**
+     * Hits every living character standing on a blast cell, once per chain.
+     * The planter of the first bomb gets the kill, or a suicide if they are the victim.
+     */
+    private void hitCharacters() {
+        Character planter = detonated.get(0).getPlanter();
+        for (int i = 0; i < blastCount; i++) {
+            int cell = blastCells[i];
+            victims.clear();
+            map.collectCharactersAt(cell % map.getWidth(), cell / map.getWidth(), victims);
+            for (Character character : victims) {
+                if (!character.isAlive()) {
+                    continue;
+                }
+                if (character == planter) {
+                    character.addSuicide();
+                } else {
+                    planter.addKill(character.getLife() == 1);
+                }
+                character.removeOneLife();
+            }
+        }
+    }
+
+    /**
+     * Resets the resolver buffers so it can be reused for another chain.
+     */
+    private void clear() {
+        for (int i = 0; i < blastCount; i++) {
+            cellOwners[blastCells[i]] = NO_OWNER;
+        }
+        blastCount = 0;
+        detonated.clear();
+        victims.clear();
+    }
+}
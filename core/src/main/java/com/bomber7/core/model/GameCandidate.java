@@ -31,6 +31,11 @@ public class GameCandidate {
      */
     private int rounds;
 
+    /**
+     * The seed of the random streams of the game, so that a game can be reproduced.
+     */
+    private long seed;
+
     /**
      * A constructor that creates an empty GameCandidate.
      * Should be called when launching the application.
@@ -39,6 +44,7 @@ public class GameCandidate {
         playerBlueprints = new PlayerBlueprint[Constants.MAX_PLAYERS];
         maps = new ArrayList<>();
         rounds = Constants.MIN_ROUNDS;
+        seed = MatchRandom.newSeed();
     }
 
     /**
@@ -90,6 +96,22 @@ public class GameCandidate {
         this.rounds = rounds;
     }
 
+    /**
+     * Returns the seed of the random streams of the game.
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Setter for seed, to replay a game or reproduce a bug report.
+     * @param seed the seed to set.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
     /**
      * Resets the game candidate to its "empty" state.
      * Should be called when the player / configuration screen was cancelled, or when the game is ended.
@@ -99,10 +121,11 @@ public class GameCandidate {
         maps.clear();
         playerBlueprints = new PlayerBlueprint[Constants.MAX_PLAYERS];
         rounds = Constants.MIN_ROUNDS;
+        seed = MatchRandom.newSeed();
     }
 
     @Override
     public String toString() {
-        return Arrays.toString(playerBlueprints) + ", " + maps +  ", rounds: " + rounds;
+        return Arrays.toString(playerBlueprints) + ", " + maps +  ", rounds: " + rounds + ", seed: " + seed;
     }
 }
@@ -0,0 +1,87 @@
+package com.bomber7.core.model;
+
+import com.bomber7.utils.BonusType;
+import com.bomber7.utils.Constants;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Random number service of a match, derived from a single seed.
+ * <p>
+ * Each kind of draw has its own independent stream, split from the seed in a fixed order: consuming numbers
+ * in one stream (e.g. a bot thinking more) never changes the draws of the others (e.g. which wall hides a bonus).
+ * Two matches with the same seed and the same inputs are therefore identical.
+ * </p>
+ */
+public final class MatchRandom {
+
+    /** The seed of the match. */
+    private final long seed;
+
+    /** Stream deciding which breakable walls hide a bonus. */
+    private final SplittableRandom bonusPlacement;
+
+    /** Stream deciding the type of the hidden bonuses. */
+    private final SplittableRandom bonusType;
+
+    /** Stream reserved to the bots. */
+    private final SplittableRandom ai;
+
+    /**
+     * Creates the random streams of a match.
+     * @param seed the seed of the match
+     */
+    public MatchRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.bonusPlacement = root.split();
+        this.bonusType = root.split();
+        this.ai = root.split();
+    }
+
+    /**
+     * Draws a new match seed.
+     * @return a random seed
+     */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Derives the seed of a round from the seed of a game, so that every round can be replayed on its own.
+     * @param gameSeed the seed of the game
+     * @param round the number of the round
+     * @return the seed of the round
+     */
+    public static long roundSeed(long gameSeed, int round) {
+        return new SplittableRandom(gameSeed + round).nextLong();
+    }
+
+    /**
+     * Rolls the bonus hidden in a breakable wall, with the {@link Constants#BONUS_RATE} chance.
+     * @return the type of the hidden bonus, or null if the wall hides nothing
+     */
+    public BonusType rollWallBonus() {
+        if (bonusPlacement.nextDouble() > Constants.BONUS_RATE) {
+            return null;
+        }
+        return BonusType.fromRoll(bonusType.nextDouble());
+    }
+
+    /**
+     * Returns the stream reserved to the bots.
+     * @return the AI random stream
+     */
+    public SplittableRandom getAi() {
+        return ai;
+    }
+
+    /**
+     * Returns the seed of the match, to reproduce it.
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
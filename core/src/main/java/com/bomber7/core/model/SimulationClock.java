@@ -0,0 +1,91 @@
+package com.bomber7.core.model;
+
+/**
+ * Fixed timestep clock of the game simulation.
+ * <p>
+ * Rendered frames feed their real duration with {@link #advance(float)}, which answers how many fixed ticks
+ * the simulation must run to catch up. Gameplay therefore runs at the same speed whatever the frame rate,
+ * and the simulation can also be stepped without any rendering.
+ * </p>
+ */
+public class SimulationClock {
+
+    /** Duration (in seconds) of a tick. */
+    private final float tickDuration;
+
+    /** Maximum number of ticks returned by a single call to {@link #advance(float)}. */
+    private final int maxTicksPerAdvance;
+
+    /** Time (in seconds) received but not consumed by ticks yet. */
+    private float accumulator;
+
+    /** Number of ticks elapsed since the last reset. */
+    private long tickCount;
+
+    /**
+     * Creates a simulation clock.
+     * @param tickRate the number of ticks per second
+     * @param maxTicksPerAdvance the catch-up cap: maximum number of ticks for a single advance
+     * @throws IllegalArgumentException if a parameter is not strictly positive
+     */
+    public SimulationClock(int tickRate, int maxTicksPerAdvance) {
+        if (tickRate <= 0 || maxTicksPerAdvance <= 0) {
+            throw new IllegalArgumentException("Tick rate and catch-up cap must be > 0");
+        }
+        this.tickDuration = 1f / tickRate;
+        this.maxTicksPerAdvance = maxTicksPerAdvance;
+    }
+
+    /**
+     * Adds elapsed real time and returns the number of ticks to run.
+     * When more ticks are due than the catch-up cap, the extra time is dropped.
+     * @param delta the elapsed time (in seconds)
+     * @return the number of ticks to run, between 0 and the catch-up cap
+     */
+    public int advance(float delta) {
+        accumulator += Math.max(delta, 0f);
+
+        int ticks = 0;
+        while (accumulator >= tickDuration && ticks < maxTicksPerAdvance) {
+            accumulator -= tickDuration;
+            ticks++;
+        }
+        if (ticks == maxTicksPerAdvance && accumulator >= tickDuration) {
+            accumulator = 0f;
+        }
+        tickCount += ticks;
+        return ticks;
+    }
+
+    /**
+     * Returns how far the clock is between the last tick and the next one, for render interpolation.
+     * @return a value in [0, 1)
+     */
+    public float getAlpha() {
+        return accumulator / tickDuration;
+    }
+
+    /**
+     * Returns the duration of a tick.
+     * @return the tick duration (in seconds)
+     */
+    public float getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Returns the number of ticks elapsed since the last reset.
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Drops the pending time and restarts the tick count, e.g. when a round starts or the game resumes.
+     */
+    public void reset() {
+        accumulator = 0f;
+        tickCount = 0;
+    }
+}
@@ -0,0 +1,291 @@
+package com.bomber7.core.model;
+
+/**
+ * Hashed timer wheel scheduling game events (bomb fuses, texture toggles, periodic scoring...)
+ * on simulation ticks.
+ * <p>
+ * Deadlines are counted in ticks. Timers are hashed in a fixed number of slots by deadline, so that
+ * {@link #advance()} only visits the timers of the current slot instead of every live object of the map.
+ * Timers expiring on the same tick run in the order they were scheduled.
+ * </p>
+ * <p>
+ * Slots are doubly linked, so a cancelled timer leaves the wheel at once. Pending timers are also linked in
+ * scheduling order, so that {@link #cancelScheduledSince(long)} only visits the timers it cancels.
+ * </p>
+ */
+public class TimerWheel {
+
+    /** Number of slots of the wheel. Must be a power of two. */
+    private static final int SLOT_COUNT = 256;
+
+    /** Mask turning a tick into a slot index. */
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+
+    /** First timer of each slot. */
+    private final Timer[] heads = new Timer[SLOT_COUNT];
+
+    /** Last timer of each slot, to append in scheduling order. */
+    private final Timer[] tails = new Timer[SLOT_COUNT];
+
+    /** The last tick that was processed. */
+    private long currentTick;
+
+    /** Number of timers waiting in a slot. */
+    private int size;
+
+    /** The last scheduled timer still alive, head of the scheduling order list. */
+    private Timer newest;
+
+    /** Next timer to visit in the slot being advanced, kept valid when the timers of the slot are cancelled. */
+    private Timer cursor;
+
+    /** Number of timers scheduled since the wheel was created, used as the sequence of the next timer. */
+    private long scheduled;
+
+    /**
+     * A scheduled event. It can be cancelled until it runs.
+     */
+    public final class Timer {
+
+        /** The action to run. */
+        private final Runnable task;
+
+        /** Period (in ticks) of a repeating timer, 0 for a one-shot timer. */
+        private final long period;
+
+        /** Rank of the timer in scheduling order. */
+        private final long sequence;
+
+        /** Tick at which the timer runs next. */
+        private long deadline;
+
+        /** Whether the timer was cancelled. */
+        private boolean cancelled;
+
+        /** Whether the timer is waiting in a slot. */
+        private boolean pending;
+
+        /** Whether the timer is linked in the scheduling order list. */
+        private boolean listed;
+
+        /** Previous timer of the same slot. */
+        private Timer previous;
+
+        /** Next timer of the same slot. */
+        private Timer next;
+
+        /** Timer scheduled just before this one and still alive. */
+        private Timer older;
+
+        /** Timer scheduled just after this one and still alive. */
+        private Timer newer;
+
+        /**
+         * Creates a timer.
+         * @param task the action to run
+         * @param deadline the tick at which it runs first
+         * @param period the period of a repeating timer, 0 for a one-shot timer
+         */
+        private Timer(Runnable task, long deadline, long period) {
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+            this.sequence = scheduled++;
+        }
+
+        /**
+         * Cancels the timer and removes it from the wheel. Does nothing if it already ran.
+         */
+        public void cancel() {
+            cancelled = true;
+            if (pending) {
+                unlink(this);
+            }
+            if (listed) {
+                unlist(this);
+            }
+        }
+
+        /**
+         * Checks whether the timer will still run.
+         * @return true if the timer is scheduled and not cancelled
+         */
+        public boolean isPending() {
+            return pending && !cancelled;
+        }
+
+        /**
+         * Returns the number of ticks before the timer runs next.
+         * @return the remaining ticks, or 0 if the timer is not pending anymore
+         */
+        public long getRemainingTicks() {
+            return isPending() ? deadline - currentTick : 0;
+        }
+    }
+
+    /**
+     * Schedules an action to run once.
+     * @param delay number of ticks to wait, at least 1
+     * @param task the action to run
+     * @return the timer, which can be used to cancel the action
+     */
+    public Timer schedule(long delay, Runnable task) {
+        Timer timer = new Timer(task, currentTick + Math.max(delay, 1), 0);
+        list(timer);
+        insert(timer);
+        return timer;
+    }
+
+    /**
+     * Schedules an action to run every {@code period} ticks, starting in {@code period} ticks.
+     * @param period number of ticks between two runs, at least 1
+     * @param task the action to run
+     * @return the timer, which can be used to stop the repetition
+     */
+    public Timer scheduleRepeating(long period, Runnable task) {
+        long safePeriod = Math.max(period, 1);
+        Timer timer = new Timer(task, currentTick + safePeriod, safePeriod);
+        list(timer);
+        insert(timer);
+        return timer;
+    }
+
+    /**
+     * Moves to the next tick and runs the timers expiring on it.
+     * Costs the number of timers hashed in the current slot, not the number of timers of the wheel.
+     */
+    public void advance() {
+        currentTick++;
+        int slot = (int) (currentTick & SLOT_MASK);
+
+        Timer timer = heads[slot];
+        while (timer != null) {
+            if (timer.deadline != currentTick) {
+                // Hashed in this slot but due on a later turn of the wheel, or scheduled while advancing
+                timer = timer.next;
+                continue;
+            }
+            cursor = timer.next;
+            unlink(timer);
+            timer.task.run();
+            if (timer.period > 0 && !timer.cancelled) {
+                timer.deadline += timer.period;
+                insert(timer);
+            } else if (timer.listed) {
+                unlist(timer);
+            }
+            timer = cursor;
+        }
+        cursor = null;
+    }
+
+    /**
+     * Cancels every timer scheduled after a given point, e.g. to roll the map back to a snapshot.
+     * Costs the number of cancelled timers.
+     * @param mark the value of {@link #getScheduledCount()} at that point
+     */
+    public void cancelScheduledSince(long mark) {
+        while (newest != null && newest.sequence >= mark) {
+            newest.cancel();
+        }
+    }
+
+    /**
+     * Returns the number of timers scheduled since the wheel was created.
+     * Timers scheduled later can be cancelled at once with {@link #cancelScheduledSince(long)}.
+     * @return the scheduled timer count
+     */
+    public long getScheduledCount() {
+        return scheduled;
+    }
+
+    /**
+     * Returns the last tick that was processed.
+     * @return the current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of timers waiting in the wheel.
+     * @return the number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a timer to the slot of its deadline.
+     * @param timer the timer to insert
+     */
+    private void insert(Timer timer) {
+        int slot = (int) (timer.deadline & SLOT_MASK);
+        timer.pending = true;
+        timer.previous = tails[slot];
+        timer.next = null;
+        if (tails[slot] == null) {
+            heads[slot] = timer;
+        } else {
+            tails[slot].next = timer;
+        }
+        tails[slot] = timer;
+        size++;
+    }
+
+    /**
+     * Removes a timer from the slot of its deadline.
+     * @param timer the pending timer to remove
+     */
+    private void unlink(Timer timer) {
+        int slot = (int) (timer.deadline & SLOT_MASK);
+        if (timer == cursor) {
+            cursor = timer.next;
+        }
+        if (timer.previous == null) {
+            heads[slot] = timer.next;
+        } else {
+            timer.previous.next = timer.next;
+        }
+        if (timer.next == null) {
+            tails[slot] = timer.previous;
+        } else {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.pending = false;
+        size--;
+    }
+
+    /**
+     * Appends a new timer to the scheduling order list.
+     * @param timer the timer
+     */
+    private void list(Timer timer) {
+        timer.older = newest;
+        if (newest != null) {
+            newest.newer = timer;
+        }
+        newest = timer;
+        timer.listed = true;
+    }
+
+    /**
+     * Removes a timer that will not run anymore from the scheduling order list.
+     * @param timer the listed timer
+     */
+    private void unlist(Timer timer) {
+        if (timer.newer == null) {
+            newest = timer.older;
+        } else {
+            timer.newer.older = timer.older;
+        }
+        if (timer.older != null) {
+            timer.older.newer = timer.newer;
+        }
+        timer.older = null;
+        timer.newer = null;
+        timer.listed = false;
+    }
+}
@@ -0,0 +1,42 @@
+package com.bomber7.core.model.entities;
+
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.GameCharacter;
+import com.bomber7.utils.PlayerStrategy;
+
+/**
+ * Player driven by the computer, with the same rules as a {@link HumanPlayer}.
+ * Its decisions are taken by a {@link com.bomber7.core.controller.BotController} according to its strategy.
+ */
+public class AIPlayer extends Player {
+
+    /** How the bot plays. */
+    private final PlayerStrategy strategy;
+
+    /**
+     * AIPlayer Constructor.
+     * @param map      The map.
+     * @param name     The name of the player
+     * @param mapX    The x-coordinate of the player
+     * @param mapY    The y-coordinate of the player
+     * @param gameCharacter The game character type
+     * @param strategy How the bot plays, anything but {@link PlayerStrategy#HUMAN}
+     * @throws IllegalArgumentException if the strategy is null or HUMAN
+     */
+    public AIPlayer(LevelMap map, String name, int mapX, int mapY, GameCharacter gameCharacter, PlayerStrategy strategy) {
+        super(name, map, mapX, mapY, Constants.DEFAULT_LIFE, Constants.DEFAULT_SPEED, gameCharacter);
+        if (strategy == null || strategy == PlayerStrategy.HUMAN) {
+            throw new IllegalArgumentException("A bot needs a computer strategy, got " + strategy);
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * Gets the strategy of the bot.
+     * @return The strategy.
+     */
+    public PlayerStrategy getStrategy() {
+        return this.strategy;
+    }
+}
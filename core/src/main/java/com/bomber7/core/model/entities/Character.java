@@ -1,8 +1,10 @@
 package com.bomber7.core.model.entities;
 
 import com.badlogic.gdx.math.GridPoint2;
+import com.bomber7.core.model.Observer;
+import com.bomber7.core.model.Subject;
+import com.bomber7.core.model.event.GameEventType;
 import com.bomber7.core.model.map.LevelMap;
-import com.bomber7.core.model.square.Square;
 import com.bomber7.utils.Constants;
 import com.bomber7.utils.GameCharacter;
 import com.bomber7.core.model.exceptions.IllegalLifeOperationException;
@@ -10,18 +12,24 @@ import com.bomber7.core.model.exceptions.IllegalPositionOperationException;
 import com.bomber7.core.model.exceptions.IllegalScoreOperationException;
 import com.bomber7.core.model.exceptions.IllegalSpeedOperationException;
 import com.bomber7.utils.Score;
-import com.bomber7.utils.SoundManager;
-import com.bomber7.utils.SoundType;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Classe Character.
+ * <p>
+ * Observers are notified when the score, the life points or the state of life of the character change.
+ * </p>
  */
-public abstract class Character implements Comparable<Character> {
+public abstract class Character implements Comparable<Character>, Subject {
 
     /** The file path to the character's sprite image. */
     private final GameCharacter gameCharacter;
     /** The name of the character. */
     private final String name;
+    /** The observers notified when the score or the life points change. */
+    private final List<Observer> observers = new ArrayList<>();
     /** Indicates whether the character is alive or not. */
     private boolean isAlive;
     /** The map on which the character is currently located. */
@@ -31,6 +39,10 @@ public abstract class Character implements Comparable<Character> {
     private int speed;
     /** The score of the character. */
     private int score;
+    /** The number of characters killed by this character, kept between rounds like the score. */
+    private int kills;
+    /** The number of times this character blew itself up, kept between rounds like the score. */
+    private int suicides;
     /** The life points of the character. */
     private int life;
     /** The X-axis position of the character on the map. */
@@ -78,8 +90,8 @@ public abstract class Character implements Comparable<Character> {
         this.spawnPoint = new GridPoint2(mapX, mapY);
         this.mapX = mapX;
         this.mapY = mapY;
-        this.x = this.map.getAbsoluteCoordinates(mapX, mapY).getKey();
-        this.y = this.map.getAbsoluteCoordinates(mapX, mapY).getValue();
+        this.x = this.map.toPixelX(mapX);
+        this.y = this.map.toPixelY(mapY);
         this.life = life;
         this.speed = speed;
         this.gameCharacter = gameCharacter;
@@ -162,6 +174,22 @@ public abstract class Character implements Comparable<Character> {
         return this.score;
     }
 
+    /**
+     * Character kill count getter.
+     * @return the number of characters killed by this character
+     */
+    public int getKills() {
+        return this.kills;
+    }
+
+    /**
+     * Character suicide count getter.
+     * @return the number of times this character was caught in its own blast
+     */
+    public int getSuicides() {
+        return this.suicides;
+    }
+
     /**
      * Character current sprite path file.
      * @return spriteFP Current sprite path file
@@ -199,7 +227,11 @@ public abstract class Character implements Comparable<Character> {
      */
     private void setScore(int newScore) {
         if (newScore >= Constants.MIN_PLAYER_SCORE) {
-            this.score = newScore;
+            if (newScore != this.score) {
+                map.getEvents().publish(GameEventType.SCORE_CHANGED, this, mapX, mapY, newScore - this.score);
+                this.score = newScore;
+                notifyObservers();
+            }
         } else {
             throw new IllegalScoreOperationException("Score value must be positive.");
         }
@@ -214,6 +246,26 @@ public abstract class Character implements Comparable<Character> {
         setScore(newScore);
     }
 
+    /**
+     * Credits the character with a hit on another character: adds {@link Score#KILL}, and counts a kill
+     * if the hit took the last life of the victim.
+     * @param fatal whether the victim dies of the hit
+     */
+    public void addKill(boolean fatal) {
+        if (fatal) {
+            this.kills++;
+        }
+        addScore(Score.KILL);
+    }
+
+    /**
+     * Charges the character with a suicide: adds {@link Score#SUICIDE} and counts it.
+     */
+    public void addSuicide() {
+        this.suicides++;
+        addScore(Score.SUICIDE);
+    }
+
     /**
      * Sets the character's map to a new one.
      * @param newMap The new LevelMap to set for the character
@@ -227,6 +279,7 @@ public abstract class Character implements Comparable<Character> {
      */
     public void addOneLife() {
         this.life++;
+        notifyObservers();
     }
 
     /**
@@ -239,12 +292,13 @@ public abstract class Character implements Comparable<Character> {
         } else {
             throw new IllegalStateException("Character cannot have negative life.");
         }
+        map.getEvents().publish(GameEventType.CHARACTER_HIT, this, mapX, mapY, life);
         if (this.life == 0) {
-            playDeadSound();
             this.isAlive = false;
             addScore(Score.DEAD);
             this.movingStatus = CharacterState.DEAD;
         }
+        notifyObservers();
     }
 
     /* ------[OTHER]------------------------------------ */
@@ -258,10 +312,44 @@ public abstract class Character implements Comparable<Character> {
         this.life = Constants.DEFAULT_LIFE;
         this.speed = Constants.DEFAULT_SPEED;
         this.movingStatus = CharacterState.STANDING_STILL;
+        int previousMapX = this.mapX;
+        int previousMapY = this.mapY;
         this.mapX = spawnPoint.x;
         this.mapY = spawnPoint.y;
-        this.x = this.map.getAbsoluteCoordinates(spawnPoint.x, spawnPoint.y).getKey();
-        this.y = this.map.getAbsoluteCoordinates(spawnPoint.x, spawnPoint.y).getValue();
+        this.map.moveCharacter(this, previousMapX, previousMapY);
+        this.x = this.map.toPixelX(spawnPoint.x);
+        this.y = this.map.toPixelY(spawnPoint.y);
+        notifyObservers();
+    }
+
+    /**
+     * Copies the state of the character (lives, score, position...), e.g. before a simulated rollout.
+     * @return the snapshot of the character
+     */
+    public CharacterSnapshot snapshot() {
+        return new CharacterSnapshot(this);
+    }
+
+    /**
+     * Puts the character back in a state taken by {@link #snapshot()}, keeping the map occupancy index up to date.
+     * @param snapshot the snapshot of this character
+     */
+    public void restore(CharacterSnapshot snapshot) {
+        int previousMapX = this.mapX;
+        int previousMapY = this.mapY;
+        this.isAlive = snapshot.isAlive();
+        this.speed = snapshot.getSpeed();
+        this.score = snapshot.getScore();
+        this.kills = snapshot.getKills();
+        this.suicides = snapshot.getSuicides();
+        this.life = snapshot.getLife();
+        this.mapX = snapshot.getMapX();
+        this.mapY = snapshot.getMapY();
+        this.x = snapshot.getX();
+        this.y = snapshot.getY();
+        this.movingStatus = snapshot.getMovingStatus();
+        this.map.moveCharacter(this, previousMapX, previousMapY);
+        notifyObservers();
     }
 
     /**
@@ -272,6 +360,11 @@ public abstract class Character implements Comparable<Character> {
         return this.isAlive;
     }
 
+    @Override
+    public List<Observer> getObservers() {
+        return observers;
+    }
+
     /**
      * Caracter is standing still.
      */
@@ -289,7 +382,9 @@ public abstract class Character implements Comparable<Character> {
 
         if (checkMove(getPositionX() + speed, getPositionY())) {
             this.x += speed;
-            this.mapX = this.map.getSquareCoordinates(this.x, this.y).getKey();
+            int previousMapX = this.mapX;
+            this.mapX = this.map.toCellX(this.x);
+            this.map.moveCharacter(this, previousMapX, this.mapY);
             this.movingStatus = CharacterState.MOVING_RIGHT;
         }
     }
@@ -304,7 +399,9 @@ public abstract class Character implements Comparable<Character> {
 
         if (checkMove(getPositionX() - speed, getPositionY())) {
             this.x -= speed;
-            this.mapX = this.map.getSquareCoordinates(this.x, this.y).getKey();
+            int previousMapX = this.mapX;
+            this.mapX = this.map.toCellX(this.x);
+            this.map.moveCharacter(this, previousMapX, this.mapY);
             this.movingStatus = CharacterState.MOVING_LEFT;
         }
     }
@@ -319,7 +416,9 @@ public abstract class Character implements Comparable<Character> {
 
         if (checkMove(getPositionX(), getPositionY() - speed)) {
             this.y -= speed;
-            this.mapY = this.map.getSquareCoordinates(this.x, this.y).getValue();
+            int previousMapY = this.mapY;
+            this.mapY = this.map.toCellY(this.y);
+            this.map.moveCharacter(this, this.mapX, previousMapY);
             this.movingStatus = CharacterState.MOVING_DOWN;
         }
     }
@@ -334,7 +433,9 @@ public abstract class Character implements Comparable<Character> {
 
         if (checkMove(getPositionX(), getPositionY() + speed)) {
             this.y += speed;
-            this.mapY = this.map.getSquareCoordinates(this.x, this.y).getValue();
+            int previousMapY = this.mapY;
+            this.mapY = this.map.toCellY(this.y);
+            this.map.moveCharacter(this, this.mapX, previousMapY);
             this.movingStatus = CharacterState.MOVING_UP;
         }
     }
@@ -347,41 +448,35 @@ public abstract class Character implements Comparable<Character> {
      */
     public boolean checkMove(int futureX, int futureY) {
         // Convert pixel coordinates to map grid coordinates
-        int futureMapX = this.map.getSquareCoordinates(futureX, futureY).getKey();
-        int futureMapY = this.map.getSquareCoordinates(futureX, futureY).getValue();
+        int futureMapX = this.map.toCellX(futureX);
+        int futureMapY = this.map.toCellY(futureY);
 
         // Check if the center position is outside the map bounds
-        if (futureMapX < 0 || futureMapY < 0 || futureMapX >= this.map.getWidth() || futureMapY >= this.map.getHeight()) {
+        if (!this.map.isInBounds(futureMapX, futureMapY)) {
             return false;
         }
 
-        // Define the four corners of the hitbox (top-left, top-right, bottom-left, bottom-right)
-        int[][] hitboxCorners = {
-            {futureX - Constants.HITBOX_WIDTH / 2, futureY + Constants.HITBOX_HEIGHT / 2}, // top-left corner
-            {futureX + Constants.HITBOX_WIDTH / 2, futureY + Constants.HITBOX_HEIGHT / 2}, // top-right corner
-            {futureX - Constants.HITBOX_WIDTH / 2, futureY - Constants.HITBOX_HEIGHT / 2}, // bottom-left corner
-            {futureX + Constants.HITBOX_WIDTH / 2, futureY - Constants.HITBOX_HEIGHT / 2}  // bottom-right corner
-        };
+        // Cells of the four corners of the hitbox
+        int left = this.map.toCellX(futureX - Constants.HITBOX_WIDTH / 2);
+        int right = this.map.toCellX(futureX + Constants.HITBOX_WIDTH / 2);
+        int top = this.map.toCellY(futureY + Constants.HITBOX_HEIGHT / 2);
+        int bottom = this.map.toCellY(futureY - Constants.HITBOX_HEIGHT / 2);
 
         // Check if all corners are on walkable squares
-        for (int[] corner : hitboxCorners) {
-            int cornerX = this.map.getSquareCoordinates(corner[0], corner[1]).getKey();
-            int cornerY = this.map.getSquareCoordinates(corner[0], corner[1]).getValue();
-
-            // Make sure the corner is within the map bounds
-            if (cornerX < 0 || cornerY < 0 || cornerX >= this.map.getWidth() || cornerY >= this.map.getHeight()) {
-                return false;
-            }
-
-            // If the square at this corner is not walkable, the move is invalid
-            Square square = this.map.getSquare(cornerX, cornerY);
-            if (!square.isWalkable()) {
-                return false;
-            }
-        }
+        return isWalkableCell(left, top) && isWalkableCell(right, top)
+            && isWalkableCell(left, bottom) && isWalkableCell(right, bottom)
+            // Optionally check the center square as well (can be removed if not needed)
+            && this.map.isWalkable(futureMapX, futureMapY);
+    }
 
-        // Optionally check the center square as well (can be removed if not needed)
-        return this.map.getSquare(futureMapX, futureMapY).isWalkable();
+    /**
+     * Checks that a cell is within the map bounds and walkable.
+     * @param cellX the x-coordinate of the cell
+     * @param cellY the y-coordinate of the cell
+     * @return true if a hitbox corner can stand on the cell
+     */
+    private boolean isWalkableCell(int cellX, int cellY) {
+        return this.map.isInBounds(cellX, cellY) && this.map.isWalkable(cellX, cellY);
     }
 
     /**
@@ -396,12 +491,4 @@ public abstract class Character implements Comparable<Character> {
         // Descending order (higher score comes first)
         return Integer.compare(other.score, this.score);
     }
-
-    /**
-     * Play death sound.
-     * It is a distinct method so that it can be removed in tests later.
-     */
-    public void playDeadSound() {
-        SoundManager.getInstance().play(SoundType.DEATH);
-    }
 }
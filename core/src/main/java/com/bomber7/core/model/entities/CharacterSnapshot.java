@@ -0,0 +1,137 @@
+package com.bomber7.core.model.entities;
+
+/**
+ * Immutable copy of the state of a {@link Character}, taken by {@link Character#snapshot()}
+ * and put back with {@link Character#restore(CharacterSnapshot)}.
+ */
+public class CharacterSnapshot {
+
+    /** Whether the character was alive. */
+    private final boolean alive;
+    /** The speed of the character. */
+    private final int speed;
+    /** The score of the character. */
+    private final int score;
+    /** The kill count of the character. */
+    private final int kills;
+    /** The suicide count of the character. */
+    private final int suicides;
+    /** The remaining lives of the character. */
+    private final int life;
+    /** The x-coordinate of the cell of the character. */
+    private final int mapX;
+    /** The y-coordinate of the cell of the character. */
+    private final int mapY;
+    /** The absolute x-coordinate of the character. */
+    private final int x;
+    /** The absolute y-coordinate of the character. */
+    private final int y;
+    /** The moving status of the character. */
+    private final CharacterState movingStatus;
+
+    /**
+     * Copies the state of a character.
+     * @param character the character
+     */
+    CharacterSnapshot(Character character) {
+        this.alive = character.isAlive();
+        this.speed = character.getSpeed();
+        this.score = character.getScore();
+        this.kills = character.getKills();
+        this.suicides = character.getSuicides();
+        this.life = character.getLife();
+        this.mapX = character.getMapX();
+        this.mapY = character.getMapY();
+        this.x = character.getPositionX();
+        this.y = character.getPositionY();
+        this.movingStatus = character.getMovingStatus();
+    }
+
+    /**
+     * Returns whether the character was alive.
+     * @return true if it was alive
+     */
+    boolean isAlive() {
+        return alive;
+    }
+
+    /**
+     * Returns the speed of the character.
+     * @return the speed
+     */
+    int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Returns the score of the character.
+     * @return the score
+     */
+    int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the kill count of the character.
+     * @return the kills
+     */
+    int getKills() {
+        return kills;
+    }
+
+    /**
+     * Returns the suicide count of the character.
+     * @return the suicides
+     */
+    int getSuicides() {
+        return suicides;
+    }
+
+    /**
+     * Returns the remaining lives of the character.
+     * @return the lives
+     */
+    int getLife() {
+        return life;
+    }
+
+    /**
+     * Returns the x-coordinate of the cell of the character.
+     * @return the map x-coordinate
+     */
+    int getMapX() {
+        return mapX;
+    }
+
+    /**
+     * Returns the y-coordinate of the cell of the character.
+     * @return the map y-coordinate
+     */
+    int getMapY() {
+        return mapY;
+    }
+
+    /**
+     * Returns the absolute x-coordinate of the character.
+     * @return the x-coordinate
+     */
+    int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the absolute y-coordinate of the character.
+     * @return the y-coordinate
+     */
+    int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the moving status of the character.
+     * @return the moving status
+     */
+    CharacterState getMovingStatus() {
+        return movingStatus;
+    }
+}
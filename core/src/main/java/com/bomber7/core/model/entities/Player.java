@@ -2,6 +2,7 @@ package com.bomber7.core.model.entities;
 
 import com.bomber7.core.model.exceptions.IllegalBombOperationException;
 import com.bomber7.core.model.exceptions.IllegalPowerOperationException;
+import com.bomber7.core.model.event.GameEventType;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,17 +11,16 @@ import com.bomber7.core.model.map.LevelMap;
 import com.bomber7.core.model.square.Bomb;
 import com.bomber7.core.model.square.BombType;
 import com.bomber7.core.model.square.Bonus;
-import com.bomber7.core.model.square.Square;
+import com.bomber7.core.model.square.ElementKind;
 import com.bomber7.core.model.square.TriggerBomb;
 import com.bomber7.utils.GameCharacter;
 import com.bomber7.utils.Constants;
 import com.bomber7.core.model.square.TimeBomb;
 import com.bomber7.utils.Score;
-import com.bomber7.utils.SoundManager;
-import com.bomber7.utils.SoundType;
 
 /**
  * Class Player.
+ * Its observers are also notified when its number of bombs changes.
  */
 public abstract class Player extends Character {
 
@@ -103,6 +103,7 @@ public abstract class Player extends Character {
     public void setNbBomb(int newNbBomb) {
         if (newNbBomb >= 0) {
             this.nbBomb = newNbBomb;
+            notifyObservers();
         } else {
             throw new IllegalBombOperationException("nb_bomb_to_set >= 0");
         }
@@ -127,12 +128,6 @@ public abstract class Player extends Character {
 
     /* ------[OTHER]------------------------------------ */
 
-    /**
-     * Play song.
-     */
-    public void playSong() {
-        SoundManager.getInstance().play(SoundType.BOMB_CHARGE);
-    }
     /**
      * Allow the Player to drop a bomb.
      * @return true if the bomb was successfully dropped, false otherwise
@@ -142,7 +137,7 @@ public abstract class Player extends Character {
             return false;
         }
 
-        if (this.map.getSquare(this.getMapX(), this.getMapY()).hasMapElement()) {
+        if (this.map.hasMapElement(this.getMapX(), this.getMapY())) {
             return false;
         }
 
@@ -152,20 +147,20 @@ public abstract class Player extends Character {
             Bomb bombToDrop;
             switch (this.typeBomb) {
                 case TRIGGER:
-                    playSong();
                     bombToDrop = new TriggerBomb(power, this.getMapX(), this.getMapY(), this);
                     this.triggerBombsDropped.add((TriggerBomb) bombToDrop); // Add it to the trigger bombs dropped list
                     break;
                 case TIME:
-                    playSong();
                     bombToDrop = new TimeBomb(power, this.getMapX(), this.getMapY(), this);
+                    ((TimeBomb) bombToDrop).arm(this.map);
                     break;
                 default:
                     bombToDrop = null;
             }
-            Square currentSquare = this.map.getSquare(this.getMapX(), this.getMapY());
-            currentSquare.setMapElement(bombToDrop);
+            this.map.setMapElement(this.getMapX(), this.getMapY(), bombToDrop);
             this.nbBomb--;  // Decrease the number of bombs available
+            notifyObservers();
+            this.map.getEvents().publish(GameEventType.BOMB_PLACED, this, this.getMapX(), this.getMapY(), 0);
             this.setStandingStill();
             return true;
         } else {
@@ -258,21 +253,52 @@ public abstract class Player extends Character {
      * and if it does, collects it and applies it to the player.
      */
     public void collectBonus() {
-        Square currentSquare = map.getSquare(this.getMapX(), this.getMapY());
-        if (currentSquare.hasMapElement() && currentSquare.getMapElement() instanceof Bonus) {
-            ((Bonus) currentSquare.getMapElement()).applyBonusEffect(this);
-            currentSquare.clearMapElement();
+        if (map.getElementKind(this.getMapX(), this.getMapY()) == ElementKind.BONUS) {
+            Bonus bonus = (Bonus) map.getMapElement(this.getMapX(), this.getMapY());
+            bonus.applyBonusEffect(this);
+            map.clearMapElement(this.getMapX(), this.getMapY());
+            map.getEvents().publish(
+                GameEventType.BONUS_COLLECTED, this, this.getMapX(), this.getMapY(), bonus.getBonusType().ordinal()
+            );
         }
     }
 
+    /**
+     * Copies the state of the player, bomb stock included.
+     * @return the snapshot of the player
+     */
+    @Override
+    public PlayerSnapshot snapshot() {
+        return new PlayerSnapshot(this);
+    }
+
+    /**
+     * Puts the player back in a state taken by {@link #snapshot()}.
+     * @param snapshot the snapshot of this player, must be a {@link PlayerSnapshot}
+     */
+    @Override
+    public void restore(CharacterSnapshot snapshot) {
+        PlayerSnapshot playerSnapshot = (PlayerSnapshot) snapshot;
+        this.nbBomb = playerSnapshot.getNbBomb();
+        this.power = playerSnapshot.getPower();
+        this.typeBomb = playerSnapshot.getBombType();
+        this.triggerBombsDropped.clear();
+        for (TriggerBomb bomb : playerSnapshot.getTriggerBombs()) {
+            this.triggerBombsDropped.add(bomb);
+        }
+        // Restored last, as it notifies the observers once for the whole state
+        super.restore(snapshot);
+    }
+
     /**
      * Reset method to add bomb type and bomb number resetting to the super method reset.
      */
     @Override
     public void reset() {
-        super.reset();
+        // Set before the reset of the character, which notifies the observers once for both
         this.nbBomb = 1;
         this.typeBomb = BombType.TIME;
+        super.reset();
     }
 
 }
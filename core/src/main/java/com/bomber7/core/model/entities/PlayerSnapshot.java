@@ -0,0 +1,68 @@
+package com.bomber7.core.model.entities;
+
+import com.bomber7.core.model.square.BombType;
+import com.bomber7.core.model.square.TriggerBomb;
+
+/**
+ * Immutable copy of the state of a {@link Player}: the state of its character plus its bomb stock.
+ */
+public class PlayerSnapshot extends CharacterSnapshot {
+
+    /** Shared value when no trigger bomb is dropped, the common case. */
+    private static final TriggerBomb[] NO_TRIGGER_BOMBS = new TriggerBomb[0];
+
+    /** The number of bombs the player could drop. */
+    private final int nbBomb;
+    /** The power of the next bombs. */
+    private final int power;
+    /** The type of the next bombs. */
+    private final BombType bombType;
+    /** The trigger bombs dropped and not activated yet. */
+    private final TriggerBomb[] triggerBombs;
+
+    /**
+     * Copies the state of a player.
+     * @param player the player
+     */
+    PlayerSnapshot(Player player) {
+        super(player);
+        this.nbBomb = player.getNbBomb();
+        this.power = player.getPower();
+        this.bombType = player.getBombType();
+        this.triggerBombs = player.getTriggerBombsDropped().isEmpty()
+            ? NO_TRIGGER_BOMBS
+            : player.getTriggerBombsDropped().toArray(NO_TRIGGER_BOMBS);
+    }
+
+    /**
+     * Returns the number of bombs the player could drop.
+     * @return the number of bombs
+     */
+    int getNbBomb() {
+        return nbBomb;
+    }
+
+    /**
+     * Returns the power of the next bombs.
+     * @return the power
+     */
+    int getPower() {
+        return power;
+    }
+
+    /**
+     * Returns the type of the next bombs.
+     * @return the bomb type
+     */
+    BombType getBombType() {
+        return bombType;
+    }
+
+    /**
+     * Returns the trigger bombs dropped and not activated yet.
+     * @return the trigger bombs, not to be modified
+     */
+    TriggerBomb[] getTriggerBombs() {
+        return triggerBombs;
+    }
+}
@@ -0,0 +1,89 @@
+package com.bomber7.core.model.event;
+
+import com.bomber7.core.model.entities.Character;
+
+/**
+ * A gameplay event, stored in a preallocated slot of a {@link GameEventBus}.
+ * <p>
+ * Slots are overwritten once their events are drained: listeners must copy what they need and not keep the event.
+ * </p>
+ */
+public final class GameEvent {
+
+    /** Type of the event. */
+    private GameEventType type;
+
+    /** Character the event is about, see {@link GameEventType}. */
+    private Character source;
+
+    /** X-coordinate of the cell of the event. */
+    private int x;
+
+    /** Y-coordinate of the cell of the event. */
+    private int y;
+
+    /** Value of the event, see {@link GameEventType}. */
+    private int value;
+
+    /**
+     * Creates an empty slot.
+     */
+    GameEvent() {
+    }
+
+    /**
+     * Fills the slot with a new event.
+     * @param eventType the type of the event
+     * @param eventSource the character the event is about
+     * @param cellX the x-coordinate of the cell of the event
+     * @param cellY the y-coordinate of the cell of the event
+     * @param eventValue the value of the event
+     */
+    void set(GameEventType eventType, Character eventSource, int cellX, int cellY, int eventValue) {
+        this.type = eventType;
+        this.source = eventSource;
+        this.x = cellX;
+        this.y = cellY;
+        this.value = eventValue;
+    }
+
+    /**
+     * Returns the type of the event.
+     * @return the event type
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the character the event is about.
+     * @return the source character
+     */
+    public Character getSource() {
+        return source;
+    }
+
+    /**
+     * Returns the x-coordinate of the cell of the event.
+     * @return the x-coordinate
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y-coordinate of the cell of the event.
+     * @return the y-coordinate
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Returns the value of the event, whose meaning depends on its type.
+     * @return the value
+     */
+    public int getValue() {
+        return value;
+    }
+}
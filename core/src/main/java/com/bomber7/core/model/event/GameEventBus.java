@@ -0,0 +1,175 @@
+package com.bomber7.core.model.event;
+
+import com.bomber7.core.model.entities.Character;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ring buffer carrying the gameplay events of a map from the model to the presentation.
+ * <p>
+ * The simulation is the single writer: it fills preallocated slots, so publishing never allocates nor calls a
+ * listener. Every listener reads the ring through its own cursor, and only when {@link #drain()} is called, once per
+ * frame, after the simulation steps of the frame. A listener only sees the events published after it subscribed.
+ * Without listeners, events are not even stored, which keeps headless simulations free of this cost.
+ * </p>
+ * <p>
+ * The ring is sized by {@link #capacityFor(int)} for the worst tick of a map. If a listener still falls a whole
+ * ring behind, the oldest events are overwritten: the listener skips them when it is drained and they are counted
+ * by {@link #getDroppedCount()}.
+ * </p>
+ * <p>
+ * The listeners of the game are the {@link SoundEventListener sounds} and the explosion effects of
+ * {@link com.bomber7.core.views.ViewMap}. The scoreboards observe their {@link Character} instead, since they show
+ * its state rather than its changes, and the tournament statistics read the counters of the characters.
+ * </p>
+ * <p>
+ * Like the rest of the map, the bus is written and drained on the thread running the simulation, and takes no lock.
+ * </p>
+ */
+public final class GameEventBus {
+
+    /** Number of slots of a bus created with the default constructor. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Events a tick can publish per cell at worst: the cell is cleared, a bomb on it detonates, and a character on it
+     * is hit, changing a score.
+     */
+    private static final int EVENTS_PER_CELL = 4;
+
+    /** Preallocated event slots. */
+    private final GameEvent[] slots;
+
+    /** Mask turning a sequence into a slot index, the capacity being a power of two. */
+    private final int mask;
+
+    /** Sequence of the next event to publish. */
+    private long published;
+
+    /** Number of events overwritten before a listener read them. */
+    private long dropped;
+
+    /** Listeners, called in order of subscription. */
+    private final List<GameEventListener> listeners = new ArrayList<>();
+
+    /** Sequence of the next event to hand to each listener, in the order of {@link #listeners}. */
+    private long[] cursors = new long[0];
+
+    /**
+     * Creates a bus with {@link #DEFAULT_CAPACITY} slots.
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a bus.
+     * @param capacity the number of slots, a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.slots = new GameEvent[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new GameEvent();
+        }
+    }
+
+    /**
+     * Returns the capacity holding the events of the worst tick on a map.
+     * @param cellCount the number of cells of the map
+     * @return a power of two
+     */
+    public static int capacityFor(int cellCount) {
+        int events = Math.max(cellCount * EVENTS_PER_CELL, 1);
+        int capacity = Integer.highestOneBit(events);
+        return capacity == events ? capacity : capacity << 1;
+    }
+
+    /**
+     * Subscribes a listener. It is handed the events published from now on.
+     * Listeners must not subscribe nor unsubscribe while the bus is drained.
+     * @param listener the listener
+     */
+    public void subscribe(GameEventListener listener) {
+        listeners.add(listener);
+        long[] grown = new long[cursors.length + 1];
+        System.arraycopy(cursors, 0, grown, 0, cursors.length);
+        grown[cursors.length] = published;
+        cursors = grown;
+    }
+
+    /**
+     * Unsubscribes a listener.
+     * @param listener the listener
+     */
+    public void unsubscribe(GameEventListener listener) {
+        int index = listeners.indexOf(listener);
+        if (index < 0) {
+            return;
+        }
+        listeners.remove(index);
+        long[] shrunk = new long[cursors.length - 1];
+        System.arraycopy(cursors, 0, shrunk, 0, index);
+        System.arraycopy(cursors, index + 1, shrunk, index, shrunk.length - index);
+        cursors = shrunk;
+    }
+
+    /**
+     * Publishes an event, to be handed to the listeners on the next {@link #drain()}.
+     * @param type the type of the event
+     * @param source the character the event is about
+     * @param x the x-coordinate of the cell of the event
+     * @param y the y-coordinate of the cell of the event
+     * @param value the value of the event, see {@link GameEventType}
+     */
+    public void publish(GameEventType type, Character source, int x, int y, int value) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        slots[(int) published & mask].set(type, source, x, y, value);
+        published++;
+    }
+
+    /**
+     * Returns the number of events published and not handed to every listener yet, at most the capacity.
+     * @return the pending event count
+     */
+    public int getPendingCount() {
+        long oldest = published;
+        for (long cursor : cursors) {
+            oldest = Math.min(oldest, cursor);
+        }
+        return (int) Math.min(published - oldest, slots.length);
+    }
+
+    /**
+     * Returns the number of events overwritten before a listener could read them.
+     * @return the dropped event count, summed over the listeners
+     */
+    public long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Hands to every listener the events published since it was last drained, in order of publication.
+     */
+    public void drain() {
+        for (int i = 0; i < listeners.size(); i++) {
+            GameEventListener listener = listeners.get(i);
+            long cursor = cursors[i];
+            if (published - cursor > slots.length) {
+                dropped += published - cursor - slots.length;
+                cursor = published - slots.length;
+            }
+            for (; cursor < published; cursor++) {
+                listener.onEvent(slots[(int) cursor & mask]);
+            }
+            cursors[i] = cursor;
+        }
+    }
+}
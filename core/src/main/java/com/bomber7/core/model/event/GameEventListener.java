@@ -0,0 +1,15 @@
+package com.bomber7.core.model.event;
+
+/**
+ * Consumer of the events of a {@link GameEventBus}, called when the bus is drained, once per frame.
+ */
+public interface GameEventListener {
+
+    /**
+     * Called for each drained event, in order of publication.
+     * The event slot is reused afterwards: it must not be kept.
+     *
+     * @param event the event
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,34 @@
+package com.bomber7.core.model.event;
+
+/**
+ * Types of the {@link GameEvent gameplay events} published by the model.
+ * The meaning of the source, the cell and the value of an event depends on its type.
+ */
+public enum GameEventType {
+    /**
+     * A player dropped a bomb. Source: the player. Cell: the bomb. Value: unused.
+     */
+    BOMB_PLACED,
+    /**
+     * A bomb exploded, alone or in a chain. Source: its planter. Cell: the bomb. Value: its power.
+     */
+    BOMB_DETONATED,
+    /**
+     * A blast went through a cell and cleared it. Source: the planter of the bomb owning the blast.
+     * Value: 1 if a breakable wall was broken, 0 otherwise.
+     */
+    CELL_DESTROYED,
+    /**
+     * A blast hit a character. Source: the character. Cell: where it stood. Value: the life points it has left.
+     */
+    CHARACTER_HIT,
+    /**
+     * A player picked up a bonus. Source: the player. Cell: the bonus. Value: the ordinal of its
+     * {@link com.bomber7.utils.BonusType}.
+     */
+    BONUS_COLLECTED,
+    /**
+     * The score of a character changed. Source: the character. Cell: where it stands. Value: the change of score.
+     */
+    SCORE_CHANGED
+}
@@ -0,0 +1,40 @@
+package com.bomber7.core.model.event;
+
+import com.bomber7.core.model.AudioSink;
+import com.bomber7.utils.SoundType;
+
+/**
+ * Plays the sounds of the gameplay events on an {@link AudioSink}: bomb charges, explosions and deaths.
+ */
+public final class SoundEventListener implements GameEventListener {
+
+    /** Destination of the sounds. */
+    private final AudioSink audio;
+
+    /**
+     * Creates a listener playing sounds on an audio sink.
+     * @param audio the audio sink
+     */
+    public SoundEventListener(AudioSink audio) {
+        this.audio = audio;
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        switch (event.getType()) {
+            case BOMB_PLACED:
+                audio.play(SoundType.BOMB_CHARGE);
+                break;
+            case BOMB_DETONATED:
+                audio.play(SoundType.EXPLOSION);
+                break;
+            case CHARACTER_HIT:
+                if (event.getValue() == 0) {
+                    audio.play(SoundType.DEATH);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bomber7.core.model.map;
+
+/**
+ * Subscriber of the cell changes of a {@link LevelMap}, notified once per tick with the cells whose map
+ * element changed, so that it can update what it derives from the board incrementally.
+ */
+public interface CellChangeListener {
+
+    /**
+     * Called when the changes of a tick are published.
+     * The array is reused for the next tick: it must not be kept nor modified.
+     *
+     * @param map the map whose cells changed
+     * @param cells the {@link LevelMap#cellIndex(int, int) indices} of the changed cells, each listed once
+     * @param count the number of changed cells, read from the start of the array
+     */
+    void cellsChanged(LevelMap map, int[] cells, int count);
+}
@@ -0,0 +1,92 @@
+package com.bomber7.core.model.map;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Journal of the cells of a {@link LevelMap} whose map element changed since the last publication.
+ * <p>
+ * A bitset keeps every cell listed at most once, so the list never grows past the number of cells and
+ * marking a cell never allocates. {@link #publish(LevelMap)} hands the list to every subscriber, then empties it.
+ * </p>
+ */
+final class ChangeJournal {
+
+    /** Number of bits of a word of {@link #marked}. */
+    private static final int WORD_BITS = Long.SIZE;
+
+    /** Changed cells, in order of first change. */
+    private final int[] cells;
+
+    /** One bit per cell, set while the cell is listed in {@link #cells}. */
+    private final long[] marked;
+
+    /** Number of listed cells. */
+    private int count;
+
+    /** Subscribers, notified in order of subscription. */
+    private final List<CellChangeListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates an empty journal.
+     * @param cellCount the number of cells of the map
+     */
+    ChangeJournal(int cellCount) {
+        this.cells = new int[cellCount];
+        this.marked = new long[(cellCount + WORD_BITS - 1) / WORD_BITS];
+    }
+
+    /**
+     * Records that the map element of a cell changed.
+     * @param cell the cell index
+     */
+    void mark(int cell) {
+        long bit = 1L << cell;
+        int word = cell / WORD_BITS;
+        if ((marked[word] & bit) == 0) {
+            marked[word] |= bit;
+            cells[count++] = cell;
+        }
+    }
+
+    /**
+     * Returns the number of cells changed since the last publication.
+     * @return the pending change count
+     */
+    int getPendingCount() {
+        return count;
+    }
+
+    /**
+     * Subscribes a listener.
+     * @param listener the listener
+     */
+    void addListener(CellChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unsubscribes a listener.
+     * @param listener the listener
+     */
+    void removeListener(CellChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Notifies every subscriber of the pending changes, if any, then empties the journal.
+     * @param map the map the journal belongs to
+     */
+    void publish(LevelMap map) {
+        if (count == 0) {
+            return;
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).cellsChanged(map, cells, count);
+        }
+        for (int i = 0; i < count; i++) {
+            marked[cells[i] / WORD_BITS] &= ~(1L << cells[i]);
+        }
+        count = 0;
+    }
+}
@@ -0,0 +1,342 @@
+package com.bomber7.core.model.map;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.square.BreakableWall;
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.core.model.square.UnbreakableWall;
+import com.bomber7.core.model.texture.ElementTexture;
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * The tile layers of a map as raw tileset ids, before any texture name or map element is resolved.
+ * <p>
+ * A compiled map is parsed once from the three CSV layers exported by Tiled, then saved in the binary
+ * {@code .b7map} format so that rounds load it without any text parsing:
+ * </p>
+ * <pre>
+ * int magic "B7MP", int version, int width, int height, int CRC32 of the payload
+ * int[width * height]  background tileset ids, with the Tiled flip flags in their high bits
+ * int[width * height]  wall tileset ids, with the Tiled flip flags in their high bits, or -1
+ * byte[width * height] wall layer: 0 for none, 1 for breakable, 2 for unbreakable
+ * </pre>
+ * <p>
+ * Every value is big-endian and every array is row-major with y = 0 being the last CSV row,
+ * like {@link MapLayers}. The file is read through a memory mapping and bulk-copied into the arrays.
+ * </p>
+ */
+public final class CompiledMap {
+
+    /** Extension of the compiled map files. */
+    public static final String EXTENSION = ".b7map";
+
+    /** Magic number opening a compiled map file: "B7MP" in ASCII. */
+    private static final int MAGIC = 0x42374D50;
+
+    /** Version of the format, bumped on every incompatible change. */
+    private static final int VERSION = 1;
+
+    /** Size (in bytes) of the header: magic, version, width, height and checksum. */
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    /** Size (in bytes) of the payload of a cell: two tileset ids and a wall layer. */
+    private static final int CELL_BYTES = 2 * Integer.BYTES + 1;
+
+    /** Tileset id of an empty CSV cell. */
+    private static final int NO_TILE = -1;
+
+    /** Wall layer of a cell without wall. */
+    private static final byte NO_WALL = 0;
+
+    /** Wall layer of a cell holding a breakable wall. */
+    private static final byte BREAKABLE = 1;
+
+    /** Wall layer of a cell holding an unbreakable wall. */
+    private static final byte UNBREAKABLE = 2;
+
+    /** Number of columns. */
+    private final int width;
+
+    /** Number of rows. */
+    private final int height;
+
+    /** Background tileset id of each cell, flip flags included. */
+    private final int[] backgroundIds;
+
+    /** Wall tileset id of each cell, flip flags included, or {@link #NO_TILE}. */
+    private final int[] wallIds;
+
+    /** Wall layer of each cell. */
+    private final byte[] wallLayers;
+
+    /**
+     * Creates a compiled map adopting the given arrays.
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param backgroundIds the background tileset id of each cell
+     * @param wallIds the wall tileset id of each cell
+     * @param wallLayers the wall layer of each cell
+     */
+    private CompiledMap(int width, int height, int[] backgroundIds, int[] wallIds, byte[] wallLayers) {
+        this.width = width;
+        this.height = height;
+        this.backgroundIds = backgroundIds;
+        this.wallIds = wallIds;
+        this.wallLayers = wallLayers;
+    }
+
+    /**
+     * Parses the CSV layers of a map.
+     * @param backgroundCsvPath Path to the background CSV file.
+     * @param breakableCsvPath Path to the breakable walls CSV file.
+     * @param unbreakableCsvPath Path to the unbreakable walls CSV file.
+     * @return the compiled map
+     * @throws IllegalArgumentException if a file is missing, or the layers are empty, malformed or mismatched
+     */
+    public static CompiledMap fromCsv(File backgroundCsvPath, File breakableCsvPath, File unbreakableCsvPath) {
+        try (
+            CSVReader backgroundReader = new CSVReader(new FileReader(backgroundCsvPath.getAbsolutePath()));
+            CSVReader breakableReader = new CSVReader(new FileReader(breakableCsvPath.getAbsolutePath()));
+            CSVReader unbreakableReader = new CSVReader(new FileReader(unbreakableCsvPath.getAbsolutePath()))
+        ) {
+            List<String[]> backgroundRows = backgroundReader.readAll();
+            List<String[]> breakableRows = breakableReader.readAll();
+            List<String[]> unbreakableRows = unbreakableReader.readAll();
+
+            // Verify that all CSV files have the same number of rows
+            int numRows = backgroundRows.size();
+            if (breakableRows.size() != numRows || unbreakableRows.size() != numRows) {
+                throw new IllegalArgumentException("CSV files do not have the same number of rows.");
+            }
+            if (numRows == 0) {
+                throw new IllegalArgumentException("CSV files are empty.");
+            }
+
+            int width = backgroundRows.get(0).length;
+            int[] backgroundIds = new int[width * numRows];
+            int[] wallIds = new int[width * numRows];
+            byte[] wallLayers = new byte[width * numRows];
+
+            for (int i = numRows - 1; i >= 0; i--) {
+                String[] backgroundRow = backgroundRows.get(i);
+                String[] breakableRow = breakableRows.get(i);
+                String[] unbreakableRow = unbreakableRows.get(i);
+
+                // Check if all CSV files have the same number of columns in the current row
+                if (backgroundRow.length != breakableRow.length || backgroundRow.length != unbreakableRow.length) {
+                    throw new IllegalArgumentException(
+                        "Row " + i + " has mismatched column counts between CSV files."
+                    );
+                }
+                // Check if all rows are rectangular (comparing with the first row)
+                if (backgroundRow.length != width) {
+                    throw new IllegalArgumentException("CSV layers are not rectangular at row " + i);
+                }
+
+                int y = numRows - 1 - i;
+                for (int j = 0; j < width; j++) {
+                    int index = y * width + j;
+                    int breakableId = Integer.parseInt(breakableRow[j].trim());
+                    int unbreakableId = Integer.parseInt(unbreakableRow[j].trim());
+                    backgroundIds[index] = Integer.parseInt(backgroundRow[j].trim());
+                    if (breakableId != NO_TILE) {
+                        wallIds[index] = breakableId;
+                        wallLayers[index] = BREAKABLE;
+                    } else if (unbreakableId != NO_TILE) {
+                        wallIds[index] = unbreakableId;
+                        wallLayers[index] = UNBREAKABLE;
+                    } else {
+                        wallIds[index] = NO_TILE;
+                    }
+                }
+            }
+            return new CompiledMap(width, numRows, backgroundIds, wallIds, wallLayers);
+        } catch (FileNotFoundException e) {
+            throw new IllegalArgumentException("Invalid CSV filepath.", e);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read specified files, maybe lack of ressources", e);
+        } catch (CsvException e) {
+            throw new IllegalArgumentException("Unable to read the CSV file. Wrong format");
+        }
+    }
+
+    /**
+     * Reads a compiled map file through a memory mapping.
+     * @param path the {@code .b7map} file
+     * @return the compiled map
+     * @throws IllegalArgumentException if the file is not a compiled map of this version, or is corrupted
+     * @throws RuntimeException if the file cannot be read
+     */
+    public static CompiledMap read(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileBytes = channel.size();
+            if (fileBytes < HEADER_BYTES) {
+                throw new IllegalArgumentException("Truncated compiled map: " + path);
+            }
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IllegalArgumentException("Not a compiled map of version " + VERSION + ": " + path);
+            }
+            int width = header.getInt();
+            int height = header.getInt();
+            int checksum = header.getInt();
+            if (width <= 0 || height <= 0 || fileBytes != HEADER_BYTES + (long) width * height * CELL_BYTES) {
+                throw new IllegalArgumentException("Truncated compiled map: " + path);
+            }
+
+            int cells = width * height;
+            MappedByteBuffer payload = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, fileBytes - HEADER_BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IllegalArgumentException("Corrupted compiled map: " + path);
+            }
+
+            int[] backgroundIds = new int[cells];
+            int[] wallIds = new int[cells];
+            byte[] wallLayers = new byte[cells];
+            IntBuffer ids = payload.asIntBuffer();
+            ids.get(backgroundIds);
+            ids.get(wallIds);
+            int layersOffset = 2 * Integer.BYTES * cells;
+            for (int i = 0; i < cells; i++) {
+                wallLayers[i] = payload.get(layersOffset + i);
+            }
+            return new CompiledMap(width, height, backgroundIds, wallIds, wallLayers);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read compiled map " + path, e);
+        }
+    }
+
+    /**
+     * Writes this map in the {@code .b7map} format, replacing the file if it exists.
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        int cells = width * height;
+        ByteBuffer payload = ByteBuffer.allocate(cells * CELL_BYTES);
+        payload.asIntBuffer().put(backgroundIds).put(wallIds);
+        int layersOffset = 2 * Integer.BYTES * cells;
+        for (int i = 0; i < cells; i++) {
+            payload.put(layersOffset + i, wallLayers[i]);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload.array(), 0, payload.capacity());
+
+        try (OutputStream file = Files.newOutputStream(path);
+             DataOutputStream out = new DataOutputStream(file)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt((int) crc.getValue());
+            out.write(payload.array(), 0, payload.capacity());
+        }
+    }
+
+    /**
+     * Resolves the tileset ids into the layers of a map, rolling the bonus of every breakable wall
+     * in cell order from the given random streams.
+     * @param textureMap A map of texture IDs to their file paths.
+     * @param random The random streams of the match.
+     * @return The layers of the map.
+     * @throws IllegalArgumentException if a tileset id is missing from the texture map
+     */
+    public MapLayers toLayers(Map<Integer, String> textureMap, MatchRandom random) {
+        int cells = width * height;
+        int[] backgroundTiles = new int[cells];
+        byte[] backgroundFlips = new byte[cells];
+        MapElement[] elements = new MapElement[cells];
+        Map<String, Integer> paletteIndex = new HashMap<>();
+        List<String> palette = new ArrayList<>();
+
+        for (int index = 0; index < cells; index++) {
+            int backgroundTextureId = backgroundIds[index];
+            if (backgroundTextureId != NO_TILE) {
+                backgroundFlips[index] = flipsOf(backgroundTextureId);
+                backgroundTextureId = backgroundTextureId & ElementTexture.ID_MASK;
+            }
+            String backgroundTextureName = textureMap.get(backgroundTextureId);
+            if (backgroundTextureName == null) {
+                throw new IllegalArgumentException(
+                    "textureMap doesnt have all the required textures: back:" + backgroundTextureId
+                );
+            }
+            Integer tile = paletteIndex.get(backgroundTextureName);
+            if (tile == null) {
+                tile = palette.size();
+                palette.add(backgroundTextureName);
+                paletteIndex.put(backgroundTextureName, tile);
+            }
+            backgroundTiles[index] = tile;
+
+            if (wallLayers[index] == NO_WALL) {
+                continue;
+            }
+            int wallId = wallIds[index];
+            String wallTextureName = textureMap.get(wallId & ElementTexture.ID_MASK);
+            boolean breakable = wallLayers[index] == BREAKABLE;
+            if (wallTextureName == null) {
+                throw new IllegalArgumentException("textureMap doesnt have all the required textures: "
+                    + (breakable ? "break:" : "unbreak:") + (wallId & ElementTexture.ID_MASK)
+                    + " x " + index % width + " y " + index / width);
+            }
+            boolean verticalFlip = (wallId & ElementTexture.FLIP_V) != 0;
+            boolean horizontalFlip = (wallId & ElementTexture.FLIP_H) != 0;
+            boolean diagonalFlip = (wallId & ElementTexture.FLIP_D) != 0;
+            elements[index] = breakable
+                ? new BreakableWall(wallTextureName, verticalFlip, horizontalFlip, diagonalFlip, random.rollWallBonus())
+                : new UnbreakableWall(wallTextureName, verticalFlip, horizontalFlip, diagonalFlip);
+        }
+        return new MapLayers(width, height, palette.toArray(new String[0]), backgroundTiles, backgroundFlips, elements);
+    }
+
+    /**
+     * Packs the Tiled flip flags of a tileset id.
+     * @param tiledId the tileset id, flip flags included
+     * @return the flags packed with {@link ElementTexture#packFlips}
+     */
+    private static byte flipsOf(int tiledId) {
+        return ElementTexture.packFlips(
+            (tiledId & ElementTexture.FLIP_V) != 0,
+            (tiledId & ElementTexture.FLIP_H) != 0,
+            (tiledId & ElementTexture.FLIP_D) != 0
+        );
+    }
+
+    /**
+     * Returns the number of columns.
+     * @return the width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+}
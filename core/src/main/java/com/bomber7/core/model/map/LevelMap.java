@@ -1,20 +1,36 @@
 package com.bomber7.core.model.map;
 
+import com.bomber7.core.model.ExplosionResolver;
+import com.bomber7.core.model.TimerWheel;
+import com.bomber7.core.model.event.GameEventBus;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.BreakableWall;
+import com.bomber7.core.model.square.ElementKind;
+import com.bomber7.core.model.square.MapElement;
 import com.bomber7.core.model.square.Square;
+import com.bomber7.core.model.square.TimeBomb;
 import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.entities.CharacterSnapshot;
 import java.util.ArrayList;
+import java.util.Arrays;
 import com.bomber7.utils.Constants;
 
 import java.util.List;
-import java.util.Stack;
 
-import com.bomber7.utils.Effect;
+import com.bomber7.core.model.texture.ElementTexture;
+import com.bomber7.core.model.texture.TextureIds;
 import com.bomber7.utils.GameMap;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Represents a level with a map in the game.
  * Responsible for loading and parsing the map data from a file.
+ * <p>
+ * The board is stored in flat row-major arrays indexed by {@code y * width + x}.
+ * {@link Square} objects are only created when a caller asks for one through {@link #getSquare(int, int)},
+ * and they read and write through to these arrays. Hot paths should use the coordinate based
+ * accessors ({@link #getMapElement(int, int)}, {@link #getElementKind(int, int)}, ...) instead, which
+ * do not check bounds: callers must ensure {@link #isInBounds(int, int)} beforehand.
  */
 public class LevelMap {
 
@@ -23,22 +39,90 @@ public class LevelMap {
     /** The type of the map. */
     private GameMap mapType;
 
-    /** Width of the window in pixels. */
+    /** Size of a cell on screen, in pixels. */
+    private static final float CELL_PIXELS = Constants.TEXTURE_SIZE * Constants.SCALE;
+
+    /** Width of the window the map was laid out for, in pixels. */
     private final int windowWidth;
-    /** Height of the window in pixels. */
+
+    /** Height of the window the map was laid out for, in pixels. */
     private final int windowHeight;
 
-    /** A 2D list representing the checkerboard of squares in the level map. */
-    private final List<List<Square>> checkerboard;
+    /** Abscissa of the map origin in the window, in pixels. */
+    private final float pixelOriginX;
+    /** Ordinate of the map origin in the window, in pixels. */
+    private final float pixelOriginY;
+
+    /** Number of columns of the board. */
+    private final int width;
+    /** Number of rows of the board. */
+    private final int height;
+    /** Texture names of the background tiles, indexed by tile id. */
+    private final String[] tilePalette;
+    /** {@link TextureIds} id of each tile of {@link #tilePalette}. */
+    private final int[] tileTextureIds;
+    /** Background tile id of each cell. */
+    private final int[] backgroundTiles;
+    /** Packed background flip flags of each cell. */
+    private final byte[] backgroundFlips;
+    /** {@link ElementKind} code of each cell, kept in sync with {@link #elements}. */
+    private final byte[] elementKinds;
+    /** Cells holding a bomb, in no particular order, so that snapshots find the fuses without a board scan. */
+    private final int[] bombCells;
+    /** Index of each cell in {@link #bombCells}, or {@link #NO_BOMB} if the cell holds no bomb. */
+    private final int[] bombPositions;
+    /** Number of cells listed in {@link #bombCells}. */
+    private int bombCount;
+    /** Map element of each cell, or null if the cell is empty. */
+    private final MapElement[] elements;
+    /** Incremented whenever the map element of a cell changes. */
+    private int version;
+    /** Cells whose map element changed since the changes were last published. */
+    private final ChangeJournal changes;
+    /** Rows changed since {@link #baseSnapshot} was taken or restored. */
+    private final boolean[] dirtyRows;
+    /** The last snapshot taken or restored, whose clean rows are shared by the next snapshot. */
+    private MapSnapshot baseSnapshot;
+    /** Square views of the cells, created on demand. */
+    private final Square[] squares;
 
     /** List of Characters currently present on the map. */
     private final List<Character> characters;
 
-    /** List of effects currently present on the map. */
-    private final Stack<Effect> effectsQueue;
+    /**
+     * Occupancy index: for each cell, the slot (index in {@link #characters}) of the first character
+     * standing on it, or {@link #NO_OCCUPANT}.
+     */
+    private final int[] cellOccupants;
+    /** For each character slot, the slot of the next character on the same cell, or {@link #NO_OCCUPANT}. */
+    private int[] nextOccupants;
+    /** For each character slot, the cell it is indexed on, or {@link #NO_OCCUPANT} if outside the board. */
+    private int[] occupiedCells;
+
+    /** Marks the end of an occupancy chain. */
+    private static final int NO_OCCUPANT = -1;
+    /** Position of a cell holding no bomb in {@link #bombCells}. */
+    private static final int NO_BOMB = -1;
+    /** Fuses of a snapshot without armed bombs. */
+    private static final TimeBomb[] NO_ARMED_BOMBS = new TimeBomb[0];
+    /** Fuse ticks of a snapshot without armed bombs. */
+    private static final long[] NO_FUSE_TICKS = new long[0];
+    /** Initial number of character slots of the occupancy index. */
+    private static final int INITIAL_OCCUPANT_SLOTS = 8;
+
+    /** Scheduler of the timed events of the round (bomb fuses, periodic scoring...). */
+    private final TimerWheel timers = new TimerWheel();
+
+    /** Resolver of the explosions on this map, whose buffers are reused by every chain. Created on first use. */
+    private ExplosionResolver explosionResolver;
+
+    /** Gameplay events of the round (bombs, blasts, hits...), drained by the sounds and effects once per frame. */
+    private final GameEventBus events;
 
     /**
      * Constructs a LevelMap with the specified checkerboard.
+     * The given squares become the views of their cells: changing their map element changes the map.
+     * A square placed on several cells stays bound to the first one.
      *
      * @param mapName the name of the map
      * @param checkerboard a 2D list representing the checkerboard of squares
@@ -46,17 +130,65 @@ public class LevelMap {
      * @param windowHeight the height of the window in pixels
      */
     public LevelMap(String mapName, List<List<Square>> checkerboard, int windowWidth, int windowHeight) {
+        this(mapName, MapLayers.fromSquares(checkerboard), windowWidth, windowHeight);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                Square square = checkerboard.get(y).get(x);
+                if (!square.isBound()) {
+                    square.bind(this, x, y);
+                }
+                squares[cellIndex(x, y)] = square;
+            }
+        }
+    }
+
+    /**
+     * Constructs a LevelMap from already parsed layers. The layer arrays are adopted without copy.
+     *
+     * @param mapName the name of the map
+     * @param layers the layers of the map
+     * @param windowWidth the width of the window in pixels
+     * @param windowHeight the height of the window in pixels
+     */
+    public LevelMap(String mapName, MapLayers layers, int windowWidth, int windowHeight) {
         this.mapName = mapName;
         this.mapType = GameMap.valueOf(mapName.toUpperCase());
-        this.checkerboard = checkerboard;
+        this.width = layers.getWidth();
+        this.height = layers.getHeight();
+        this.tilePalette = layers.getTilePalette();
+        this.tileTextureIds = new int[tilePalette.length];
+        for (int tile = 0; tile < tilePalette.length; tile++) {
+            tileTextureIds[tile] = TextureIds.of(tilePalette[tile]);
+        }
+        this.backgroundTiles = layers.getBackgroundTiles();
+        this.backgroundFlips = layers.getBackgroundFlips();
+        this.elements = layers.getElements();
+        this.elementKinds = new byte[elements.length];
+        this.bombCells = new int[elements.length];
+        this.bombPositions = new int[elements.length];
+        Arrays.fill(bombPositions, NO_BOMB);
+        for (int i = 0; i < elements.length; i++) {
+            setElementKind(i, ElementKind.of(elements[i]));
+        }
+        this.dirtyRows = new boolean[height];
+        this.changes = new ChangeJournal(elements.length);
+        this.events = new GameEventBus(GameEventBus.capacityFor(elements.length));
+        this.squares = new Square[elements.length];
         this.characters = new ArrayList<>();
-        this.effectsQueue = new Stack<>();
+        this.cellOccupants = new int[elements.length];
+        Arrays.fill(cellOccupants, NO_OCCUPANT);
+        this.nextOccupants = new int[INITIAL_OCCUPANT_SLOTS];
+        this.occupiedCells = new int[INITIAL_OCCUPANT_SLOTS];
+        // The map is centred in the window
         this.windowWidth = windowWidth;
         this.windowHeight = windowHeight;
+        this.pixelOriginX = (windowWidth - Constants.TEXTURE_SIZE * width * Constants.SCALE) / 2;
+        this.pixelOriginY = (windowHeight - Constants.TEXTURE_SIZE * height * Constants.SCALE) / 2;
     }
 
     /**
      * Returns the square at the specified coordinates.
+     * The square is created on first access and is a live view of the cell.
      *
      * @param x  the x-coordinate of the square
      * @param y  the y-coordinate of the square
@@ -64,22 +196,314 @@ public class LevelMap {
      * @throws IndexOutOfBoundsException if the coordinates are out of bounds
      */
     public Square getSquare(int x, int y) {
-        if (y < 0 || y >= checkerboard.size()) {
+        if (y < 0 || y >= height) {
             throw new IndexOutOfBoundsException("Invalid row index y=" + y);
         }
-        if (x < 0 || x >= checkerboard.get(y).size()) {
+        if (x < 0 || x >= width) {
             throw new IndexOutOfBoundsException("Invalid column index x=" + x + " for row " + y);
         }
 
-        return this.checkerboard.get(y).get(x);
+        int index = cellIndex(x, y);
+        Square square = squares[index];
+        if (square == null) {
+            byte flips = backgroundFlips[index];
+            square = new Square(
+                tilePalette[backgroundTiles[index]],
+                ElementTexture.hasFlip(flips, ElementTexture.FLIP_V),
+                ElementTexture.hasFlip(flips, ElementTexture.FLIP_H),
+                ElementTexture.hasFlip(flips, ElementTexture.FLIP_D)
+            );
+            square.bind(this, x, y);
+            squares[index] = square;
+        }
+        return square;
+    }
+
+    /**
+     * Checks whether the coordinates are inside the board.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return true if the cell exists
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * Returns the row-major index of a cell in the backing arrays.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the cell index
+     */
+    public int cellIndex(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * Returns the map element of a cell, without bounds check.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the map element, or null if the cell is empty
+     */
+    public MapElement getMapElement(int x, int y) {
+        return elements[cellIndex(x, y)];
+    }
+
+    /**
+     * Returns the {@link ElementKind} code of a cell, without bounds check.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the kind of the map element on the cell
+     */
+    public byte getElementKind(int x, int y) {
+        return elementKinds[cellIndex(x, y)];
+    }
+
+    /**
+     * Checks whether a cell holds a map element, without bounds check.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return true if there is a map element on the cell
+     */
+    public boolean hasMapElement(int x, int y) {
+        return elementKinds[cellIndex(x, y)] != ElementKind.NONE;
+    }
+
+    /**
+     * Checks whether a character can walk on a cell, without bounds check.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return false if there is a wall on the cell, true otherwise
+     */
+    public boolean isWalkable(int x, int y) {
+        return !ElementKind.isWall(elementKinds[cellIndex(x, y)]);
+    }
+
+    /**
+     * Sets the map element of a cell, without bounds check.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @param mapElement the map element, or null to empty the cell
+     */
+    public void setMapElement(int x, int y, MapElement mapElement) {
+        int index = cellIndex(x, y);
+        elements[index] = mapElement;
+        setElementKind(index, ElementKind.of(mapElement));
+        dirtyRows[y] = true;
+        changes.mark(index);
+        version++;
+    }
+
+    /**
+     * Clears the map element of a cell, without bounds check.
+     * A breakable wall is replaced by the bonus it may hide.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     */
+    public void clearMapElement(int x, int y) {
+        int index = cellIndex(x, y);
+        if (elementKinds[index] == ElementKind.BREAKABLE_WALL) {
+            setMapElement(x, y, ((BreakableWall) elements[index]).onDestruction()); // either null or a bonus
+        } else if (elements[index] != null) {
+            changes.mark(index);
+            elements[index] = null;
+            setElementKind(index, ElementKind.NONE);
+            dirtyRows[y] = true;
+            version++;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the board and of the characters, e.g. before an AI rollout or for a rollback.
+     * Rows unchanged since the previous snapshot are shared with it, so the cost is proportional to the
+     * number of rows modified in between and to the number of bombs, whose fuses are saved.
+     * The other pending timers and the events are not part of the snapshot.
+     * @return the snapshot
+     */
+    public MapSnapshot snapshot() {
+        MapElement[][] rows = new MapElement[height][];
+        for (int y = 0; y < height; y++) {
+            if (baseSnapshot != null && !dirtyRows[y]) {
+                rows[y] = baseSnapshot.getRow(y);
+            } else {
+                rows[y] = Arrays.copyOfRange(elements, y * width, (y + 1) * width);
+                dirtyRows[y] = false;
+            }
+        }
+        CharacterSnapshot[] characterStates = new CharacterSnapshot[characters.size()];
+        for (int i = 0; i < characterStates.length; i++) {
+            characterStates[i] = characters.get(i).snapshot();
+        }
+        int armedCount = 0;
+        for (int i = 0; i < bombCount; i++) {
+            if (isArmedBomb(bombCells[i])) {
+                armedCount++;
+            }
+        }
+        TimeBomb[] armedBombs = armedCount == 0 ? NO_ARMED_BOMBS : new TimeBomb[armedCount];
+        long[] fuseTicks = armedCount == 0 ? NO_FUSE_TICKS : new long[armedCount];
+        for (int i = 0, armed = 0; armed < armedCount; i++) {
+            if (isArmedBomb(bombCells[i])) {
+                armedBombs[armed] = (TimeBomb) elements[bombCells[i]];
+                fuseTicks[armed] = armedBombs[armed].getRemainingTicks();
+                armed++;
+            }
+        }
+        baseSnapshot = new MapSnapshot(this, rows, characterStates, timers.getScheduledCount(), armedBombs, fuseTicks);
+        return baseSnapshot;
+    }
+
+    /**
+     * Puts the board and the characters back in the state of a snapshot of this map.
+     * Only rows that differ from the snapshot are written back. Bombs back on the board can explode again:
+     * the timers scheduled after the snapshot are cancelled, and the bombs armed in the snapshot get back the fuse
+     * they had left, their cells being reported as changed. Characters added after the snapshot was taken are left
+     * untouched.
+     * @param snapshot a snapshot taken from this map
+     * @throws IllegalArgumentException if the snapshot was taken from another map
+     */
+    public void restore(MapSnapshot snapshot) {
+        if (snapshot.getMap() != this) {
+            throw new IllegalArgumentException("Snapshot was taken from another map");
+        }
+        for (int y = 0; y < height; y++) {
+            MapElement[] row = snapshot.getRow(y);
+            if (!dirtyRows[y] && baseSnapshot != null && baseSnapshot.getRow(y) == row) {
+                continue;
+            }
+            for (int index = y * width; index < (y + 1) * width; index++) {
+                if (elements[index] != row[index - y * width]) {
+                    elements[index] = row[index - y * width];
+                    changes.mark(index);
+                }
+                setElementKind(index, ElementKind.of(elements[index]));
+                if (elementKinds[index] == ElementKind.BOMB) {
+                    ((Bomb) elements[index]).resetExplosion();
+                }
+            }
+            dirtyRows[y] = false;
+            version++;
+        }
+        CharacterSnapshot[] characterStates = snapshot.getCharacters();
+        for (int i = 0; i < characterStates.length; i++) {
+            characters.get(i).restore(characterStates[i]);
+        }
+        timers.cancelScheduledSince(snapshot.getTimerMark());
+        TimeBomb[] armedBombs = snapshot.getArmedBombs();
+        long[] fuseTicks = snapshot.getFuseTicks();
+        for (int i = 0; i < armedBombs.length; i++) {
+            armedBombs[i].rearm(this, fuseTicks[i]);
+            changes.mark(cellIndex(armedBombs[i].getX(), armedBombs[i].getY()));
+        }
+        baseSnapshot = snapshot;
+    }
+
+    /**
+     * Sets the {@link ElementKind} code of a cell, keeping the list of the bomb cells up to date.
+     * @param index the index of the cell
+     * @param kind the kind of its new map element
+     */
+    private void setElementKind(int index, byte kind) {
+        if (kind == ElementKind.BOMB && bombPositions[index] == NO_BOMB) {
+            bombPositions[index] = bombCount;
+            bombCells[bombCount++] = index;
+        } else if (kind != ElementKind.BOMB && bombPositions[index] != NO_BOMB) {
+            int last = bombCells[--bombCount];
+            bombCells[bombPositions[index]] = last;
+            bombPositions[last] = bombPositions[index];
+            bombPositions[index] = NO_BOMB;
+        }
+        elementKinds[index] = kind;
+    }
+
+    /**
+     * Checks whether a cell holds a time bomb whose fuse is burning.
+     * @param index the index of the cell
+     * @return true if the cell holds an armed bomb
+     */
+    private boolean isArmedBomb(int index) {
+        return elementKinds[index] == ElementKind.BOMB && elements[index] instanceof TimeBomb
+            && ((TimeBomb) elements[index]).isArmed();
+    }
+
+    /**
+     * Subscribes a listener to the cell changes of this map, published once per simulation tick.
+     * @param listener the listener
+     */
+    public void addCellChangeListener(CellChangeListener listener) {
+        changes.addListener(listener);
+    }
+
+    /**
+     * Unsubscribes a listener from the cell changes of this map.
+     * @param listener the listener
+     */
+    public void removeCellChangeListener(CellChangeListener listener) {
+        changes.removeListener(listener);
+    }
+
+    /**
+     * Notifies the {@link CellChangeListener}s of the cells whose map element changed since the last call,
+     * each cell once, then forgets them. Called at the end of every simulation tick.
+     */
+    public void publishChanges() {
+        changes.publish(this);
+    }
+
+    /**
+     * Returns the number of cells whose map element changed since the changes were last published.
+     * @return the pending change count
+     */
+    public int getPendingChangeCount() {
+        return changes.getPendingCount();
+    }
+
+    /**
+     * Returns the version of the board, which changes whenever the map element of a cell changes.
+     * Lets callers cache what they derive from the board (danger maps, paths...) until the next change.
+     * @return the board version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the texture name of the background tile of a cell, without bounds check.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the texture name
+     */
+    public String getTileName(int x, int y) {
+        return tilePalette[backgroundTiles[cellIndex(x, y)]];
+    }
+
+    /**
+     * Returns the {@link TextureIds} id of the background tile of a cell, without bounds check.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the texture id
+     */
+    public int getTileTextureId(int x, int y) {
+        return tileTextureIds[backgroundTiles[cellIndex(x, y)]];
+    }
+
+    /**
+     * Returns the packed flip flags of the background tile of a cell, without bounds check.
+     * Use {@link ElementTexture#hasFlip(int, int)} or {@link ElementTexture#computeRotation(int)} to read them.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the packed flip flags
+     */
+    public byte getTileFlips(int x, int y) {
+        return backgroundFlips[cellIndex(x, y)];
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (List<Square> row : checkerboard) {
-            for (Square square : row) {
-                sb.append(square.toString());
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                sb.append(getSquare(x, y).toString());
             }
             sb.append('\n');
         }
@@ -89,12 +513,10 @@ public class LevelMap {
 
     /**
      * Returns the width of the checkerboard (number of columns).
-     * We look at the first row because we verify in the factory that
-     * all rows have the same number of columns.
      * @return the width of the checkerboard
      */
     public int getWidth() {
-        return checkerboard.get(0).size();
+        return width;
     }
 
     /**
@@ -102,7 +524,24 @@ public class LevelMap {
      * @return the height of the checkerboard
      */
     public int getHeight() {
-        return checkerboard.size();
+        return height;
+    }
+
+    /**
+     * Returns the width of the window the map was laid out for. Pixel positions, and so the cells the characters
+     * move to, depend on it.
+     * @return the window width in pixels
+     */
+    public int getWindowWidth() {
+        return windowWidth;
+    }
+
+    /**
+     * Returns the height of the window the map was laid out for.
+     * @return the window height in pixels
+     */
+    public int getWindowHeight() {
+        return windowHeight;
     }
 
     /**
@@ -126,7 +565,146 @@ public class LevelMap {
      * @param character the Character to add.
      */
     public void addCharacter(Character character) {
+        int slot = characters.size();
         this.characters.add(character);
+        if (slot == nextOccupants.length) {
+            nextOccupants = Arrays.copyOf(nextOccupants, slot * 2);
+            occupiedCells = Arrays.copyOf(occupiedCells, slot * 2);
+        }
+        occupiedCells[slot] = NO_OCCUPANT;
+        linkOccupant(slot, character.getMapX(), character.getMapY());
+    }
+
+    /**
+     * Updates the occupancy index after a character changed cell.
+     * Characters that were not added to this map are ignored.
+     * @param character the character that moved
+     * @param fromX the x-coordinate of the cell it left
+     * @param fromY the y-coordinate of the cell it left
+     */
+    public void moveCharacter(Character character, int fromX, int fromY) {
+        if (fromX == character.getMapX() && fromY == character.getMapY()) {
+            return;
+        }
+        int slot = findOccupant(character, fromX, fromY);
+        if (slot == NO_OCCUPANT) {
+            return;
+        }
+        unlinkOccupant(slot);
+        linkOccupant(slot, character.getMapX(), character.getMapY());
+    }
+
+    /**
+     * Appends the characters standing on a cell to the given list. Dead characters are included.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @param result the list to fill, reused by the caller to avoid allocations
+     */
+    public void collectCharactersAt(int x, int y, List<Character> result) {
+        if (!isInBounds(x, y)) {
+            return;
+        }
+        for (int slot = cellOccupants[cellIndex(x, y)]; slot != NO_OCCUPANT; slot = nextOccupants[slot]) {
+            result.add(characters.get(slot));
+        }
+    }
+
+    /**
+     * Checks whether a living character stands on a cell.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return true if at least one living character is on the cell
+     */
+    public boolean hasCharacterAt(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return false;
+        }
+        for (int slot = cellOccupants[cellIndex(x, y)]; slot != NO_OCCUPANT; slot = nextOccupants[slot]) {
+            if (characters.get(slot).isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the slot of a character in the occupancy chain of a cell.
+     * @param character the character to find
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     * @return the slot of the character, or {@link #NO_OCCUPANT} if it is not indexed on this cell
+     */
+    private int findOccupant(Character character, int x, int y) {
+        if (!isInBounds(x, y)) {
+            for (int slot = 0; slot < characters.size(); slot++) {
+                if (characters.get(slot) == character) {
+                    return slot;
+                }
+            }
+            return NO_OCCUPANT;
+        }
+        for (int slot = cellOccupants[cellIndex(x, y)]; slot != NO_OCCUPANT; slot = nextOccupants[slot]) {
+            if (characters.get(slot) == character) {
+                return slot;
+            }
+        }
+        return NO_OCCUPANT;
+    }
+
+    /**
+     * Indexes a character slot on a cell. Cells outside the board are not indexed.
+     * @param slot the character slot
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     */
+    private void linkOccupant(int slot, int x, int y) {
+        if (!isInBounds(x, y)) {
+            occupiedCells[slot] = NO_OCCUPANT;
+            nextOccupants[slot] = NO_OCCUPANT;
+            return;
+        }
+        int cell = cellIndex(x, y);
+        occupiedCells[slot] = cell;
+        nextOccupants[slot] = cellOccupants[cell];
+        cellOccupants[cell] = slot;
+    }
+
+    /**
+     * Removes a character slot from the occupancy chain of its cell.
+     * @param slot the character slot
+     */
+    private void unlinkOccupant(int slot) {
+        int cell = occupiedCells[slot];
+        if (cell == NO_OCCUPANT) {
+            return;
+        }
+        if (cellOccupants[cell] == slot) {
+            cellOccupants[cell] = nextOccupants[slot];
+        } else {
+            int previous = cellOccupants[cell];
+            while (nextOccupants[previous] != slot) {
+                previous = nextOccupants[previous];
+            }
+            nextOccupants[previous] = nextOccupants[slot];
+        }
+        occupiedCells[slot] = NO_OCCUPANT;
+    }
+
+    /**
+     * Returns the number of characters on the map.
+     * @return the character count
+     */
+    public int getCharacterCount() {
+        return characters.size();
+    }
+
+    /**
+     * Returns a character of the map without copying the character list.
+     * @param index the index of the character, in the order they were added
+     * @return the character
+     */
+    public Character getCharacter(int index) {
+        return characters.get(index);
     }
 
     /**
@@ -145,12 +723,7 @@ public class LevelMap {
      * @return the checkerboard of squares
      */
     public Pair<Integer, Integer> getAbsoluteCoordinates(int x, int y) {
-
-        float originX =  (this.windowWidth - Constants.TEXTURE_SIZE * this.getWidth() * Constants.SCALE) / 2;
-        float originY = (this.windowHeight - Constants.TEXTURE_SIZE * this.getHeight() * Constants.SCALE) / 2;
-
-        return Pair.of((int) (originX + x * Constants.TEXTURE_SIZE * Constants.SCALE),
-            (int) (originY + y * Constants.TEXTURE_SIZE * Constants.SCALE));
+        return Pair.of(toPixelX(x), toPixelY(y));
     }
 
     /**
@@ -162,27 +735,71 @@ public class LevelMap {
      * @return a Pair containing the absolute x and y coordinates
      */
     public Pair<Integer, Integer> getSquareCoordinates(int x, int y) {
-        float originX =  (this.windowWidth - Constants.TEXTURE_SIZE * this.getWidth() * Constants.SCALE) / 2;
-        float originY = (this.windowHeight - Constants.TEXTURE_SIZE * this.getHeight() * Constants.SCALE) / 2;
+        return Pair.of(toCellX(x), toCellY(y));
+    }
+
+    /**
+     * Returns the column of the cell containing a window abscissa, without allocating.
+     * @param x the abscissa in pixels
+     * @return the x-coordinate of the cell, possibly out of bounds
+     */
+    public int toCellX(int x) {
+        return Math.round((x - pixelOriginX) / CELL_PIXELS);
+    }
+
+    /**
+     * Returns the row of the cell containing a window ordinate, without allocating.
+     * @param y the ordinate in pixels
+     * @return the y-coordinate of the cell, possibly out of bounds
+     */
+    public int toCellY(int y) {
+        return Math.round((y - pixelOriginY) / CELL_PIXELS);
+    }
+
+    /**
+     * Returns the window abscissa of a column, without allocating.
+     * @param x the x-coordinate of the cell
+     * @return the abscissa in pixels
+     */
+    public int toPixelX(int x) {
+        return (int) (pixelOriginX + x * Constants.TEXTURE_SIZE * Constants.SCALE);
+    }
+
+    /**
+     * Returns the window ordinate of a row, without allocating.
+     * @param y the y-coordinate of the cell
+     * @return the ordinate in pixels
+     */
+    public int toPixelY(int y) {
+        return (int) (pixelOriginY + y * Constants.TEXTURE_SIZE * Constants.SCALE);
+    }
 
-        return Pair.of(Math.round(((x - originX) / (Constants.TEXTURE_SIZE * Constants.SCALE))),
-            Math.round(((y - originY) / (Constants.TEXTURE_SIZE * Constants.SCALE))));
+    /**
+     * Returns the resolver of the explosions on this map, so that its buffers are allocated once per map
+     * rather than once per explosion.
+     * @return the explosion resolver of the map
+     */
+    public ExplosionResolver getExplosionResolver() {
+        if (explosionResolver == null) {
+            explosionResolver = new ExplosionResolver(this);
+        }
+        return explosionResolver;
     }
 
     /**
-     * Adds an effect to the queue of effects that the view should process.
-     * @param effect the effect to add
+     * Returns the scheduler of the timed events of this map, advanced once per simulation tick.
+     * @return the timer wheel of the map
      */
-    public void addEffect(Effect effect) {
-        effectsQueue.push(effect);
+    public TimerWheel getTimers() {
+        return timers;
     }
 
     /**
-     * Returns the queue of effects that have not been processed yet.
-     * @return stack of effects
+     * Returns the bus of the gameplay events published on this map.
+     * @return the event bus
      */
-    public Stack<Effect> getEffectsQueue() {
-        return effectsQueue;
+    public GameEventBus getEvents() {
+        return events;
     }
 
 }
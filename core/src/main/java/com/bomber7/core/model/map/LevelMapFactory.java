@@ -1,29 +1,23 @@
 package com.bomber7.core.model.map;
 
-import com.bomber7.core.model.square.BreakableWall;
+import com.bomber7.core.model.MatchRandom;
 import com.bomber7.core.model.square.Square;
-import com.bomber7.core.model.square.UnbreakableWall;
-import com.bomber7.core.model.texture.ElementTexture;
 import com.bomber7.utils.ProjectPaths;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.opencsv.CSVReader;
-import com.opencsv.exceptions.CsvException;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Factory class for creating LevelMap instances.
- * Responsible for parsing texture mappings and CSV files to create a map of squares.
+ * Responsible for parsing texture mappings and loading the layers of a map, from its {@link CompiledMap} file
+ * when it is up to date, else from its CSV files.
  */
 public final class LevelMapFactory {
     /**
@@ -48,8 +42,24 @@ public final class LevelMapFactory {
      * @throws IllegalArgumentException if the map directory is not found, is empty, or same type multiple CSV files.
      */
     public static LevelMap createLevelMap(String mapName, int windowWidth, int windowHeight) {
+        return createLevelMap(mapName, windowWidth, windowHeight, new MatchRandom(MatchRandom.newSeed()));
+    }
+
+    /**
+     * Creates a LevelMap instance based on the specified map name, rolling the bonuses hidden in breakable walls
+     * from the random streams of a match. The same seed always hides the same bonuses in the same walls.
+     * The map directory is listed once, and its compiled map is preferred unless a CSV file is newer.
+     *
+     * @param mapName The name of the map to create.
+     * @param windowWidth The width of the game window.
+     * @param windowHeight The height of the game window.
+     * @param random The random streams of the match.
+     * @return A LevelMap instance representing the specified map.
+     * @throws IllegalArgumentException if the map directory is not found, is empty, or same type multiple CSV files.
+     */
+    public static LevelMap createLevelMap(String mapName, int windowWidth, int windowHeight, MatchRandom random) {
         File mapRootDirectory = searchMapFilesRootDirectory(mapName);
-        if (mapRootDirectory == null || mapRootDirectory.listFiles() == null || mapRootDirectory.listFiles().length == 0) {
+        if (mapRootDirectory == null) {
             throw new IllegalArgumentException(
                 "Map directory not found or is empty for: "
                 +
@@ -63,52 +73,8 @@ public final class LevelMapFactory {
             );
         }
 
-
-        File backgroundCsvFile = null;
-        File breakableCsvFile = null;
-        File unbreakableCsvFile = null;
-
-        if (mapRootDirectory.isDirectory()) {
-            File[] files = mapRootDirectory.listFiles();
-            if (files == null || files.length == 0) {
-                throw new IllegalArgumentException("Map directory is empty for: " + mapName);
-            }
-
-            if (files != null) {
-                for (File file : files) {
-                    if (file.isFile() && file.getName().toLowerCase().endsWith(".csv")) {
-                        String name = file.getName().toLowerCase();
-
-                        if (name.contains("background")) {
-                            if (backgroundCsvFile != null) {
-                                throw new IllegalArgumentException(
-                                    "Multiple background CSV files found in: " + mapName
-                                );
-                            }
-                            backgroundCsvFile = file;
-                        } else if (name.contains("unbreakable")) {
-                            if (unbreakableCsvFile != null) {
-                                throw new IllegalArgumentException(
-                                    "Multiple unbreakable CSV files found in: " + mapName
-                                );
-                            }
-                            unbreakableCsvFile = file;
-                        } else if (name.contains("breakable")) {
-                            if (breakableCsvFile != null) {
-                                throw new IllegalArgumentException(
-                                    "Multiple breakable CSV files found in: " + mapName
-                                );
-                            }
-                            breakableCsvFile = file;
-                        }
-                    }
-                }
-            }
-        }
-        List<List<Square>> checkerboard = LevelMapFactory.parseCsv(
-            backgroundCsvFile, breakableCsvFile, unbreakableCsvFile, LevelMapFactory.TEXTURE_MAP
-        );
-        return new LevelMap(mapName, checkerboard, windowWidth, windowHeight);
+        MapLayers layers = MapFiles.scan(mapRootDirectory, mapName).load().toLayers(LevelMapFactory.TEXTURE_MAP, random);
+        return new LevelMap(mapName, layers, windowWidth, windowHeight);
     }
 
     /**
@@ -118,21 +84,8 @@ public final class LevelMapFactory {
      * @return The path of the subdirectory containing the file, or null if not found.
      */
     public static File searchMapFilesRootDirectory(String filename) {
-        File mapsRoot = new File(ProjectPaths.getAssetsPath() + "/maps");
-
-        File[] subdirs = mapsRoot.listFiles(File::isDirectory);
-        if (subdirs == null) {
-            return null;
-        }
-
-        for (File dir : subdirs) {
-            if (dir.getName().equals(filename)) {
-                return dir;
-            }
-        }
-
-
-        return null; // not found
+        File dir = new File(ProjectPaths.getAssetsPath().toFile(), "maps/" + filename);
+        return dir.isDirectory() ? dir : null;
     }
 
     /**
@@ -176,148 +129,49 @@ public final class LevelMapFactory {
         File unbreakableCsvPath,
         Map<Integer, String> textureMap
     ) {
-        List<List<Square>> result = new ArrayList<>();
-
-        try (
-            CSVReader backgroundReader = new CSVReader(new FileReader(backgroundCsvPath.getAbsolutePath()));
-            CSVReader breakableReader = new CSVReader(new FileReader(breakableCsvPath.getAbsolutePath()));
-            CSVReader unbreakableReader = new CSVReader(new FileReader(unbreakableCsvPath.getAbsolutePath()))
-        ) {
-            List<String[]> backgroundRows = backgroundReader.readAll();
-            List<String[]> breakableRows = breakableReader.readAll();
-            List<String[]> unbreakableRows = unbreakableReader.readAll();
-
-            // Verify that all CSV files have the same number of rows
-            int numRows = backgroundRows.size();
-            if (breakableRows.size() != numRows || unbreakableRows.size() != numRows) {
-                throw new IllegalArgumentException("CSV files do not have the same number of rows.");
-            }
-
-            for (int i = backgroundRows.size() - 1; i >= 0; i--) {
-                int backgroundCols = backgroundRows.get(i).length;
-                int breakableCols = breakableRows.get(i).length;
-                int unbreakableCols = unbreakableRows.get(i).length;
-
-                // Check if all CSV files have the same number of columns in the current row
-                if (backgroundCols != breakableCols || backgroundCols != unbreakableCols) {
-                    throw new IllegalArgumentException(
-                        "Row " + i + " has mismatched column counts between CSV files."
-                    );
-                }
-                // Check if all rows are rectangular (comparing with the first row)
-                if (backgroundCols != backgroundRows.get(0).length) {
-                    throw new IllegalArgumentException("Background CSV is not rectangular at row " + i);
-                }
-                if (breakableCols != breakableRows.get(0).length) {
-                    throw new IllegalArgumentException("Breakable CSV is not rectangular at row " + i);
-                }
-                if (unbreakableCols != unbreakableRows.get(0).length) {
-                    throw new IllegalArgumentException("Unbreakable CSV is not rectangular at row " + i);
-                }
-
-                String[] backgroundRow = backgroundRows.get(i);
-                String[] breakableRow = breakableRows.get(i);
-                String[] unbreakableRow = unbreakableRows.get(i);
-                List<Square> squareRow = new ArrayList<>();
-
-                for (int j = 0; j < backgroundRow.length; j++) {
-                    int backgroundTextureId = Integer.parseInt(backgroundRow[j].trim());
-                    int breakableTextureId = Integer.parseInt(breakableRow[j].trim());
-                    int unbreakableTextureId = Integer.parseInt(unbreakableRow[j].trim());
-                    boolean backgroundVerticalFlip = false;
-                    boolean backgroundHorizontalFlip = false;
-                    boolean backgroundDiagonalFlip = false;
-
-                    if (backgroundTextureId != -1) {
-                        // The 3 high bits are used for flipping:
-                        // 0x80000000 → Bit 31: Horizontal flip → 1000 0000 0000 0000 0000 0000 0000 0000
-                        // 0x40000000 → Bit 30: Vertical flip → 0100 0000 0000 0000 0000 0000 0000 0000
-                        // 0x20000000 → Bit 29: Diagonal flip → 0010 0000 0000 0000 0000 0000 0000 0000
-                        backgroundVerticalFlip = (backgroundTextureId & ElementTexture.FLIP_V) != 0;
-                        backgroundHorizontalFlip = (backgroundTextureId & ElementTexture.FLIP_H) != 0;
-                        backgroundDiagonalFlip = (backgroundTextureId & ElementTexture.FLIP_D) != 0;
-                        backgroundTextureId = backgroundTextureId & ElementTexture.ID_MASK;
-                    }
-
-                    if (!textureMap.containsKey(backgroundTextureId)) {
-                        throw new IllegalArgumentException(
-                            "textureMap doesnt have all the required textures: back:" + backgroundTextureId
-                        );
-                    }
-
-                    String backgroundTextureName = textureMap.get(backgroundTextureId);
-
-                    if (breakableTextureId != -1) {
-                        boolean breakableVerticalFlip = (breakableTextureId & ElementTexture.FLIP_V) != 0;
-                        boolean breakableHorizontalFlip   = (breakableTextureId & ElementTexture.FLIP_H) != 0;
-                        boolean breakableDiagonalFlip   = (breakableTextureId & ElementTexture.FLIP_D) != 0;
-                        breakableTextureId = breakableTextureId & ElementTexture.ID_MASK;
-
-                        if (!textureMap.containsKey(breakableTextureId)) {
-                            throw new IllegalArgumentException(
-                                "textureMap doesnt have all the required textures: break:" + breakableTextureId
-                                +
-                                    " row " + i + " col " + j
-                            );
-                        }
-
-                        String breakableTextureName = textureMap.get(breakableTextureId);
-
-                        squareRow.add(
-                            new Square(backgroundTextureName,
-                                new BreakableWall(
-                                    breakableTextureName, breakableVerticalFlip,
-                                    breakableHorizontalFlip, breakableDiagonalFlip
-                                ),
-                                backgroundVerticalFlip, backgroundHorizontalFlip, backgroundDiagonalFlip
-                            )
-                        );
-                    } else if (unbreakableTextureId != -1) {
-                        boolean unbreakableVerticalFlip = (unbreakableTextureId & ElementTexture.FLIP_V) != 0;
-                        boolean unbreakableHorizontalFlip   = (unbreakableTextureId & ElementTexture.FLIP_H) != 0;
-                        boolean unbreakableDiagonalFlip   = (unbreakableTextureId & ElementTexture.FLIP_D) != 0;
-                        unbreakableTextureId = unbreakableTextureId & ElementTexture.ID_MASK;
-
-                        if (!textureMap.containsKey(unbreakableTextureId)) {
-                            throw new IllegalArgumentException(
-                                "textureMap doesnt have all the required textures: unbreak:" + unbreakableTextureId
-                            );
-                        }
+        return parseLayers(backgroundCsvPath, breakableCsvPath, unbreakableCsvPath, textureMap).toSquares();
+    }
 
-                        String unbreakableTextureName = textureMap.get(unbreakableTextureId);
+    /**
+     * Parses the CSV files into the flat layers of a map, without creating any Square object.
+     * The last CSV row becomes y = 0.
+     *
+     * @param backgroundCsvPath Path to the background CSV file.
+     * @param breakableCsvPath Path to the breakable walls CSV file.
+     * @param unbreakableCsvPath Path to the unbreakable walls CSV file.
+     * @param textureMap A map of texture IDs to their file paths.
+     * @return The layers of the map.
+     */
+    public static MapLayers parseLayers(
+        File backgroundCsvPath,
+        File breakableCsvPath,
+        File unbreakableCsvPath,
+        Map<Integer, String> textureMap
+    ) {
+        return parseLayers(
+            backgroundCsvPath, breakableCsvPath, unbreakableCsvPath, textureMap, new MatchRandom(MatchRandom.newSeed())
+        );
+    }
 
-                        squareRow.add(
-                            new Square(backgroundTextureName,
-                                new UnbreakableWall(
-                                    unbreakableTextureName,
-                                    unbreakableVerticalFlip,
-                                    unbreakableHorizontalFlip,
-                                    unbreakableDiagonalFlip),
-                                backgroundVerticalFlip,
-                                backgroundHorizontalFlip,
-                                backgroundDiagonalFlip
-                            )
-                        );
-                    } else {
-                        squareRow.add(
-                            new Square(
-                                backgroundTextureName,
-                                backgroundVerticalFlip,
-                                backgroundHorizontalFlip,
-                                backgroundDiagonalFlip
-                            )
-                        );
-                    }
-                }
-                result.add(squareRow);
-            }
-            return result;
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException("Invalid CSV filepath.", e);
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to read specified files, maybe lack of ressources", e);
-        } catch (CsvException e) {
-            throw new IllegalArgumentException("Unable to read the CSV file. Wrong format");
-        }
+    /**
+     * Parses the CSV files of a map into flat layers, rolling the bonus of every breakable wall
+     * in reading order from the given random streams.
+     * The last CSV row becomes y = 0.
+     *
+     * @param backgroundCsvPath Path to the background CSV file.
+     * @param breakableCsvPath Path to the breakable walls CSV file.
+     * @param unbreakableCsvPath Path to the unbreakable walls CSV file.
+     * @param textureMap A map of texture IDs to their file paths.
+     * @param random The random streams of the match.
+     * @return The layers of the map.
+     */
+    public static MapLayers parseLayers(
+        File backgroundCsvPath,
+        File breakableCsvPath,
+        File unbreakableCsvPath,
+        Map<Integer, String> textureMap,
+        MatchRandom random
+    ) {
+        return CompiledMap.fromCsv(backgroundCsvPath, breakableCsvPath, unbreakableCsvPath).toLayers(textureMap, random);
     }
 }
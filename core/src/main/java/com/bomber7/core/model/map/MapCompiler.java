@@ -0,0 +1,60 @@
+package com.bomber7.core.model.map;
+
+import com.bomber7.utils.ProjectPaths;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Command line tool compiling the CSV layers of maps into {@link CompiledMap} files, next to the CSV files.
+ * <p>
+ * Run by the {@code compileMaps} Gradle task. Without arguments, every directory of "assets/maps" is compiled;
+ * otherwise only the given map names.
+ * </p>
+ */
+public final class MapCompiler {
+
+    private MapCompiler() { }
+
+    /**
+     * Compiles maps.
+     * @param args the names of the maps to compile, none for every map
+     * @throws IOException if a compiled map cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        File mapsRoot = ProjectPaths.getAssetsPath().resolve("maps").toFile();
+        File[] directories;
+        if (args.length == 0) {
+            directories = mapsRoot.listFiles(File::isDirectory);
+            if (directories == null) {
+                throw new IllegalArgumentException("Maps directory not found: " + mapsRoot.getAbsolutePath());
+            }
+        } else {
+            directories = new File[args.length];
+            for (int i = 0; i < args.length; i++) {
+                directories[i] = LevelMapFactory.searchMapFilesRootDirectory(args[i]);
+                if (directories[i] == null) {
+                    throw new IllegalArgumentException("Map directory not found for: " + args[i]);
+                }
+            }
+        }
+
+        for (File directory : directories) {
+            File output = compile(directory);
+            System.out.println("Compiled " + output.getPath() + " (" + output.length() + " bytes)");
+        }
+    }
+
+    /**
+     * Compiles the CSV layers of a map directory into a file named after the directory.
+     * @param directory the map directory
+     * @return the compiled map file
+     * @throws IOException if the compiled map cannot be written
+     */
+    public static File compile(File directory) throws IOException {
+        CompiledMap map = MapFiles.scan(directory, directory.getName()).compileCsv();
+        File output = new File(directory, directory.getName() + CompiledMap.EXTENSION);
+        map.write(output.toPath());
+        return output;
+    }
+}
@@ -0,0 +1,111 @@
+package com.bomber7.core.model.map;
+
+import java.io.File;
+
+/**
+ * The files of a map directory: its three CSV layers and, once compiled, its {@link CompiledMap} file.
+ */
+final class MapFiles {
+
+    /** The background CSV layer, or null. */
+    private File background;
+
+    /** The breakable walls CSV layer, or null. */
+    private File breakable;
+
+    /** The unbreakable walls CSV layer, or null. */
+    private File unbreakable;
+
+    /** The compiled map, or null. */
+    private File compiled;
+
+    /** Last modification time of the newest CSV file of the directory. */
+    private long newestCsv;
+
+    private MapFiles() { }
+
+    /**
+     * Lists the files of a map directory, once.
+     * @param directory the map directory
+     * @param mapName the name of the map, for error messages
+     * @return the files of the map
+     * @throws IllegalArgumentException if the directory is empty or holds several CSV files of the same layer
+     */
+    static MapFiles scan(File directory, String mapName) {
+        File[] files = directory.listFiles();
+        if (files == null || files.length == 0) {
+            throw new IllegalArgumentException("Map directory is empty for: " + mapName);
+        }
+
+        MapFiles mapFiles = new MapFiles();
+        for (File file : files) {
+            String name = file.getName().toLowerCase();
+            if (!file.isFile()) {
+                continue;
+            }
+            if (name.endsWith(CompiledMap.EXTENSION)) {
+                mapFiles.compiled = file;
+                continue;
+            }
+            if (!name.endsWith(".csv")) {
+                continue;
+            }
+            mapFiles.newestCsv = Math.max(mapFiles.newestCsv, file.lastModified());
+            if (name.contains("background")) {
+                if (mapFiles.background != null) {
+                    throw new IllegalArgumentException("Multiple background CSV files found in: " + mapName);
+                }
+                mapFiles.background = file;
+            } else if (name.contains("unbreakable")) {
+                if (mapFiles.unbreakable != null) {
+                    throw new IllegalArgumentException("Multiple unbreakable CSV files found in: " + mapName);
+                }
+                mapFiles.unbreakable = file;
+            } else if (name.contains("breakable")) {
+                if (mapFiles.breakable != null) {
+                    throw new IllegalArgumentException("Multiple breakable CSV files found in: " + mapName);
+                }
+                mapFiles.breakable = file;
+            }
+        }
+        return mapFiles;
+    }
+
+    /**
+     * Checks whether the compiled map exists and is not older than any CSV file of the directory,
+     * so that editing a layer falls back to the CSV files until the map is compiled again.
+     * @return true if the compiled map can be loaded instead of the CSV files
+     */
+    boolean isCompiledUpToDate() {
+        return compiled != null && compiled.lastModified() >= newestCsv;
+    }
+
+    /**
+     * Loads the layers of the map, from the compiled map if it is up to date, else from the CSV files.
+     * @return the compiled map
+     * @throws IllegalArgumentException if the files are missing, malformed or corrupted
+     */
+    CompiledMap load() {
+        return isCompiledUpToDate() ? CompiledMap.read(compiled.toPath()) : compileCsv();
+    }
+
+    /**
+     * Parses the CSV layers.
+     * @return the compiled map
+     * @throws IllegalArgumentException if a layer is missing or malformed
+     */
+    CompiledMap compileCsv() {
+        if (background == null || breakable == null || unbreakable == null) {
+            throw new IllegalArgumentException("Invalid CSV filepath.");
+        }
+        return CompiledMap.fromCsv(background, breakable, unbreakable);
+    }
+
+    /**
+     * Returns the compiled map file.
+     * @return the file, or null if the map was never compiled
+     */
+    File getCompiled() {
+        return compiled;
+    }
+}
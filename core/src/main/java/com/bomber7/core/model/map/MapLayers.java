@@ -0,0 +1,178 @@
+package com.bomber7.core.model.map;
+
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.core.model.square.Square;
+import com.bomber7.core.model.texture.ElementTexture;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The raw layers of a map, stored as flat row-major arrays (index = y * width + x).
+ * Produced by {@link LevelMapFactory} and adopted as-is by {@link LevelMap}, without copy.
+ */
+public final class MapLayers {
+
+    /** Number of columns. */
+    private final int width;
+    /** Number of rows. */
+    private final int height;
+    /** Texture names of the background tiles, indexed by tile id. */
+    private final String[] tilePalette;
+    /** Background tile id of each cell. */
+    private final int[] backgroundTiles;
+    /** Background flip flags of each cell, packed with {@link ElementTexture#packFlips}. */
+    private final byte[] backgroundFlips;
+    /** Map element of each cell, or null if the cell is empty. */
+    private final MapElement[] elements;
+
+    /**
+     * Creates the layers of a map.
+     * @param width the number of columns
+     * @param height the number of rows
+     * @param tilePalette the texture names of the background tiles, indexed by tile id
+     * @param backgroundTiles the background tile id of each cell
+     * @param backgroundFlips the packed background flip flags of each cell
+     * @param elements the map element of each cell
+     * @throws IllegalArgumentException if the arrays do not match the given dimensions
+     */
+    public MapLayers(
+        int width,
+        int height,
+        String[] tilePalette,
+        int[] backgroundTiles,
+        byte[] backgroundFlips,
+        MapElement[] elements
+    ) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Map dimensions must be positive: " + width + "x" + height);
+        }
+        int size = width * height;
+        if (backgroundTiles.length != size || backgroundFlips.length != size || elements.length != size) {
+            throw new IllegalArgumentException("Map layers do not match dimensions " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.tilePalette = tilePalette;
+        this.backgroundTiles = backgroundTiles;
+        this.backgroundFlips = backgroundFlips;
+        this.elements = elements;
+    }
+
+    /**
+     * Builds the layers from a checkerboard of squares.
+     * Texture names are interned in a palette in order of appearance.
+     * @param checkerboard a rectangular 2D list of squares, row 0 being y = 0
+     * @return the matching layers
+     * @throws IllegalArgumentException if the checkerboard is empty or not rectangular
+     */
+    public static MapLayers fromSquares(List<List<Square>> checkerboard) {
+        if (checkerboard.isEmpty() || checkerboard.get(0).isEmpty()) {
+            throw new IllegalArgumentException("Checkerboard cannot be empty");
+        }
+        int height = checkerboard.size();
+        int width = checkerboard.get(0).size();
+        int[] tiles = new int[width * height];
+        byte[] flips = new byte[width * height];
+        MapElement[] elements = new MapElement[width * height];
+        Map<String, Integer> paletteIndex = new HashMap<>();
+        List<String> palette = new ArrayList<>();
+
+        for (int y = 0; y < height; y++) {
+            List<Square> row = checkerboard.get(y);
+            if (row.size() != width) {
+                throw new IllegalArgumentException("Checkerboard is not rectangular at row " + y);
+            }
+            for (int x = 0; x < width; x++) {
+                Square square = row.get(x);
+                int index = y * width + x;
+                Integer tile = paletteIndex.get(square.getTextureName());
+                if (tile == null) {
+                    tile = palette.size();
+                    palette.add(square.getTextureName());
+                    paletteIndex.put(square.getTextureName(), tile);
+                }
+                tiles[index] = tile;
+                flips[index] = ElementTexture.packFlips(
+                    square.isVerticalFlip(), square.isHorizontalFlip(), square.isDiagonalFlip()
+                );
+                elements[index] = square.getMapElement();
+            }
+        }
+        return new MapLayers(width, height, palette.toArray(new String[0]), tiles, flips, elements);
+    }
+
+    /**
+     * Builds detached squares for every cell, row 0 being y = 0.
+     * @return a 2D list of squares
+     */
+    public List<List<Square>> toSquares() {
+        List<List<Square>> checkerboard = new ArrayList<>(height);
+        for (int y = 0; y < height; y++) {
+            List<Square> row = new ArrayList<>(width);
+            for (int x = 0; x < width; x++) {
+                int index = y * width + x;
+                byte flips = backgroundFlips[index];
+                row.add(new Square(
+                    tilePalette[backgroundTiles[index]],
+                    elements[index],
+                    ElementTexture.hasFlip(flips, ElementTexture.FLIP_V),
+                    ElementTexture.hasFlip(flips, ElementTexture.FLIP_H),
+                    ElementTexture.hasFlip(flips, ElementTexture.FLIP_D)
+                ));
+            }
+            checkerboard.add(row);
+        }
+        return checkerboard;
+    }
+
+    /**
+     * Returns the number of columns.
+     * @return the width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return the height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the texture names of the background tiles, indexed by tile id.
+     * @return the tile palette
+     */
+    String[] getTilePalette() {
+        return tilePalette;
+    }
+
+    /**
+     * Returns the background tile id of each cell.
+     * @return the background tiles
+     */
+    int[] getBackgroundTiles() {
+        return backgroundTiles;
+    }
+
+    /**
+     * Returns the packed background flip flags of each cell.
+     * @return the background flips
+     */
+    byte[] getBackgroundFlips() {
+        return backgroundFlips;
+    }
+
+    /**
+     * Returns the map element of each cell.
+     * @return the elements
+     */
+    MapElement[] getElements() {
+        return elements;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bomber7.core.model.map;
+
+import com.bomber7.core.model.entities.CharacterSnapshot;
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.core.model.square.TimeBomb;
+
+/**
+ * Immutable copy of the mutable state of a {@link LevelMap}: the map element of every cell, the state of
+ * every character and the fuse left to every armed bomb. Taken by {@link LevelMap#snapshot()} and put back with
+ * {@link LevelMap#restore(MapSnapshot)}.
+ * <p>
+ * Rows are copy-on-write: a row that did not change since the previous snapshot of the same map is shared
+ * with it instead of being copied, so forking a board with a few dirty cells only copies a few rows.
+ * </p>
+ */
+public final class MapSnapshot {
+
+    /** The map this snapshot was taken from. */
+    private final LevelMap map;
+
+    /** Map elements of each row, possibly shared with other snapshots of the same map. Never modified. */
+    private final MapElement[][] rows;
+
+    /** State of each character, in the order of {@link LevelMap#getCharacters()}. */
+    private final CharacterSnapshot[] characters;
+
+    /** Number of timers scheduled on the map when the snapshot was taken. */
+    private final long timerMark;
+
+    /** Time bombs of the board whose fuse was burning. */
+    private final TimeBomb[] armedBombs;
+
+    /** Ticks left before each armed bomb explodes, in the order of {@link #armedBombs}. */
+    private final long[] fuseTicks;
+
+    /**
+     * Creates a snapshot.
+     * @param map the map the snapshot was taken from
+     * @param rows the map elements of each row
+     * @param characters the state of each character
+     * @param timerMark the number of timers scheduled on the map so far
+     * @param armedBombs the time bombs whose fuse is burning
+     * @param fuseTicks the ticks left before each armed bomb explodes
+     */
+    MapSnapshot(LevelMap map, MapElement[][] rows, CharacterSnapshot[] characters, long timerMark,
+                TimeBomb[] armedBombs, long[] fuseTicks) {
+        this.map = map;
+        this.rows = rows;
+        this.characters = characters;
+        this.timerMark = timerMark;
+        this.armedBombs = armedBombs;
+        this.fuseTicks = fuseTicks;
+    }
+
+    /**
+     * Returns the map this snapshot was taken from.
+     * @return the level map
+     */
+    LevelMap getMap() {
+        return map;
+    }
+
+    /**
+     * Returns the map elements of a row.
+     * @param y the y-coordinate of the row
+     * @return the row, not to be modified
+     */
+    MapElement[] getRow(int y) {
+        return rows[y];
+    }
+
+    /**
+     * Returns the state of each character.
+     * @return the character snapshots, not to be modified
+     */
+    CharacterSnapshot[] getCharacters() {
+        return characters;
+    }
+
+    /**
+     * Returns the number of timers scheduled on the map when the snapshot was taken.
+     * @return the timer mark
+     */
+    long getTimerMark() {
+        return timerMark;
+    }
+
+    /**
+     * Returns the time bombs whose fuse was burning.
+     * @return the armed bombs, not to be modified
+     */
+    TimeBomb[] getArmedBombs() {
+        return armedBombs;
+    }
+
+    /**
+     * Returns the ticks left before each armed bomb explodes.
+     * @return the fuses, in the order of {@link #getArmedBombs()}, not to be modified
+     */
+    long[] getFuseTicks() {
+        return fuseTicks;
+    }
+}
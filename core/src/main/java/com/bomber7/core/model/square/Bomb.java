@@ -1,14 +1,7 @@
 package com.bomber7.core.model.square;
-import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.event.GameEventType;
 import com.bomber7.core.model.map.LevelMap;
 import com.bomber7.core.model.entities.Character;
-import com.bomber7.utils.Effect;
-import com.bomber7.utils.EffectType;
-import com.bomber7.utils.Score;
-import com.bomber7.utils.SoundManager;
-import com.bomber7.utils.SoundType;
-
-import java.util.List;
 
 /**
  * Represents a bomb in the game, which can explode and affect surrounding squares.
@@ -108,29 +101,24 @@ public abstract class Bomb extends MapElement {
      * @param yCord The Y-coordinate.
      */
     public void onExplosion(LevelMap m, int xCord, int yCord) {
-        Square sq = m.getSquare(xCord, yCord);
-        if (sq != null) {
-//            Gdx.app.debug("Bomb", "MapElement before explosion: " + sq.getMapElement());
-            if (!(sq.getMapElement() instanceof Bonus)) {
-                sq.clearMapElement();
-                m.addEffect(new Effect(
-                    xCord,
-                    yCord,
-                    EffectType.EXPLOSION
-                ));
-            }
-//            Gdx.app.debug("Bomb", "MapElement after explosion: " + sq.getMapElement());
-//            Gdx.app.debug("Bomb", "instanceOfBonus: " + (sq.getMapElement() instanceof Bonus));
+        byte kind = m.getElementKind(xCord, yCord);
+        if (kind != ElementKind.BONUS) {
+            m.clearMapElement(xCord, yCord);
+            m.getEvents().publish(
+                GameEventType.CELL_DESTROYED,
+                planter,
+                xCord,
+                yCord,
+                kind == ElementKind.BREAKABLE_WALL ? 1 : 0
+            );
         }
     }
 
     /**
      * Activates the bomb, causing it to explode and affect surrounding squares.
      * The explosion propagates in all four cardinal directions (up, down, left, right)
-     * based on the bomb's power.
-     *
-     * The propagation stops when it encounters a map boundary, an unbreakable wall, or
-     * in the case of a breakable wall, after destroying it.
+     * based on the bomb's power, and chains to the other bombs it reaches.
+     * See {@link com.bomber7.core.model.ExplosionResolver} for the propagation rules.
      *
      * @param m the LevelMap where the bomb is activated.
      * @throws NullPointerException if the LevelMap is null.
@@ -140,84 +128,38 @@ public abstract class Bomb extends MapElement {
             throw new NullPointerException("LevelMap cannot be null");
         }
 
-        if (exploded) {
-            return;
-        }
-        exploded = true;
+        m.getExplosionResolver().resolve(this);
+    }
 
-        // Explosion at the bomb's position
-        onExplosion(m, this.x, this.y);
-        if (planter instanceof Player) {
-            ((Player) planter).setNbBomb(((Player) planter).getNbBomb() + 1);
-        }
-        this.playExplosionSound();
-
-        // Explosion propagation in all four directions
-        int[][] directions = {{0, 1}, {0, -1}, {-1, 0}, {1, 0}};
-
-        // Retrieve all characters currently on the Map.
-        List<Character> characters = m.getCharacters();
-
-        for (int[] direction : directions) {
-
-            for (int i = 1; i <= power; i++) {
-                int newX = this.x + direction[0] * i;
-                int newY = this.y + direction[1] * i;
-
-                // Check if the explosion reaches a character
-                for (Character character : characters) {
-                    if (character.isAlive()) {
-                        if (
-                            (character.getMapX() == newX && character.getMapY() == newY)
-                            || character.getMapX() == this.x && character.getMapY() == this.y
-                        ) {
-                            if (character == planter) {
-                                //Gdx.app.debug("Bomb", planter.getName() + " suicided.");
-                                character.addScore(Score.SUICIDE);
-                            } else {
-                                //Gdx.app.debug("Bomb", planter.getName() + " killed " + character);
-                                planter.addScore(Score.KILL);
-                            }
-                            character.removeOneLife();
-                        }
-                    }
-                }
-
-                if (newX < 0 || newX >= m.getWidth() || newY < 0 || newY >= m.getHeight()) {
-                    break;
-                }
-
-                Square potentialSquare = m.getSquare(newX, newY);
-
-                // Out of bounds or hit unbreakable wall - stop propagation
-                if (potentialSquare == null || potentialSquare.getMapElement() instanceof UnbreakableWall) {
-                    break;
-                }
-
-                // Hit breakable wall - explode it and stop further propagation
-                if (potentialSquare.getMapElement() instanceof BreakableWall) {
-                    onExplosion(m, newX, newY);
-//                    break;
-                }
-
-                if (potentialSquare.getMapElement() instanceof Bomb) {
-                    // If the square has another bomb, we can propagate the explosion to it
-                    Bomb otherBomb = (Bomb) potentialSquare.getMapElement();
-                    otherBomb.activateBomb(m);
-                    break;
-                }
-
-                // Regular propagation
-                onExplosion(m, newX, newY);
-            }
-        }
+    /**
+     * Returns the character that planted this bomb.
+     * @return the planter
+     */
+    public Character getPlanter() {
+        return this.planter;
+    }
+
+    /**
+     * Checks whether the bomb has already exploded.
+     * @return true if the bomb has exploded
+     */
+    public boolean hasExploded() {
+        return this.exploded;
+    }
+
+    /**
+     * Marks the bomb as exploded, so that it can not be activated again.
+     * Called by {@link com.bomber7.core.model.ExplosionResolver} when the bomb joins a chain reaction.
+     */
+    public void markExploded() {
+        this.exploded = true;
     }
 
     /**
-     * Play explosion sound.
-     * It is a distinct method so that it can be removed in tests later.
+     * Puts the bomb back in its unexploded state.
+     * Called when a {@link com.bomber7.core.model.map.MapSnapshot} puts the bomb back on the board.
      */
-    public void playExplosionSound() {
-        SoundManager.getInstance().play(SoundType.EXPLOSION);
+    public void resetExplosion() {
+        this.exploded = false;
     }
 }
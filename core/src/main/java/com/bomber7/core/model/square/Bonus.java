@@ -28,4 +28,12 @@ public abstract class Bonus extends MapElement {
      * @param player the player to which the bonus effect will be applied
      */
     public abstract void applyBonusEffect(Player player);
+
+    /**
+     * Returns the type of the bonus.
+     * @return the bonus type
+     */
+    public BonusType getBonusType() {
+        return bonusType;
+    }
 }
@@ -1,6 +1,6 @@
 package com.bomber7.core.model.square;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.bomber7.utils.BonusType;
 import com.bomber7.utils.Constants;
@@ -11,10 +11,10 @@ import com.bomber7.utils.Constants;
 public class BreakableWall extends Wall {
 
     /**
-     * Indicates whether this breakable wall has a bonus.
-     * The bonus is randomly assigned when the wall is created.
+     * The type of the bonus hidden in this breakable wall, or null if it hides nothing.
+     * The bonus is assigned when the wall is created.
      */
-    private boolean hasBonus;
+    private final BonusType bonus;
 
     /**
      * Constructs a BreakableWall with the specified texture file path.
@@ -29,9 +29,28 @@ public class BreakableWall extends Wall {
         boolean verticalFlip,
         boolean horizontalFlip,
         boolean diagonalFlip
+    ) {
+        this(textureName, verticalFlip, horizontalFlip, diagonalFlip, rollBonus());
+    }
+
+    /**
+     * Constructs a BreakableWall hiding a given bonus, e.g. rolled from the seeded random of the match.
+     *
+     * @param textureName the file path to the texture image for the wall
+     * @param verticalFlip whether to flip the texture vertically
+     * @param horizontalFlip whether to flip the texture horizontally
+     * @param diagonalFlip whether to flip the texture diagonally
+     * @param bonus the type of the hidden bonus, or null if the wall hides nothing
+     */
+    public BreakableWall(
+        String textureName,
+        boolean verticalFlip,
+        boolean horizontalFlip,
+        boolean diagonalFlip,
+        BonusType bonus
     ) {
         super(textureName, verticalFlip, horizontalFlip, diagonalFlip);
-        this.hasBonus = hasRandomBonus();
+        this.bonus = bonus;
     }
 
     /**
@@ -41,7 +60,7 @@ public class BreakableWall extends Wall {
      */
     public BreakableWall(String textureName) {
         super(textureName);
-        this.hasBonus = hasRandomBonus();
+        this.bonus = rollBonus();
     }
 
     /**
@@ -50,21 +69,31 @@ public class BreakableWall extends Wall {
      * @return the texture file path
      */
     public Bonus onDestruction() {
-        if (this.hasBonus) {
-            BonusType randomBonusType = BonusType.getRandomBonusType();
-            return createBonus(randomBonusType);
+        if (this.bonus != null) {
+            return createBonus(this.bonus);
         }
         return null;
     }
 
     /**
-     * Checks if the breakable wall has a bonus.
+     * Returns the type of the bonus hidden in the wall.
+     *
+     * @return the bonus type, or null if the wall hides nothing
+     */
+    public BonusType getBonusType() {
+        return bonus;
+    }
+
+    /**
+     * Rolls a hidden bonus without a match seed, for walls created outside of a map load.
      *
-     * @return true if the wall has a bonus, false otherwise
+     * @return the type of the hidden bonus, or null if the wall hides nothing
      */
-    private boolean hasRandomBonus() {
-        double randomValue = new Random().nextDouble();
-        return randomValue <= Constants.BONUS_RATE;
+    private static BonusType rollBonus() {
+        if (ThreadLocalRandom.current().nextDouble() > Constants.BONUS_RATE) {
+            return null;
+        }
+        return BonusType.getRandomBonusType();
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.bomber7.core.model.square;
+
+/**
+ * Compact codes describing which kind of {@link MapElement} lies on a square.
+ * They are stored one byte per cell by {@link com.bomber7.core.model.map.LevelMap} so that hot paths
+ * (collisions, explosions, drawing) can test a cell without dereferencing the element itself.
+ */
+public final class ElementKind {
+
+    /** The square has no map element. */
+    public static final byte NONE = 0;
+    /** The square holds an {@link UnbreakableWall}. */
+    public static final byte UNBREAKABLE_WALL = 1;
+    /** The square holds a {@link BreakableWall}. */
+    public static final byte BREAKABLE_WALL = 2;
+    /** The square holds a {@link Bomb}. */
+    public static final byte BOMB = 3;
+    /** The square holds a {@link Bonus}. */
+    public static final byte BONUS = 4;
+    /** The square holds another walkable map element. */
+    public static final byte OTHER = 5;
+
+    private ElementKind() { }
+
+    /**
+     * Returns the kind code of a map element.
+     * @param mapElement the map element, may be null
+     * @return the matching kind code
+     */
+    public static byte of(MapElement mapElement) {
+        if (mapElement == null) {
+            return NONE;
+        }
+        if (mapElement instanceof UnbreakableWall) {
+            return UNBREAKABLE_WALL;
+        }
+        if (mapElement instanceof BreakableWall) {
+            return BREAKABLE_WALL;
+        }
+        if (mapElement instanceof Bomb) {
+            return BOMB;
+        }
+        if (mapElement instanceof Bonus) {
+            return BONUS;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Checks whether a kind code is a wall (breakable or not).
+     * @param kind the kind code
+     * @return true if a character cannot walk through it
+     */
+    public static boolean isWall(byte kind) {
+        return kind == UNBREAKABLE_WALL || kind == BREAKABLE_WALL;
+    }
+}
@@ -1,9 +1,12 @@
 package com.bomber7.core.model.square;
 
+import com.bomber7.core.model.map.LevelMap;
 import com.bomber7.core.model.texture.ElementTexture;
 
 /**
  * Represents a square in the game, which can be a wall, a bomb, or any other future map element.
+ * Once bound to a {@link LevelMap} cell, a square is a view of that cell: its map element is read from
+ * and written to the map storage.
  */
 public class Square extends ElementTexture {
     /**
@@ -11,6 +14,19 @@ public class Square extends ElementTexture {
      */
     private MapElement mapElement;
 
+    /**
+     * The map this square is bound to, or null if it is detached.
+     */
+    private LevelMap map;
+    /**
+     * The x-coordinate of the bound cell.
+     */
+    private int mapX;
+    /**
+     * The y-coordinate of the bound cell.
+     */
+    private int mapY;
+
     /**
      * Constructs a new Square with the specified texture file path and texture ID.
      * @param textureName the texture name for this square
@@ -60,12 +76,33 @@ public class Square extends ElementTexture {
         this.mapElement = mapElement;
     }
 
+    /**
+     * Binds this square to a cell of a map. Called by {@link LevelMap} when it creates or adopts the square.
+     * @param levelMap the map owning the cell
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     */
+    public void bind(LevelMap levelMap, int x, int y) {
+        this.map = levelMap;
+        this.mapX = x;
+        this.mapY = y;
+        this.mapElement = null;
+    }
+
+    /**
+     * Checks if this square is bound to a map cell.
+     * @return true if the square is a view of a map cell
+     */
+    public boolean isBound() {
+        return map != null;
+    }
+
     /**
      * Checks if this square has an associated map element.
      * @return true if there is a map element, false otherwise
      */
     public boolean hasMapElement() {
-        return mapElement != null;
+        return getMapElement() != null;
     }
 
     /**
@@ -74,7 +111,11 @@ public class Square extends ElementTexture {
      * @param mapElement the map element to associate with this square
      */
     public void setMapElement(MapElement mapElement) {
-        this.mapElement = mapElement;
+        if (map != null) {
+            map.setMapElement(mapX, mapY, mapElement);
+        } else {
+            this.mapElement = mapElement;
+        }
     }
 
     /**
@@ -82,7 +123,9 @@ public class Square extends ElementTexture {
      * This method sets the map element to null.
      */
     public void clearMapElement() {
-        if (mapElement instanceof BreakableWall) {
+        if (map != null) {
+            map.clearMapElement(mapX, mapY);
+        } else if (mapElement instanceof BreakableWall) {
             Bonus potentialBonus = ((BreakableWall) mapElement).onDestruction();
 
             this.setMapElement(potentialBonus); // either null or a bonus
@@ -97,7 +140,7 @@ public class Square extends ElementTexture {
      * @return the map element, or null if there is no associated map element
      */
     public MapElement getMapElement() {
-        return mapElement;
+        return map != null ? map.getMapElement(mapX, mapY) : mapElement;
     }
 
     /**
@@ -107,13 +150,10 @@ public class Square extends ElementTexture {
      * @return false if there is a wall or a bomb, true otherwise
      */
     public boolean isWalkable() {
-        if (mapElement == null) {
-            return true; // No map element means the square is walkable
-        }
-        if (mapElement instanceof Wall) {
-            return false;
+        if (map != null) {
+            return map.isWalkable(mapX, mapY);
         }
-        return true;
+        return !(mapElement instanceof Wall);
     }
 
     @Override
@@ -123,7 +163,7 @@ public class Square extends ElementTexture {
                 +
                 ", tN='" + this.getTextureName().substring(0, maxTRONCATE) + '\''
                 +
-                ", mE=" + (mapElement != null ? mapElement.toString() : "null")
+                ", mE=" + (getMapElement() != null ? getMapElement().toString() : "null")
                 +
                 "} ";
     }
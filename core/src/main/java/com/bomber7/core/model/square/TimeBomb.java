@@ -1,5 +1,6 @@
 package com.bomber7.core.model.square;
 
+import com.bomber7.core.model.TimerWheel;
 import com.bomber7.core.model.map.LevelMap;
 import com.bomber7.utils.Constants;
 import com.bomber7.core.model.entities.Character;
@@ -21,6 +22,11 @@ public class TimeBomb extends Bomb {
      */
     public static final String TEXTURE_PREFIX = "time-bomb";
 
+    /**
+     * The texture names of the two blinking frames.
+     */
+    private static final String[] FRAMES = {TEXTURE_PREFIX + "-1", TEXTURE_PREFIX + "-2"};
+
     /**
      * Timer to determine when to switch beetween textures.
      */
@@ -30,6 +36,21 @@ public class TimeBomb extends Bomb {
      */
     private boolean textureToggle = false;
 
+    /**
+     * Delay (in seconds) between two texture switches.
+     */
+    private static final float ANIMATION_SWAP_DELTA = 0.5f;
+
+    /**
+     * The fuse scheduled on the map timers once the bomb is armed, null before.
+     */
+    private TimerWheel.Timer fuse;
+
+    /**
+     * The texture switch scheduled on the map timers once the bomb is armed, null before.
+     */
+    private TimerWheel.Timer blink;
+
     /**
      * Constructs a TimeBomb with the specified explosion power, sprite file path and timer.
      * @param p power of the bomb
@@ -38,18 +59,80 @@ public class TimeBomb extends Bomb {
      * @param c the character that planted this bomb
      */
     public TimeBomb(int p, int x, int y, Character c) {
-        super(p, x, y, TimeBomb.TEXTURE_PREFIX + "-1", c);
+        super(p, x, y, FRAMES[0], c);
         this.timeRemaining = Constants.BOMB_TIMER;
     }
 
+    /**
+     * Arms the bomb on the timers of the map: it will blink and explode after {@link Constants#BOMB_TIMER}
+     * seconds of simulation, without having to be ticked.
+     * @param map the map on which the bomb is located
+     * @throws NullPointerException if the map is null
+     */
+    public void arm(LevelMap map) {
+        if (map == null) {
+            throw new NullPointerException("LevelMap cannot be null");
+        }
+        if (fuse != null) {
+            return;
+        }
+        schedule(map, secondsToTicks(this.timeRemaining));
+    }
+
+    /**
+     * Arms the bomb again with a given fuse, replacing the timers it had, e.g. when the map is restored.
+     * @param map the map on which the bomb is located
+     * @param fuseTicks the number of ticks before the bomb explodes, at least 1
+     * @throws NullPointerException if the map is null
+     */
+    public void rearm(LevelMap map, long fuseTicks) {
+        if (map == null) {
+            throw new NullPointerException("LevelMap cannot be null");
+        }
+        if (fuse != null) {
+            fuse.cancel();
+            blink.cancel();
+        }
+        this.timeRemaining = fuseTicks * Constants.TICK_DURATION;
+        schedule(map, fuseTicks);
+    }
+
+    /**
+     * Checks whether the bomb is armed on the timers of its map and has not exploded yet.
+     * @return true if the fuse of the bomb is burning
+     */
+    public boolean isArmed() {
+        return fuse != null && fuse.isPending();
+    }
+
+    /**
+     * Schedules the texture switches and the fuse of the bomb on the timers of the map.
+     * @param map the map on which the bomb is located
+     * @param fuseTicks the number of ticks before the bomb explodes
+     */
+    private void schedule(LevelMap map, long fuseTicks) {
+        TimerWheel timers = map.getTimers();
+        blink = timers.scheduleRepeating(secondsToTicks(ANIMATION_SWAP_DELTA), () -> {
+            if (hasExploded()) {
+                blink.cancel();
+            } else {
+                toggleTexture();
+            }
+        });
+        fuse = timers.schedule(fuseTicks, () -> {
+            blink.cancel();
+            this.timeRemaining = 0;
+            activateBomb(map);
+        });
+    }
+
     /**
      * Decreases the countdown timer based on the time delta.
+     * Only needed for bombs that were not {@link #arm(LevelMap) armed}.
      * @param map the map on which the bomb is located
      * @param delta the elapsed time (in seconds) to decrease
      */
     public void tick(LevelMap map, float delta) {
-        final float animationSwapDelta = 0.5f;
-
         if (map == null) {
             throw new NullPointerException("LevelMap cannot be null");
         }
@@ -59,9 +142,8 @@ public class TimeBomb extends Bomb {
 
             // Switching between textures every 0.5 seconds
             animationTimer += delta;
-            if (animationTimer >= animationSwapDelta) {
-                textureToggle = !textureToggle;
-                this.setTextureName(textureToggle ? TEXTURE_PREFIX + "-2" : TEXTURE_PREFIX + "-1");
+            if (animationTimer >= ANIMATION_SWAP_DELTA) {
+                toggleTexture();
                 animationTimer = 0f;
             }
 
@@ -77,8 +159,39 @@ public class TimeBomb extends Bomb {
      * @return current value (in seconds)
      */
     public float getTimer() {
+        if (fuse != null && fuse.isPending()) {
+            return fuse.getRemainingTicks() * Constants.TICK_DURATION;
+        }
         return this.timeRemaining;
     }
 
+    /**
+     * Retrieves the number of ticks before the bomb explodes.
+     * @return the remaining ticks, at least 1 while the bomb has not exploded
+     */
+    public long getRemainingTicks() {
+        if (fuse != null && fuse.isPending()) {
+            return fuse.getRemainingTicks();
+        }
+        return secondsToTicks(this.timeRemaining);
+    }
+
+    /**
+     * Switches between the two textures of the bomb, to make it blink.
+     */
+    private void toggleTexture() {
+        textureToggle = !textureToggle;
+        this.setTextureName(textureToggle ? FRAMES[1] : FRAMES[0]);
+    }
+
+    /**
+     * Converts a duration to a number of simulation ticks.
+     * @param seconds the duration (in seconds)
+     * @return the number of ticks, at least 1
+     */
+    private static long secondsToTicks(float seconds) {
+        return Math.max(1, Math.round(seconds * Constants.TICK_RATE));
+    }
+
 }
 
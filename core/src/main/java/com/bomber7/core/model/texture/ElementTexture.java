@@ -21,6 +21,11 @@ public abstract class ElementTexture {
      * This mask is used to isolate the right texture ID from the flip flags.
      */
     public static final int ID_MASK = ~(FLIP_H | FLIP_V | FLIP_D);
+    /**
+     * FLIP_SHIFT - Shift moving the three flip flags down to the low bits of a byte.
+     * Packed flips are used by the flat map storage to keep one byte per cell.
+     */
+    public static final int FLIP_SHIFT = 29;
 
     /**
      * No rotation constant.
@@ -41,6 +46,11 @@ public abstract class ElementTexture {
      */
     private String textureName;
 
+    /**
+     * The {@link TextureIds} id of {@link #textureName}.
+     */
+    private int textureId;
+
     /**
      * Whether to flip the texture vertically.
      */
@@ -75,6 +85,7 @@ public abstract class ElementTexture {
         }
 
         this.textureName = textureName;
+        this.textureId = TextureIds.of(textureName);
         this.verticalFlip = verticalFlip;
         this.horizontalFlip = horizontalFlip;
         this.diagonalFlip = diagonalFlip;
@@ -96,6 +107,16 @@ public abstract class ElementTexture {
      */
     public void setTextureName(String textureName) {
         this.textureName = textureName;
+        this.textureId = TextureIds.of(textureName);
+    }
+
+    /**
+     * Returns the id of the texture of this element, resolved once when the texture name is set.
+     *
+     * @return the {@link TextureIds} id of the texture name
+     */
+    public int getTextureId() {
+        return this.textureId;
     }
 
     /**
@@ -127,20 +148,58 @@ public abstract class ElementTexture {
      * @return the angle of rotation in degrees
      */
     public float computeRotation() {
-        if (!isHorizontalFlip() && !isVerticalFlip()) {
+        return computeRotation(isHorizontalFlip(), isVerticalFlip());
+    }
+
+    /**
+     * Calculate the rotation matching the given flip flags.
+     * @param horizontalFlip whether the texture is flipped horizontally
+     * @param verticalFlip whether the texture is flipped vertically
+     * @return the angle of rotation in degrees
+     */
+    public static float computeRotation(boolean horizontalFlip, boolean verticalFlip) {
+        if (!horizontalFlip && !verticalFlip) {
             return NO_ROTATION;
         }
 
-        if (!isHorizontalFlip() && isVerticalFlip()) {
+        if (!horizontalFlip) {
             return ROTATION_90;
         }
 
-        if (isHorizontalFlip() && !isVerticalFlip()) {
+        if (!verticalFlip) {
             return ROTATION_MINUS_90;
         }
-        if (isHorizontalFlip() && isVerticalFlip()) {
-            return ROTATION_180;
-        }
-        return 0f;
+        return ROTATION_180;
+    }
+
+    /**
+     * Calculate the rotation matching flip flags packed with {@link #packFlips(boolean, boolean, boolean)}.
+     * @param packedFlips the packed flip flags
+     * @return the angle of rotation in degrees
+     */
+    public static float computeRotation(int packedFlips) {
+        return computeRotation(hasFlip(packedFlips, FLIP_H), hasFlip(packedFlips, FLIP_V));
+    }
+
+    /**
+     * Packs the three flip flags in the low bits of a byte, in the same order as in a raw tile id.
+     * @param verticalFlip whether the texture is flipped vertically
+     * @param horizontalFlip whether the texture is flipped horizontally
+     * @param diagonalFlip whether the texture is flipped diagonally
+     * @return the packed flip flags
+     */
+    public static byte packFlips(boolean verticalFlip, boolean horizontalFlip, boolean diagonalFlip) {
+        int flips = (verticalFlip ? FLIP_V : 0) | (horizontalFlip ? FLIP_H : 0) | (diagonalFlip ? FLIP_D : 0);
+        return (byte) (flips >>> FLIP_SHIFT);
+    }
+
+    /**
+     * Checks whether packed flip flags contain the given flag.
+     * @param packedFlips the packed flip flags
+     * @param flag one of {@link #FLIP_H}, {@link #FLIP_V} or {@link #FLIP_D}
+     * @return true if the flag is set
+     */
+    public static boolean hasFlip(int packedFlips, int flag) {
+        return (packedFlips & (flag >>> FLIP_SHIFT)) != 0;
     }
 }
@@ -0,0 +1,68 @@
+package com.bomber7.core.model.texture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry giving every texture name a dense integer id, so that views can look textures up in arrays
+ * instead of searching an atlas by name on every frame.
+ * <p>
+ * Names are registered when the elements using them are created, i.e. mostly when a map loads. Ids are
+ * never reused: the same name always gets the same id for the lifetime of the process. The registry is
+ * shared by every map and safe to use from concurrent headless matches.
+ * </p>
+ */
+public final class TextureIds {
+
+    /** Id of every registered name. */
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+
+    /** Registered names, indexed by id. Guarded by itself. */
+    private static final List<String> NAMES = new ArrayList<>();
+
+    private TextureIds() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the id of a texture name, registering the name on first use.
+     * @param name the texture name
+     * @return the id of the name
+     */
+    public static int of(String name) {
+        Integer id = IDS.get(name);
+        if (id != null) {
+            return id;
+        }
+        synchronized (NAMES) {
+            return IDS.computeIfAbsent(name, registered -> {
+                NAMES.add(registered);
+                return NAMES.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Returns the texture name of an id.
+     * @param id an id returned by {@link #of(String)}
+     * @return the texture name
+     * @throws IndexOutOfBoundsException if the id was never returned
+     */
+    public static String nameOf(int id) {
+        synchronized (NAMES) {
+            return NAMES.get(id);
+        }
+    }
+
+    /**
+     * Returns the number of registered names, which bounds every id returned so far.
+     * @return the number of ids
+     */
+    public static int count() {
+        synchronized (NAMES) {
+            return NAMES.size();
+        }
+    }
+}
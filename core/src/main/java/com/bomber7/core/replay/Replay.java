@@ -0,0 +1,186 @@
+package com.bomber7.core.replay;
+
+import com.bomber7.utils.GameCharacter;
+import com.bomber7.utils.PlayerBlueprint;
+import com.bomber7.utils.PlayerStrategy;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A decoded replay: the header of the round and its control changes, in tick order.
+ * Written by {@link ReplayWriter}, played back through a {@link ReplayInputSource}.
+ */
+public final class Replay {
+
+    /** Initial capacity of the event arrays. */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** The header of the replay. */
+    private final ReplayHeader header;
+
+    /** Tick of each event. */
+    private final long[] eventTicks;
+
+    /** Controller index of each event. */
+    private final int[] eventControllers;
+
+    /** Control mask of each event. */
+    private final int[] eventMasks;
+
+    /** Number of events. */
+    private final int eventCount;
+
+    /** Number of ticks of the round. */
+    private final long tickCount;
+
+    /**
+     * Creates a decoded replay.
+     * @param header the header of the round
+     * @param eventTicks the tick of each event
+     * @param eventControllers the controller index of each event
+     * @param eventMasks the control mask of each event
+     * @param eventCount the number of events
+     * @param tickCount the number of ticks of the round
+     */
+    private Replay(
+        ReplayHeader header,
+        long[] eventTicks,
+        int[] eventControllers,
+        int[] eventMasks,
+        int eventCount,
+        long tickCount
+    ) {
+        this.header = header;
+        this.eventTicks = eventTicks;
+        this.eventControllers = eventControllers;
+        this.eventMasks = eventMasks;
+        this.eventCount = eventCount;
+        this.tickCount = tickCount;
+    }
+
+    /**
+     * Reads a replay file.
+     * @param path the file to read
+     * @return the decoded replay
+     * @throws IOException if the file cannot be read or is not a valid replay
+     */
+    public static Replay load(Path path) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a replay.
+     * @param in the source, which is not closed
+     * @return the decoded replay
+     * @throws IOException if the source cannot be read or is not a valid replay
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != ReplayWriter.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedByte();
+        if (version != ReplayWriter.VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        String mapName = data.readUTF();
+        long seed = data.readLong();
+        int windowWidth = (int) Varint.read(data);
+        int windowHeight = (int) Varint.read(data);
+
+        PlayerBlueprint[] blueprints = new PlayerBlueprint[data.readUnsignedByte()];
+        for (int i = 0; i < blueprints.length; i++) {
+            if (data.readBoolean()) {
+                blueprints[i] = new PlayerBlueprint(data.readUTF());
+                blueprints[i].setStrategy(PlayerStrategy.values()[data.readUnsignedByte()]);
+                int character = data.readByte();
+                blueprints[i].setCharacter(character == ReplayWriter.NO_CHARACTER ? null : GameCharacter.values()[character]);
+            }
+        }
+
+        long[] ticks = new long[INITIAL_CAPACITY];
+        int[] controllers = new int[INITIAL_CAPACITY];
+        int[] masks = new int[INITIAL_CAPACITY];
+        int count = 0;
+        long tick = 0;
+
+        while (true) {
+            tick += Varint.read(data);
+            int controller = (int) Varint.read(data);
+            if (controller == ReplayWriter.END_OF_ROUND) {
+                break;
+            }
+            if (count == ticks.length) {
+                ticks = Arrays.copyOf(ticks, count * 2);
+                controllers = Arrays.copyOf(controllers, count * 2);
+                masks = Arrays.copyOf(masks, count * 2);
+            }
+            ticks[count] = tick;
+            controllers[count] = controller - 1;
+            masks[count] = (int) Varint.read(data);
+            count++;
+        }
+
+        ReplayHeader header = new ReplayHeader(mapName, seed, windowWidth, windowHeight, blueprints);
+        return new Replay(header, ticks, controllers, masks, count, tick);
+    }
+
+    /**
+     * Returns the header of the round.
+     * @return the replay header
+     */
+    public ReplayHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the number of ticks of the round.
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the number of control changes.
+     * @return the event count
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Returns the tick of an event.
+     * @param event the index of the event
+     * @return the tick
+     */
+    long getEventTick(int event) {
+        return eventTicks[event];
+    }
+
+    /**
+     * Returns the controller index of an event.
+     * @param event the index of the event
+     * @return the controller index
+     */
+    int getEventController(int event) {
+        return eventControllers[event];
+    }
+
+    /**
+     * Returns the control mask of an event.
+     * @param event the index of the event
+     * @return the control mask
+     */
+    int getEventMask(int event) {
+        return eventMasks[event];
+    }
+}
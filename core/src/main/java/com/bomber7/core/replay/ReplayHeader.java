@@ -0,0 +1,93 @@
+package com.bomber7.core.replay;
+
+import com.bomber7.utils.PlayerBlueprint;
+
+import java.util.Arrays;
+
+/**
+ * Everything needed to rebuild a round before replaying its inputs: the map, the seed of its random streams,
+ * the window size the map was laid out for and the players, indexed by slot.
+ * <p>
+ * The window size matters: it places the map in pixels, and the cells the recorded controls move the players to
+ * are rounded from pixel positions.
+ * </p>
+ */
+public final class ReplayHeader {
+
+    /** The asset name of the map. */
+    private final String mapName;
+
+    /** The seed of the random streams of the round. */
+    private final long seed;
+
+    /** The width of the window the map was laid out for, in pixels. */
+    private final int windowWidth;
+
+    /** The height of the window the map was laid out for, in pixels. */
+    private final int windowHeight;
+
+    /** The players, indexed by slot (null for an empty slot). */
+    private final PlayerBlueprint[] blueprints;
+
+    /**
+     * Creates a replay header.
+     * @param mapName the asset name of the map
+     * @param seed the seed of the random streams of the round
+     * @param windowWidth the width of the window the map was laid out for, in pixels
+     * @param windowHeight the height of the window the map was laid out for, in pixels
+     * @param blueprints the players, indexed by slot (null for an empty slot)
+     */
+    public ReplayHeader(String mapName, long seed, int windowWidth, int windowHeight, PlayerBlueprint[] blueprints) {
+        this.mapName = mapName;
+        this.seed = seed;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        this.blueprints = blueprints.clone();
+    }
+
+    /**
+     * Returns the asset name of the map.
+     * @return the map name
+     */
+    public String getMapName() {
+        return mapName;
+    }
+
+    /**
+     * Returns the seed of the random streams of the round.
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the width of the window the map was laid out for.
+     * @return the window width in pixels
+     */
+    public int getWindowWidth() {
+        return windowWidth;
+    }
+
+    /**
+     * Returns the height of the window the map was laid out for.
+     * @return the window height in pixels
+     */
+    public int getWindowHeight() {
+        return windowHeight;
+    }
+
+    /**
+     * Returns the players, indexed by slot.
+     * @return a copy of the blueprints, with null for empty slots
+     */
+    public PlayerBlueprint[] getBlueprints() {
+        return blueprints.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "ReplayHeader{map=" + mapName + ", seed=" + seed + ", window=" + windowWidth + "x" + windowHeight
+            + ", players=" + Arrays.toString(blueprints) + "}";
+    }
+}
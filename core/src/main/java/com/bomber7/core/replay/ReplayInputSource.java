@@ -0,0 +1,69 @@
+package com.bomber7.core.replay;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.controller.InputSource;
+import com.bomber7.utils.PlayerBlueprint;
+
+import java.util.Arrays;
+
+/**
+ * Plays the controls of a replay back, tick after tick, through the usual controller path.
+ * <p>
+ * Replays store controls by controller index, controllers being created in slot order for the present players:
+ * the slot polled by an {@link com.bomber7.core.controller.InputController} is mapped back to that index.
+ * </p>
+ */
+public class ReplayInputSource implements InputSource {
+
+    /** Marks an empty slot. */
+    private static final int NO_CONTROLLER = -1;
+
+    /** The replay to play. */
+    private final Replay replay;
+
+    /** Controller index of each slot. */
+    private final int[] slotControllers;
+
+    /** Current controls of each controller. */
+    private final int[] masks;
+
+    /** Index of the next event to apply. */
+    private int nextEvent;
+
+    /**
+     * Creates a playback source.
+     * @param replay the replay to play
+     */
+    public ReplayInputSource(Replay replay) {
+        this.replay = replay;
+        PlayerBlueprint[] blueprints = replay.getHeader().getBlueprints();
+        this.slotControllers = new int[blueprints.length];
+        int controllers = 0;
+        for (int slot = 0; slot < blueprints.length; slot++) {
+            slotControllers[slot] = blueprints[slot] == null ? NO_CONTROLLER : controllers++;
+        }
+        this.masks = new int[controllers];
+        Arrays.fill(masks, ControlMask.NONE);
+    }
+
+    /**
+     * Returns the recorded controls of a player. Ticks must be polled in increasing order.
+     * @param tick the index of the tick
+     * @param playerIndex the slot of the player
+     * @return the recorded {@link ControlMask}, or {@link ControlMask#NONE} for an unknown player
+     */
+    @Override
+    public int poll(long tick, int playerIndex) {
+        while (nextEvent < replay.getEventCount() && replay.getEventTick(nextEvent) <= tick) {
+            int controller = replay.getEventController(nextEvent);
+            if (controller < masks.length) {
+                masks[controller] = replay.getEventMask(nextEvent);
+            }
+            nextEvent++;
+        }
+        if (playerIndex < 0 || playerIndex >= slotControllers.length || slotControllers[playerIndex] == NO_CONTROLLER) {
+            return ControlMask.NONE;
+        }
+        return masks[slotControllers[playerIndex]];
+    }
+}
@@ -0,0 +1,134 @@
+package com.bomber7.core.replay;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.controller.InputRecorder;
+import com.bomber7.utils.PlayerBlueprint;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Records the controls of a round into the compact replay format.
+ * <p>
+ * Only changes are stored: an event is written when the controls of a controller differ from the previous tick,
+ * as three varints (ticks since the previous event, controller index + 1, control mask). A controller index of 0
+ * marks the end of the round. Events are buffered in memory, so recording never does I/O during a tick.
+ * </p>
+ */
+public class ReplayWriter implements InputRecorder {
+
+    /** Magic number opening a replay file ("B7RP"). */
+    static final int MAGIC = 0x42375250;
+
+    /** Version of the replay format. Version 1 did not store the window size and cannot be played back. */
+    static final int VERSION = 2;
+
+    /** Controller field of the event marking the end of the round. */
+    static final int END_OF_ROUND = 0;
+
+    /** Value written for a missing character in a blueprint. */
+    static final int NO_CHARACTER = -1;
+
+    /** The header of the replay. */
+    private final ReplayHeader header;
+
+    /** The encoded events. */
+    private final ByteArrayOutputStream events = new ByteArrayOutputStream();
+
+    /** The last controls recorded for each controller. */
+    private int[] lastMasks = new int[0];
+
+    /** The tick of the last written event. */
+    private long lastEventTick;
+
+    /** The last recorded tick. */
+    private long lastTick = -1;
+
+    /**
+     * Creates a recorder.
+     * @param header the map, seed and players of the recorded round
+     */
+    public ReplayWriter(ReplayHeader header) {
+        this.header = header;
+    }
+
+    @Override
+    public void record(long tick, int controllerIndex, int mask) {
+        if (controllerIndex >= lastMasks.length) {
+            int oldLength = lastMasks.length;
+            lastMasks = Arrays.copyOf(lastMasks, controllerIndex + 1);
+            Arrays.fill(lastMasks, oldLength, lastMasks.length, ControlMask.NONE);
+        }
+        lastTick = Math.max(lastTick, tick);
+        if (lastMasks[controllerIndex] == mask) {
+            return;
+        }
+        lastMasks[controllerIndex] = mask;
+        Varint.write(events, tick - lastEventTick);
+        Varint.write(events, controllerIndex + 1);
+        Varint.write(events, mask);
+        lastEventTick = tick;
+    }
+
+    /**
+     * Returns the number of ticks recorded so far.
+     * @return the tick count
+     */
+    public long getRecordedTicks() {
+        return lastTick + 1;
+    }
+
+    /**
+     * Writes the replay of the ticks recorded so far.
+     * @param out the destination, which is not closed
+     * @throws IOException if the destination cannot be written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(header.getMapName());
+        data.writeLong(header.getSeed());
+        ByteArrayOutputStream window = new ByteArrayOutputStream();
+        Varint.write(window, header.getWindowWidth());
+        Varint.write(window, header.getWindowHeight());
+        window.writeTo(data);
+
+        PlayerBlueprint[] blueprints = header.getBlueprints();
+        data.writeByte(blueprints.length);
+        for (PlayerBlueprint blueprint : blueprints) {
+            data.writeBoolean(blueprint != null);
+            if (blueprint != null) {
+                data.writeUTF(blueprint.getName());
+                data.writeByte(blueprint.getStrategy().ordinal());
+                data.writeByte(blueprint.getCharacter() == null ? NO_CHARACTER : blueprint.getCharacter().ordinal());
+            }
+        }
+
+        events.writeTo(data);
+        ByteArrayOutputStream end = new ByteArrayOutputStream();
+        Varint.write(end, getRecordedTicks() - lastEventTick);
+        Varint.write(end, END_OF_ROUND);
+        end.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Saves the replay of the ticks recorded so far to a file, creating its parent directories.
+     * @param path the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.bomber7.core.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.IOException;
+
+/**
+ * LEB128 encoding of non-negative integers: 7 bits per byte, the high bit telling whether more bytes follow.
+ * Small values (most tick deltas, controller indexes and control masks) take a single byte.
+ */
+final class Varint {
+
+    /** Bits of payload per byte. */
+    private static final int PAYLOAD_BITS = 7;
+
+    /** Mask of the payload bits of a byte. */
+    private static final int PAYLOAD_MASK = 0x7F;
+
+    /** Continuation bit of a byte. */
+    private static final int CONTINUATION = 0x80;
+
+    /** Maximum shift of a 64 bits value. */
+    private static final int MAX_SHIFT = 63;
+
+    private Varint() { }
+
+    /**
+     * Writes a value.
+     * @param out the destination
+     * @param value the value, must not be negative
+     * @throws IllegalArgumentException if the value is negative
+     */
+    static void write(ByteArrayOutputStream out, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Varint value cannot be negative: " + value);
+        }
+        long remaining = value;
+        while ((remaining & ~PAYLOAD_MASK) != 0) {
+            out.write((int) (remaining & PAYLOAD_MASK) | CONTINUATION);
+            remaining >>>= PAYLOAD_BITS;
+        }
+        out.write((int) remaining);
+    }
+
+    /**
+     * Reads a value.
+     * @param in the source
+     * @return the value
+     * @throws IOException if the source cannot be read or the value is malformed
+     */
+    static long read(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift <= MAX_SHIFT; shift += PAYLOAD_BITS) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & PAYLOAD_MASK) << shift;
+            if ((b & CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+}
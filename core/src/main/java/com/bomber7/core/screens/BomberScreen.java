@@ -6,14 +6,23 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.scenes.scene2d.Stage;
-import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.bomber7.core.BomberGame;
+import com.bomber7.core.ConfigManager;
+import com.bomber7.utils.Language;
 import com.bomber7.utils.MVCComponent;
 import com.bomber7.core.ResourceManager;
 import com.bomber7.utils.ScreenType;
 
 /**
  * An abstract Screen class that all bomber screens should inherit from.
+ * <p>
+ * Every screen draws with the batch and viewport of the {@link BomberGame}, so that a new screen does not
+ * allocate a vertex buffer and a shader, and disposing a screen leaves them alone.
+ * </p>
+ * <p>
+ * Screens are pooled by {@link com.bomber7.core.ScreenManager}: each is built once, then {@link #reset(Object...)
+ * reset} every time it is shown again instead of being built anew.
+ * </p>
  */
 public abstract class BomberScreen extends Stage implements Screen, MVCComponent {
     /**
@@ -28,17 +37,55 @@ public abstract class BomberScreen extends Stage implements Screen, MVCComponent
      * Reference to the ResourceManager instance for easier resources access.
      */
     protected final ResourceManager resources;
+    /**
+     * Language the actors of this screen were built in, as their labels hold translated texts.
+     */
+    private Language builtLanguage;
 
     /**
      * Initializes the screen.
      * @param game the Game instance this screen belongs to
      */
     public BomberScreen(Game game) {
-        super(new ScreenViewport());
+        super(((BomberGame) game).getViewport(), ((BomberGame) game).getBatch());
 
         this.game = (BomberGame) game;
         this.resources = ResourceManager.getInstance();
         this.bgColor = resources.getSkin().getColor("darkBlue");
+        this.builtLanguage = ConfigManager.getInstance().getConfig().getLanguage();
+    }
+
+    /**
+     * Brings this pooled screen back to the state of a newly built one, before it is shown again.
+     * The screen is {@link #bind(Object...) bound} to the game, and rebuilt if it cannot reset in place
+     * or if the language changed since it was built.
+     * @param params the parameters the screen would have been built with
+     */
+    public final void reset(Object... params) {
+        boolean resetInPlace = bind(params);
+        if (!resetInPlace || builtLanguage != ConfigManager.getInstance().getConfig().getLanguage()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Lifecycle hook binding this screen to the current state of the game and to its parameters when it is reused.
+     * Screens able to reset their actors in place override it; by default the screen is rebuilt.
+     * @param params the parameters the screen would have been built with
+     * @return true if the screen was reset in place, false if it must be rebuilt
+     */
+    protected boolean bind(Object... params) {
+        return false;
+    }
+
+    /**
+     * Clears the actors of this screen and builds them again.
+     */
+    protected void rebuild() {
+        clear();
+        builtLanguage = ConfigManager.getInstance().getConfig().getLanguage();
+        initView();
+        initController();
     }
 
     @Override
@@ -5,9 +5,9 @@ import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.bomber7.core.components.PlayerScoreBoard;
-import com.bomber7.core.controller.HumanController;
 import com.bomber7.core.model.entities.Character;
 import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
 import com.bomber7.core.views.ViewCharacter;
 import com.bomber7.utils.Dimensions;
 import com.bomber7.utils.ScreenType;
@@ -30,6 +30,16 @@ public class GameScreen extends BomberScreen {
      */
     private List<PlayerScoreBoard> scoreboards;
 
+    /**
+     * The view of the map, holding the cache of its static layer.
+     */
+    private ViewMap viewMap;
+
+    /**
+     * The map of the round this screen shows.
+     */
+    private LevelMap levelMap;
+
     /**
      * Constructs a new GameScreen associated with the given game.
      * @param game the Game instance this screen belongs to
@@ -52,8 +62,9 @@ public class GameScreen extends BomberScreen {
 
         List<ViewCharacter> characterViews = new ArrayList<>();
         scoreboards = new ArrayList<>();
+        levelMap = game.getCurrentMap();
 
-        for (Character character : game.getCurrentMap().getCharacters()) {
+        for (Character character : levelMap.getCharacters()) {
                 ViewCharacter characterView = new ViewCharacter(
                     character,
                     resources
@@ -61,7 +72,7 @@ public class GameScreen extends BomberScreen {
                 characterViews.add(characterView);
         }
 
-        ViewMap viewMap = new ViewMap(game.getCurrentMap(), characterViews, resources);
+        viewMap = new ViewMap(levelMap, characterViews, resources);
 
         mainTable.add(viewMap)
             .expandX()
@@ -69,7 +80,7 @@ public class GameScreen extends BomberScreen {
 
         Table scoreTable = new Table();
 
-        for (Character character : game.getCurrentMap().getCharacters()) {
+        for (Character character : levelMap.getCharacters()) {
             Player player = (Player) character;
             PlayerScoreBoard scoreBoard = new PlayerScoreBoard(player);
             scoreboards.add(scoreBoard);
@@ -99,14 +110,20 @@ public class GameScreen extends BomberScreen {
      */
     public void render(float delta) {
         processInput();
+        super.render(delta);
+    }
 
-        for (PlayerScoreBoard scoreBoard : scoreboards) {
-            scoreBoard.refresh();
-        }
-
-        game.update();
+    @Override
+    protected boolean bind(Object... params) {
+        // Resuming after a pause keeps the views, a new round needs new ones
+        return levelMap == game.getCurrentMap();
+    }
 
-        super.render(delta);
+    @Override
+    protected void rebuild() {
+        detachScoreboards();
+        viewMap.dispose();
+        super.rebuild();
     }
 
     @Override
@@ -115,6 +132,22 @@ public class GameScreen extends BomberScreen {
         SoundManager.getInstance().playFightMusic();
     }
 
+    @Override
+    public void dispose() {
+        detachScoreboards();
+        viewMap.dispose();
+        super.dispose();
+    }
+
+    /**
+     * Stops the scoreboards of this screen from observing their players, which outlive the round.
+     */
+    private void detachScoreboards() {
+        for (PlayerScoreBoard scoreBoard : scoreboards) {
+            scoreBoard.detach();
+        }
+    }
+
     @Override
     public ScreenType getScreenType() {
         return ScreenType.GAME;
@@ -122,14 +155,11 @@ public class GameScreen extends BomberScreen {
 
     /**
      * Processes the Escape key in order to pause the game.
+     * Player inputs are processed by the simulation ticks of {@link com.bomber7.core.BomberGame}.
      */
     public void processInput() {
         if (Gdx.input.isKeyPressed(Input.Keys.ESCAPE)) {
             game.pause();
         }
-
-        for (HumanController humanController : game.getHumanControllers()) {
-            humanController.processKeys();
-        }
     }
 }
@@ -27,11 +27,11 @@ public class KeyBindingScreen extends BomberScreen implements InputProcessor {
     /**
      * The dialog that will be shown when a user clicks on any inputButton to rebind a control to a new key.
      */
-    private final InputDialog inputDialog;
+    private InputDialog inputDialog;
     /**
      * The index of the player this binding screen is associated to.
      */
-    private final int playerIndex;
+    private int playerIndex;
     /**
      * A button to go back to the settings screen.
      */
@@ -55,6 +55,13 @@ public class KeyBindingScreen extends BomberScreen implements InputProcessor {
         super(game);
 
         this.playerIndex = playerIndex;
+
+        initView();
+        initController();
+    }
+
+    @Override
+    public void initView() {
         inputDialog = new InputDialog(resources, playerIndex) {
 
             @Override
@@ -67,12 +74,6 @@ public class KeyBindingScreen extends BomberScreen implements InputProcessor {
             }
         };
 
-        initView();
-        initController();
-    }
-
-    @Override
-    public void initView() {
         BomberTable table = new BomberTable();
         table.setFillParent(true);
 
@@ -154,6 +155,15 @@ public class KeyBindingScreen extends BomberScreen implements InputProcessor {
         }
     }
 
+    @Override
+    protected boolean bind(Object... params) {
+        // The bindings are refreshed when shown, only another player needs other actors
+        int index = (int) params[0];
+        boolean samePlayer = index == playerIndex;
+        playerIndex = index;
+        return samePlayer;
+    }
+
     @Override
     public ScreenType getScreenType() {
         return ScreenType.KEY_BINDING;
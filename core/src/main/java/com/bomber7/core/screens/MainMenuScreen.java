@@ -109,6 +109,12 @@ public class MainMenuScreen extends BomberScreen {
         }));
     }
 
+    @Override
+    protected boolean bind(Object... params) {
+        // Nothing changes on this screen
+        return true;
+    }
+
     @Override
     public void show() {
         super.show();
@@ -178,6 +178,18 @@ public class MapSelectionScreen extends BomberScreen implements Observer {
         }));
     }
 
+    @Override
+    protected boolean bind(Object... params) {
+        for (MapCheckBox mapCheckBox : mapCheckboxes) {
+            if (mapCheckBox.isChecked()) {
+                mapCheckBox.uncheck();
+            }
+        }
+        rounds = Constants.MIN_ROUNDS;
+        roundsNumberLabel.setText(String.valueOf(rounds));
+        return true;
+    }
+
     /**
      * Updates the checkedCount variable which holds the current number of checked MapCheckboxes.
      */
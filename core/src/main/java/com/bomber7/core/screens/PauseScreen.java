@@ -107,6 +107,12 @@ public class PauseScreen extends BomberScreen {
         }));
     }
 
+    @Override
+    protected boolean bind(Object... params) {
+        // Nothing changes on this screen
+        return true;
+    }
+
     @Override
     public void show() {
         super.show();
@@ -106,6 +106,16 @@ public class PlayerSelectionScreen extends BomberScreen implements Observer {
         }));
     }
 
+    @Override
+    protected boolean bind(Object... params) {
+        for (PlayerBlueprintObservable observable : playerBlueprintObservables) {
+            if (!observable.isDisposed()) {
+                observable.dispose();
+            }
+        }
+        return true;
+    }
+
     @Override
     public void refresh(Subject subject) {
         int validBlueprintsCount = 0;
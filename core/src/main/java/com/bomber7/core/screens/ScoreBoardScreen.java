@@ -117,6 +117,13 @@ public class ScoreBoardScreen extends BomberScreen {
         }
     }
 
+    @Override
+    public void show() {
+        super.show();
+        // The next round is built in the background while the players read the scores
+        game.preloadNextRound();
+    }
+
     @Override
     public ScreenType getScreenType() {
         return ScreenType.SCOREBOARD;
@@ -311,6 +311,14 @@ public class SettingsScreen extends BomberScreen {
         }
     }
 
+    @Override
+    protected boolean bind(Object... params) {
+        globalVolumeSlider.setValue((float) ConfigManager.getInstance().getConfig().getGlobalVolume());
+        musicVolumeSlider.setValue((float) ConfigManager.getInstance().getConfig().getMusicVolume());
+        updateSaveButtonState();
+        return true;
+    }
+
     @Override
     public void show() {
         super.show();
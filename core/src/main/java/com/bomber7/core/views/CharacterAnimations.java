@@ -0,0 +1,100 @@
+package com.bomber7.core.views;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.bomber7.core.model.entities.CharacterState;
+import com.bomber7.utils.Constants;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The animations of a character sprite sheet, one per {@link CharacterState}.
+ * <p>
+ * Animations only read their frames, so a single instance per sprite sheet is shared by every
+ * {@link ViewCharacter} using it, across rounds. See {@link com.bomber7.core.ResourceManager#getCharacterAnimations}.
+ * </p>
+ */
+public class CharacterAnimations {
+
+    /**
+     * The number of columns.
+     */
+    private static final int FRAME_COLS = 8;
+
+    /**
+     * The number of rows.
+     */
+    private static final int FRAME_ROWS = 7;
+
+    /**
+     * Animation of each state.
+     */
+    private final Map<CharacterState, Animation<TextureRegion>> animations = new EnumMap<>(CharacterState.class);
+
+    /**
+     * Splits a sprite sheet and creates the animations of every state.
+     * Each animation is extracted from specific rows in the texture grid.
+     * @param textureRegion the region of the sprite sheet
+     */
+    public CharacterAnimations(TextureRegion textureRegion) {
+        final int rowMoveLeft = 0;
+        final int rowMoveDown = 1;
+        final int rowMoveUp = 2;
+        final int rowStand = 5;
+        final int frameLoop = 3;
+        final int singleFrame = 1;
+        final int spriteSheetL3 = 3;
+        final int spriteSheetC2 = 2;
+        TextureRegion[][] region = textureRegion.split(
+            textureRegion.getTexture().getWidth() / FRAME_COLS,
+            textureRegion.getTexture().getHeight() / FRAME_ROWS);
+
+        Animation<TextureRegion> moveRight = createAnimation(region, rowMoveLeft, frameLoop);
+        animations.put(CharacterState.MOVING_RIGHT, moveRight);
+        animations.put(CharacterState.MOVING_LEFT, createMirroredAnimation(moveRight));
+        animations.put(CharacterState.MOVING_UP, createAnimation(region, rowMoveUp, frameLoop));
+        animations.put(CharacterState.MOVING_DOWN, createAnimation(region, rowMoveDown, frameLoop));
+        animations.put(CharacterState.STANDING_STILL, createAnimation(region, rowStand, singleFrame));
+        animations.put(CharacterState.DEAD, new Animation<>(Constants.FRAME_DURATION, region[spriteSheetL3][spriteSheetC2]));
+    }
+
+    /**
+     * Returns the animation of a state.
+     * @param state the state of the character
+     * @return the animation to play
+     */
+    public Animation<TextureRegion> get(CharacterState state) {
+        return animations.get(state);
+    }
+
+    /**
+     * Creates a generic animation from a row in the sprite sheet.
+     * @param region the 2D array of texture regions.
+     * @param row  the row index.
+     * @param frameCount the number of frames in the row.
+     * @return an Animation instance
+     */
+    private static Animation<TextureRegion> createAnimation(TextureRegion[][] region, int row, int frameCount) {
+        TextureRegion[] frames = new TextureRegion[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            frames[i] = region[row][i];
+        }
+        return new Animation<>(Constants.FRAME_DURATION, frames);
+    }
+
+    /**
+     * Creates a mirrored version of an animation by flipping the texture regions horizontally.
+     * @param baseAnimation The animation to be mirrored.
+     * @return The mirrored animation.
+     */
+    private static Animation<TextureRegion> createMirroredAnimation(Animation<TextureRegion> baseAnimation) {
+        TextureRegion[] frames = baseAnimation.getKeyFrames();
+        TextureRegion[] mirroredFrames = new TextureRegion[frames.length];
+        for (int i = 0; i < frames.length; i++) {
+            mirroredFrames[i] = new TextureRegion(frames[i]);
+            mirroredFrames[i].flip(true, false);
+        }
+        return new Animation<>(Constants.FRAME_DURATION, mirroredFrames);
+    }
+}
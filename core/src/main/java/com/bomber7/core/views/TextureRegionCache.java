@@ -0,0 +1,70 @@
+package com.bomber7.core.views;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.bomber7.core.model.texture.TextureIds;
+
+import java.util.Arrays;
+
+/**
+ * Regions of an atlas indexed by {@link TextureIds} id, so that drawing a texture is an array read instead of
+ * a search of the atlas by name.
+ * <p>
+ * Every id registered when the cache is created is resolved up front. Ids registered later, e.g. by a bonus
+ * revealed during the round, are resolved on their first lookup. Names missing from the atlas resolve to null.
+ * Meant to be used from the render thread only.
+ * </p>
+ */
+public class TextureRegionCache {
+
+    /** The atlas the regions come from. */
+    private final TextureAtlas atlas;
+
+    /** Regions indexed by texture id, null for names missing from the atlas. */
+    private TextureRegion[] regions;
+
+    /** Whether each id of {@link #regions} was looked up in the atlas already. */
+    private boolean[] resolved;
+
+    /**
+     * Creates a cache and resolves every texture id registered so far.
+     * @param atlas the atlas to look the regions up in
+     */
+    public TextureRegionCache(TextureAtlas atlas) {
+        this.atlas = atlas;
+        int count = TextureIds.count();
+        this.regions = new TextureRegion[count];
+        this.resolved = new boolean[count];
+        for (int id = 0; id < count; id++) {
+            resolve(id);
+        }
+    }
+
+    /**
+     * Returns the region of a texture id.
+     * @param textureId a {@link TextureIds} id
+     * @return the region, or null if the atlas has no region of that name
+     */
+    public TextureRegion get(int textureId) {
+        if (textureId < resolved.length && resolved[textureId]) {
+            return regions[textureId];
+        }
+        return resolve(textureId);
+    }
+
+    /**
+     * Looks a texture id up in the atlas and stores the result, growing the arrays if needed.
+     * @param textureId a {@link TextureIds} id
+     * @return the region, or null if the atlas has no region of that name
+     */
+    private TextureRegion resolve(int textureId) {
+        if (textureId >= regions.length) {
+            int capacity = Math.max(textureId + 1, TextureIds.count());
+            regions = Arrays.copyOf(regions, capacity);
+            resolved = Arrays.copyOf(resolved, capacity);
+        }
+        regions[textureId] = atlas.findRegion(TextureIds.nameOf(textureId));
+        resolved[textureId] = true;
+        return regions[textureId];
+    }
+}
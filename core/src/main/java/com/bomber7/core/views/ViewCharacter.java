@@ -1,6 +1,7 @@
 package com.bomber7.core.views;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
@@ -28,49 +29,9 @@ public class ViewCharacter extends Actor {
      */
     private final Character character;
     /**
-     * The texture containing the character's sprite sheet.
+     * The animations of the character's sprite sheet, shared with the other views of the same game character.
      */
-    private final TextureRegion textureRegion;
-
-    /**
-     * The number of columns.
-     */
-    private static final int FRAME_COLS = 8;
-
-    /**
-     * The number of rows.
-     */
-    private static final int FRAME_ROWS = 7;
-
-    /**
-     * Animation for moving to the right.
-     */
-    private Animation<TextureRegion> moveRight;
-
-    /**
-     * Animation for moving to the left.
-     */
-    private Animation<TextureRegion> moveLeft;
-
-    /**
-     * Animation for moving upward.
-     */
-    private Animation<TextureRegion> moveUp;
-
-    /**
-     * Animation for moving downward.
-     */
-    private Animation<TextureRegion> moveDown;
-
-    /**
-     * Animation for the standing (idle) position.
-     */
-    private Animation<TextureRegion> stand;
-
-    /**
-     * Animation for the death state.
-     */
-    private Animation<TextureRegion> die;
+    private final CharacterAnimations animations;
 
     /**
      * Width of player's name text.
@@ -83,9 +44,9 @@ public class ViewCharacter extends Actor {
     private float stateTime;
 
     /**
-     * Font used to print character's info.
+     * Font used to print character's info, shared by every character view.
      */
-    private BitmapFont font;
+    private final BitmapFont font;
 
     /**
      * Constructs a new ViewCharacter instance.
@@ -95,76 +56,13 @@ public class ViewCharacter extends Actor {
      */
     public ViewCharacter(Character character, ResourceManager resources) {
         this.character = character;
-        this.textureRegion = resources.getSpriteTextureRegion(character.getGameCharacter().getDrawableName());
+        this.animations = resources.getCharacterAnimations(character.getGameCharacter());
         this.stateTime = 0f;
         GlyphLayout nameContainer = new GlyphLayout();
         nameContainer.setText(resources.getSkin().getFont("pixelify-sm"), character.getName());
         nameLabelWidth = nameContainer.width;
 
-        BitmapFont originalFont = ResourceManager.getInstance().getSkin().getFont("pixelify-sm");
-        font = new BitmapFont(originalFont.getData(), originalFont.getRegion(), originalFont.usesIntegerPositions());
-
-        createAnimations();
-    }
-
-    /**
-     * Creates the various animations for the character using
-     * the sprite sheet texture. Each animation is extracted from
-     * specific rows in the texture grid.
-     */
-    private void createAnimations() {
-        final int rowMoveLeft = 0;
-        final int rowMoveDown = 1;
-        final int rowMoveUp = 2;
-        final int rowStand = 5;
-        final int frameLoop = 3;
-        final int singleFrame = 1;
-        final int spriteSheetL3 = 3;
-        final int spriteSheetC2 = 2;
-        TextureRegion[][] region = textureRegion.split(
-            textureRegion.getTexture().getWidth() / FRAME_COLS,
-            textureRegion.getTexture().getHeight() / FRAME_ROWS);
-
-        moveRight = createAnimation(region, rowMoveLeft, frameLoop);
-        moveLeft = createMirroredAnimation(region, moveRight, false);
-        moveUp = createAnimation(region, rowMoveUp, frameLoop);
-        moveDown = createAnimation(region, rowMoveDown, frameLoop);
-        stand = createAnimation(region, rowStand, singleFrame);
-        die = new Animation<>(Constants.FRAME_DURATION, region[spriteSheetL3][spriteSheetC2]);
-    }
-
-    /**
-     * Creates a generic animation from a row in the sprite sheet.
-     * @param region the 2D array of texture regions.
-     * @param row  the row index.
-     * @param frameCount the number of frames in the row.
-     * @return an Animation instance
-     */
-    private Animation<TextureRegion> createAnimation(TextureRegion[][] region, int row, int frameCount) {
-        TextureRegion[] frames = new TextureRegion[frameCount];
-        for (int i = 0; i < frameCount; i++) {
-            frames[i] = region[row][i];
-        }
-        return new Animation<>(Constants.FRAME_DURATION, frames);
-    }
-
-    /**
-     * Creates a mirrored version of an animation by flipping the texture regions horizontally.
-     * @param region The 2D array of texture regions (not used, may be removed).
-     * @param baseAnimation The animation to be mirrored.
-     * @param loop Whether the animation should loop.
-     * @return The mirrored animation.
-     */
-    private Animation<TextureRegion> createMirroredAnimation(
-        TextureRegion[][] region, Animation<TextureRegion> baseAnimation, boolean loop
-        ) {
-        TextureRegion[] frames = baseAnimation.getKeyFrames();
-        TextureRegion[] mirroredFrames = new TextureRegion[frames.length];
-        for (int i = 0; i < frames.length; i++) {
-            mirroredFrames[i] = new TextureRegion(frames[i]);
-            mirroredFrames[i].flip(true, false);
-        }
-        return new Animation<>(Constants.FRAME_DURATION, mirroredFrames);
+        font = resources.getCharacterFont();
     }
 
     /**
@@ -174,10 +72,8 @@ public class ViewCharacter extends Actor {
      */
     @Override
     public void draw(Batch batch, float parentAlpha) {
-        if (!character.isAlive()) {
-            font.setColor(ResourceManager.getInstance().getSkin().getColor("darkRed"));
-        }
-        Animation<TextureRegion> currentAnimation = getCurrentAnimation();
+        font.setColor(character.isAlive() ? Color.WHITE : ResourceManager.getInstance().getSkin().getColor("darkRed"));
+        Animation<TextureRegion> currentAnimation = animations.get(character.getMovingStatus());
         TextureRegion currentFrame = currentAnimation.getKeyFrame(stateTime, true);
         stateTime += Gdx.graphics.getDeltaTime();
 
@@ -213,25 +109,4 @@ public class ViewCharacter extends Actor {
             );
         }
     }
-
-    /**
-     * Determines the current animation based on the character's state.
-     * @return The current animation to be displayed.
-     */
-    private Animation<TextureRegion> getCurrentAnimation() {
-        switch (character.getMovingStatus()) {
-            case MOVING_RIGHT:
-                return moveRight;
-            case MOVING_LEFT:
-                return moveLeft;
-            case MOVING_UP:
-                return moveUp;
-            case MOVING_DOWN:
-                return moveDown;
-            case STANDING_STILL:
-                return stand;
-            default:
-                return die;
-        }
-    }
 }
@@ -3,19 +3,24 @@ package com.bomber7.core.views;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.bomber7.utils.Constants;
 import com.bomber7.utils.Effect;
+import com.bomber7.utils.EffectType;
 
 /**
  * An actor used in {@link ViewMap} to draw animated game effects.
+ * <p>
+ * ViewEffects are pooled by {@link ViewMap}: each one owns its {@link Effect} and is restarted with
+ * {@link #start(int, int, EffectType)} instead of being allocated for every effect.
+ * </p>
  */
 public class ViewEffect extends Actor {
 
     /**
-     * The time duration of each frame in seconds.
+     * The time remaining for the effect to be displayed, in seconds.
      */
     private float timeRemaining;
 
     /**
-     * The time remaining for the effect to be displayed.
+     * The time spent on the current frame, in seconds.
      */
     private float animationTimer;
 
@@ -27,7 +32,7 @@ public class ViewEffect extends Actor {
     /**
      * The effect to be displayed.
      */
-    private Effect effect;
+    private final Effect effect;
 
     /**
      * Constructs a ViewEffect with the specified effect.
@@ -35,27 +40,47 @@ public class ViewEffect extends Actor {
      * @param effect the effect to be displayed
      */
     public ViewEffect(Effect effect) {
-        this.setX(effect.getX());
-        this.setY(effect.getY());
         this.effect = effect;
-        this.timeRemaining = effect.getType().getFramesCount() * Constants.FRAME_DURATION;
+        start(effect.getX(), effect.getY(), effect.getType());
+    }
+
+    /**
+     * Restarts this view with a new effect, reusing its {@link Effect}.
+     *
+     * @param x the X-coordinate of the square of the effect
+     * @param y the Y-coordinate of the square of the effect
+     * @param type the type of the effect
+     */
+    public void start(int x, int y, EffectType type) {
+        effect.set(x, y, type);
+        this.setX(x);
+        this.setY(y);
+        this.timeRemaining = type.getFramesCount() * Constants.FRAME_DURATION;
         this.animationTimer = 0f;
         this.currentFrameIndex = 0;
     }
 
     /**
-     * Returns the current texture name of the effect.
-     * @return the current texture name
+     * Returns the texture id of the current frame of the effect.
+     * @return the current {@link com.bomber7.core.model.texture.TextureIds} id
+     */
+    int getCurrentTextureId() {
+        return effect.getType().getFrameTextureId(currentFrameIndex);
+    }
+
+    /**
+     * Checks whether the effect is still displayed.
+     * @return true until its animation is over
      */
-    String getCurrentTextureName() {
-        return effect.getType().getFrames()[currentFrameIndex].toLowerCase();
+    public boolean isActive() {
+        return timeRemaining > 0;
     }
 
     /**
-     * Returns the effect associated with this ViewEffect.
+     * Advances the animation of the effect.
      *
      * @param delta the time delta since the last update
-     * @return the effect
+     * @return true if the effect is still displayed
      */
     public boolean update(float delta) {
         if (timeRemaining > 0) {
@@ -1,31 +1,50 @@
 package com.bomber7.core.views;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.bomber7.core.ResourceManager;
+import com.bomber7.core.model.event.GameEvent;
+import com.bomber7.core.model.event.GameEventListener;
+import com.bomber7.core.model.event.GameEventType;
+import com.bomber7.core.model.map.CellChangeListener;
 import com.bomber7.core.model.map.LevelMap;
 import com.badlogic.gdx.graphics.g2d.Batch;
-import com.bomber7.core.model.square.Bomb;
-import com.bomber7.core.model.square.Bonus;
-import com.bomber7.core.model.square.Square;
-import com.bomber7.core.model.square.TimeBomb;
-import com.bomber7.core.model.square.Wall;
+import com.bomber7.core.model.square.ElementKind;
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.core.model.texture.ElementTexture;
 import com.bomber7.utils.Constants;
+import com.bomber7.utils.Effect;
+import com.bomber7.utils.EffectType;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * The view that shows the game map in GameScreen.
+ * It starts an explosion effect on each cell a blast goes through, from the gameplay events of the map.
  */
-public class ViewMap extends Actor {
+public class ViewMap extends Actor implements Disposable, CellChangeListener, GameEventListener {
+
+    /** Largest sprite count a {@link SpriteCache} can draw with an index buffer. */
+    private static final int MAX_INDEXED_SPRITES = 8191;
+
+    /** Marks a cell missing from {@link #dynamicCells}. */
+    private static final int NOT_DYNAMIC = -1;
+
+    /** Marks a cell where no explosion effect was started yet. */
+    private static final long NO_FRAME = -1L;
 
     /** The Grid ({@link <a href="https://www.youtube.com/watch?v=lILHEnz8fTk">YouTube video</a>}). */
     private final LevelMap levelMap;
 
-    /** The resourceManager needed for sprites. */
-    private final ResourceManager resources;
+    /** The regions of the map skin, indexed by texture id. */
+    private final TextureRegionCache regions;
 
     /** The size of the scaled texture origin. */
     private float scaledTextureOrigin;
@@ -41,15 +60,48 @@ public class ViewMap extends Actor {
     /** The Y coordinate of the origin point for drawing the map. */
     private float originY;
 
+    /**
+     * Background tiles and unbreakable walls, which never change during a round, baked once in local
+     * coordinates of the map. Created on the first frame, since it needs the OpenGL context.
+     */
+    private SpriteCache staticLayer;
+    /** The id of the static layer cache in {@link #staticLayer}. */
+    private int staticLayerId;
+    /** Transform placing the static layer at the origin of the map, reused every frame. */
+    private final Matrix4 staticLayerTransform = new Matrix4();
+
+    /**
+     * Cells holding an element drawn every frame (breakable wall, bomb or bonus), in no particular order.
+     * Kept up to date from the cell changes of the map instead of scanning the board every frame.
+     */
+    private final int[] dynamicCells;
+    /** Number of cells listed in {@link #dynamicCells}. */
+    private int dynamicCount;
+    /** Position of each cell in {@link #dynamicCells}, or {@link #NOT_DYNAMIC}. */
+    private final int[] dynamicSlots;
+
     /**
      * List of characterViews (used to show the caracters on the map).
      */
     private final List<ViewCharacter> characterViews;
 
     /**
-     * List of viewEffects (used to show the effects on the map, such as explosions).
+     * Running effects (such as explosions), oldest first, in a ring of views preallocated for the whole round.
+     * Effects of a type all last as long, so the oldest one always ends first. When the ring is full,
+     * the oldest effect is dropped.
+     */
+    private final ViewEffect[] effectRing;
+    /** Mask turning a position in {@link #effectRing} into an index, its length being a power of two. */
+    private final int effectMask;
+    /** Index of the oldest running effect in {@link #effectRing}. */
+    private int effectHead;
+    /** Number of running effects. */
+    private int effectCount;
+    /**
+     * For each cell, the frame during which its last explosion effect was started, so that the blasts reaching
+     * a cell several times in a frame only start one effect.
      */
-    private final List<ViewEffect> effectViews;
+    private final long[] explosionFrames;
 
     /**
      * Constructs a new ViewMap with the specified map grid and resource manager.
@@ -59,16 +111,32 @@ public class ViewMap extends Actor {
      */
     public ViewMap(LevelMap levelMap, List<ViewCharacter> characterViews, ResourceManager resources) {
         this.levelMap = levelMap;
-        this.resources = resources;
+        this.regions = new TextureRegionCache(resources.getMapSkin().getAtlas());
         this.characterViews = characterViews;
-        this.effectViews = new ArrayList<>();
+
+        int cells = levelMap.getWidth() * levelMap.getHeight();
+        this.effectRing = new ViewEffect[MathUtils.nextPowerOfTwo(cells)];
+        this.effectMask = effectRing.length - 1;
+        for (int i = 0; i < effectRing.length; i++) {
+            effectRing[i] = new ViewEffect(new Effect(0, 0, EffectType.EXPLOSION));
+        }
+        this.explosionFrames = new long[cells];
+        Arrays.fill(explosionFrames, NO_FRAME);
+        this.dynamicCells = new int[cells];
+        this.dynamicSlots = new int[cells];
+        Arrays.fill(dynamicSlots, NOT_DYNAMIC);
+        for (int cell = 0; cell < cells; cell++) {
+            refreshCell(cell);
+        }
+        levelMap.addCellChangeListener(this);
+        levelMap.getEvents().subscribe(this);
 
         updateDimensions();
     }
 
     /**
      * Method called by libGDX to draw the map.
-     * It draws each map square by iterating through each square in the grid.
+     * It draws the cached static layer, then the elements that can change during a round.
      * @param batch the Batch used for drawing
      * @param parentAlpha the alpha value of the parent actor
      */
@@ -76,6 +144,7 @@ public class ViewMap extends Actor {
     public void draw(Batch batch, float parentAlpha) {
         updateDimensions();
 
+        drawStaticLayer(batch);
         drawMap(batch);
         drawCharacters(batch, parentAlpha);
         drawEffects(batch);
@@ -93,81 +162,181 @@ public class ViewMap extends Actor {
     }
 
     /**
-     * Draws the map.
-     * @param batch the Batch used for drawing
+     * Draws the static layer of the map, building it on the first call.
+     * Its cache is placed with a transform rather than rebuilt when the window is resized.
+     * @param batch the Batch used for drawing, ended while the cache draws
      */
-    private void drawMap(Batch batch) {
+    private void drawStaticLayer(Batch batch) {
+        if (staticLayer == null) {
+            buildStaticLayer();
+        }
+        batch.end();
+
+        staticLayerTransform.set(batch.getTransformMatrix()).translate(originX, originY, 0f);
+        staticLayer.setProjectionMatrix(batch.getProjectionMatrix());
+        staticLayer.setTransformMatrix(staticLayerTransform);
+        // Walls are drawn over the background with the blending of the batch
+        Gdx.gl.glEnable(GL20.GL_BLEND);
+        Gdx.gl.glBlendFuncSeparate(batch.getBlendSrcFunc(), batch.getBlendDstFunc(),
+            batch.getBlendSrcFuncAlpha(), batch.getBlendDstFuncAlpha());
+        staticLayer.begin();
+        staticLayer.draw(staticLayerId);
+        staticLayer.end();
+        Gdx.gl.glDisable(GL20.GL_BLEND);
+
+        batch.begin();
+    }
+
+    /**
+     * Bakes the background tiles and the unbreakable walls into {@link #staticLayer}.
+     */
+    private void buildStaticLayer() {
+        int cells = levelMap.getWidth() * levelMap.getHeight();
+        // At most one background tile and one wall per cell
+        staticLayer = new SpriteCache(2 * cells, 2 * cells <= MAX_INDEXED_SPRITES);
+        staticLayer.beginCache();
         for (int col = 0; col < levelMap.getHeight(); col++) {
             for (int row = 0; row < levelMap.getWidth(); row++) {
-                Square square = levelMap.getSquare(row, col);
-
-                // Background
-                TextureRegion squareTextureRegion = resources.getMapSkin().getAtlas().findRegion(square.getTextureName());
-                drawTextureRegion(batch, squareTextureRegion, row, col, square.computeRotation());
-
-                // MapElement
-                if (square.hasMapElement()) {
-                    TextureRegion mapElementTextureRegion = null;
-
-                    if (square.getMapElement() instanceof Wall) {
-                        mapElementTextureRegion =
-                            resources.getMapSkin().getAtlas().findRegion(square.getMapElement().getTextureName());
-                    } else if (square.getMapElement() instanceof Bonus) {
-                        mapElementTextureRegion =
-                            resources.getMapSkin().getAtlas().findRegion(square.getMapElement().getTextureName());
-                    } else if (square.getMapElement() instanceof Bomb) {
-                        // Bomb tick
-                        if (square.getMapElement() instanceof TimeBomb) {
-                            ((TimeBomb) square.getMapElement()).tick(levelMap, Gdx.graphics.getDeltaTime());
-                        }
-
-                        if (square.hasMapElement()) {
-                            Gdx.app.debug("ViewMap", "Drawing bomb + " + (square.getMapElement().getTextureName()));
-                            mapElementTextureRegion =
-                                resources.getMapSkin().getAtlas().findRegion(square.getMapElement().getTextureName());
-                        }
-                    }
-
-                    // Actually drawing the mapElement
-                    if (mapElementTextureRegion != null && square.hasMapElement()) {
-                        drawTextureRegion(batch, mapElementTextureRegion, row, col, square.getMapElement().computeRotation());
+                addToStaticLayer(regions.get(levelMap.getTileTextureId(row, col)), row, col,
+                    ElementTexture.computeRotation(levelMap.getTileFlips(row, col)));
+            }
+        }
+        for (int col = 0; col < levelMap.getHeight(); col++) {
+            for (int row = 0; row < levelMap.getWidth(); row++) {
+                if (levelMap.getElementKind(row, col) == ElementKind.UNBREAKABLE_WALL) {
+                    MapElement wall = levelMap.getMapElement(row, col);
+                    TextureRegion wallTextureRegion = regions.get(wall.getTextureId());
+                    if (wallTextureRegion != null) {
+                        addToStaticLayer(wallTextureRegion, row, col, wall.computeRotation());
                     }
                 }
             }
         }
+        staticLayerId = staticLayer.endCache();
+    }
+
+    /**
+     * Adds a cell texture to the static layer being built, in local coordinates of the map.
+     * @param textureRegion the texture to add
+     * @param row the x-coordinate of the cell
+     * @param col the y-coordinate of the cell
+     * @param rotation the rotation of the texture
+     */
+    private void addToStaticLayer(TextureRegion textureRegion, int row, int col, float rotation) {
+        staticLayer.add(
+            textureRegion,
+            row * scaledTextureSize,
+            col * scaledTextureSize,
+            scaledTextureOrigin,
+            scaledTextureOrigin,
+            scaledTextureSize,
+            scaledTextureSize,
+            1f,
+            1f,
+            rotation
+        );
+    }
+
+    /**
+     * Draws the map elements that can change during a round: breakable walls, bombs and bonuses.
+     * @param batch the Batch used for drawing
+     */
+    private void drawMap(Batch batch) {
+        int width = levelMap.getWidth();
+        for (int i = 0; i < dynamicCount; i++) {
+            int row = dynamicCells[i] % width;
+            int col = dynamicCells[i] / width;
+            MapElement mapElement = levelMap.getMapElement(row, col);
+            TextureRegion mapElementTextureRegion = regions.get(mapElement.getTextureId());
+            if (mapElementTextureRegion != null) {
+                drawTextureRegion(batch, mapElementTextureRegion, row, col, mapElement.computeRotation());
+            }
+        }
+    }
+
+    @Override
+    public void cellsChanged(LevelMap map, int[] cells, int count) {
+        for (int i = 0; i < count; i++) {
+            refreshCell(cells[i]);
+        }
     }
 
     /**
-     * Draws / updates all the queued effects.
+     * Adds a cell to the cells drawn every frame, or removes it, according to its current map element.
+     * @param cell the cell index
+     */
+    private void refreshCell(int cell) {
+        byte kind = levelMap.getElementKind(cell % levelMap.getWidth(), cell / levelMap.getWidth());
+        boolean dynamic = kind != ElementKind.NONE && kind != ElementKind.OTHER && kind != ElementKind.UNBREAKABLE_WALL;
+        int slot = dynamicSlots[cell];
+        if (dynamic && slot == NOT_DYNAMIC) {
+            dynamicCells[dynamicCount] = cell;
+            dynamicSlots[cell] = dynamicCount++;
+        } else if (!dynamic && slot != NOT_DYNAMIC) {
+            // Move the last cell into the freed slot
+            int last = dynamicCells[--dynamicCount];
+            dynamicCells[slot] = last;
+            dynamicSlots[last] = slot;
+            dynamicSlots[cell] = NOT_DYNAMIC;
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        if (event.getType() == GameEventType.CELL_DESTROYED) {
+            startExplosion(event.getX(), event.getY());
+        }
+    }
+
+    /**
+     * Starts an explosion effect on a cell, unless one was already started there during this frame.
+     * @param x the x-coordinate of the cell
+     * @param y the y-coordinate of the cell
+     */
+    private void startExplosion(int x, int y) {
+        int cell = levelMap.cellIndex(x, y);
+        long frame = Gdx.graphics.getFrameId();
+        if (explosionFrames[cell] == frame) {
+            return;
+        }
+        explosionFrames[cell] = frame;
+
+        if (effectCount == effectRing.length) {
+            effectHead = (effectHead + 1) & effectMask;
+            effectCount--;
+        }
+        effectRing[(effectHead + effectCount) & effectMask].start(x, y, EffectType.EXPLOSION);
+        effectCount++;
+    }
+
+    /**
+     * Draws / updates all the running effects.
      * @param batch the Batch used for drawing
      */
     private void drawEffects(Batch batch) {
         float delta = Gdx.graphics.getDeltaTime();
 
-        while (!levelMap.getEffectsQueue().empty()) {
-            effectViews.add(new ViewEffect(levelMap.getEffectsQueue().pop()));
-        }
+        for (int i = 0; i < effectCount; i++) {
+            ViewEffect effect = effectRing[(effectHead + i) & effectMask];
 
-        // Iterating from end to start so that removing elements doesn't cause IndexOutOfBounds
-        for (int i = effectViews.size() - 1; i >= 0; i--) {
-            ViewEffect effect = effectViews.get(i);
-
-            // Updating animation & removing it if finished
-            boolean isActive = effect.update(delta);
-            if (!isActive) {
-                effectViews.remove(i);
+            // Updating animation & skipping it if finished
+            if (!effect.update(delta)) {
                 continue;
             }
 
             // Drawing
-            TextureRegion effectTexture = resources.getMapSkin()
-                .getAtlas()
-                .findRegion(effect.getCurrentTextureName());
+            TextureRegion effectTexture = regions.get(effect.getCurrentTextureId());
 
             if (effectTexture != null) {
                 drawTextureRegion(batch, effectTexture, (int) effect.getX(), (int) effect.getY(), 0f, 2f);
             }
         }
+
+        // Finished effects are freed from the oldest one
+        while (effectCount > 0 && !effectRing[effectHead].isActive()) {
+            effectHead = (effectHead + 1) & effectMask;
+            effectCount--;
+        }
     }
 
     /**
@@ -186,6 +355,19 @@ public class ViewMap extends Actor {
         originY = centerY - totalHeight / 2;
     }
 
+    /**
+     * Releases the static layer cache and unsubscribes from the cell changes of the map.
+     */
+    @Override
+    public void dispose() {
+        levelMap.removeCellChangeListener(this);
+        levelMap.getEvents().unsubscribe(this);
+        if (staticLayer != null) {
+            staticLayer.dispose();
+            staticLayer = null;
+        }
+    }
+
     private void drawTextureRegion(Batch batch, TextureRegion textureRegion, int row, int col, float rotation, float scale) {
         batch.draw(
             textureRegion,
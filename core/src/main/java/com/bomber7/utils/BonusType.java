@@ -1,6 +1,6 @@
 package com.bomber7.utils;
 
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * An enum representing the different bonuses present in the game.
@@ -65,11 +65,19 @@ public enum BonusType {
      * @return the bonus
      */
     public static BonusType getRandomBonusType() {
-        double randomValue = new Random().nextDouble();
+        return fromRoll(ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Returns the bonus type matching a uniform roll, based on bonuses' probability.
+     * @param roll a value drawn uniformly in [0, 1)
+     * @return the bonus
+     */
+    public static BonusType fromRoll(double roll) {
         double cumulativeProbability = 0.0;
         for (BonusType bonusType : BonusType.values()) {
             cumulativeProbability += bonusType.dropRate;
-            if (randomValue <= cumulativeProbability) {
+            if (roll <= cumulativeProbability) {
                 return bonusType;
             }
         }
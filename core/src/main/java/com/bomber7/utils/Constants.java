@@ -91,4 +91,16 @@ public final class Constants {
     /** The default speed of a player. */
     public static final int DEFAULT_SPEED = 1;
 
+    /** Number of simulation ticks per second. Movement speeds are expressed in pixels per tick. */
+    public static final int TICK_RATE = 60;
+
+    /** Duration (in seconds) of a simulation tick. */
+    public static final float TICK_DURATION = 1f / TICK_RATE;
+
+    /**
+     * Maximum number of simulation ticks run for a single rendered frame.
+     * Time beyond this is dropped, so that a long frame (window drag, GC pause) does not snowball.
+     */
+    public static final int MAX_TICKS_PER_FRAME = 5;
+
 }
@@ -2,6 +2,7 @@ package com.bomber7.utils;
 
 /**
  * Represents a visual effect at a specific position with an associated sprite animation.
+ * Effects are mutable so that the views can pool them.
  */
 public final class Effect {
 
@@ -33,6 +34,19 @@ public final class Effect {
         this.type = type;
     }
 
+    /**
+     * Turns this effect into another one, so that it can be reused instead of allocating a new one.
+     *
+     * @param cellX       the X-coordinate of the square where the effect is placed
+     * @param cellY       the Y-coordinate of the square where the effect is placed
+     * @param effectType  the {@code EffectType} of the effect
+     */
+    public void set(int cellX, int cellY, EffectType effectType) {
+        this.x = cellX;
+        this.y = cellY;
+        this.type = effectType;
+    }
+
     /**
      * Getter for X-coordinate.
      * @return the X-coordinate of the effect
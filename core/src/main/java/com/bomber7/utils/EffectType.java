@@ -1,5 +1,7 @@
 package com.bomber7.utils;
 
+import com.bomber7.core.model.texture.TextureIds;
+
 /**
  * Enum listing different effects in the game.
  */
@@ -17,6 +19,16 @@ public enum EffectType {
      */
     private final int framesCount;
 
+    /**
+     * Sprite names of the animation frames, see {@link #getFrames()}.
+     */
+    private final String[] frames;
+
+    /**
+     * {@link TextureIds} ids of the animation frames, resolved once from their lower case sprite names.
+     */
+    private final int[] frameTextureIds;
+
     /**
      * Array containing all animated sprites in order.
      * <p>
@@ -26,13 +38,17 @@ public enum EffectType {
      * @return String list of sprite names for each animation frame.
      */
     public String[] getFrames() {
-        String[] frames = new String[framesCount];
-
-        for (int i = 0; i < framesCount; i++) {
-            frames[i] = this.name() + "-" + i;
-        }
+        return frames.clone();
+    }
 
-        return frames;
+    /**
+     * Returns the texture id of an animation frame, so that views need no string work to draw it.
+     *
+     * @param frame the index of the frame
+     * @return the {@link TextureIds} id of the lower case sprite name of the frame
+     */
+    public int getFrameTextureId(int frame) {
+        return frameTextureIds[frame];
     }
 
     /**
@@ -50,5 +66,11 @@ public enum EffectType {
      */
     EffectType(int framesCount) {
         this.framesCount = framesCount;
+        this.frames = new String[framesCount];
+        this.frameTextureIds = new int[framesCount];
+        for (int i = 0; i < framesCount; i++) {
+            frames[i] = this.name() + "-" + i;
+            frameTextureIds[i] = TextureIds.of(frames[i].toLowerCase());
+        }
     }
 }
@@ -22,9 +22,14 @@ public enum PlayerStrategy {
     BEGINNER,
 
     /**
-     * Advanced AI (TBD).
+     * Advanced AI hunting players, collecting bonuses and digging through walls.
      */
-    PRO;
+    PRO,
+
+    /**
+     * Strongest AI, planning its moves with a Monte Carlo tree search.
+     */
+    EXPERT;
 
     /**
      * Aray of all {@code PlayerStrategy} values for next() and previous() methods.
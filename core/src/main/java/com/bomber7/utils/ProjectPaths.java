@@ -54,6 +54,15 @@ public final class ProjectPaths {
         return Paths.get(getAssetsPath() + "/textures/images/" + name + ".png");
     }
 
+    /**
+     * Returns the path to the directory where round replays are saved.
+     *
+     * @return Path to the replays directory
+     */
+    public static Path getReplaysDir() {
+        return PROJECT_ROOT.resolve("replays");
+    }
+
     /**
      * Returns the path to the tileset texture file.
      * The tileset is expected to be in the "textures" directory within the assets.
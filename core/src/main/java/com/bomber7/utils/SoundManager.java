@@ -4,6 +4,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 import com.bomber7.core.ConfigManager;
+import com.bomber7.core.model.AudioSink;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -14,7 +15,7 @@ import java.util.Random;
 /**
  * SoundManager manages sound effects used in the game.
  */
-public final class SoundManager {
+public final class SoundManager implements AudioSink {
     /**
      * The singleton instance of the SoundManager.
      */
@@ -123,6 +124,7 @@ public final class SoundManager {
      * Play a sound.
      * @param type the sound to play
      */
+    @Override
     public void play(SoundType type) {
         float volume = ConfigManager.getInstance().getConfig().getGlobalVolume() / Constants.VOLUME_CONVERT_RATIO;
 
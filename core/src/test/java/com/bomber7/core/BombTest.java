@@ -1,6 +1,8 @@
 package com.bomber7.core;
 
 import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.entities.HumanPlayer;
+import com.bomber7.core.model.entities.Player;
 import com.bomber7.core.model.map.LevelMap;
 import com.bomber7.core.model.square.BreakableWall;
 import com.bomber7.core.model.square.Square;
@@ -8,6 +10,7 @@ import com.bomber7.core.model.square.TimeBomb;
 import com.bomber7.core.model.square.Bomb;
 import com.bomber7.core.model.square.UnbreakableWall;
 import com.bomber7.utils.GameCharacter;
+import com.bomber7.utils.Score;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.mockito.Mockito;
 import java.util.List;
 import java.util.ArrayList;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -77,9 +81,6 @@ public class BombTest {
     void testBombExplosionWithWalls() {
         TimeBomb bomb = Mockito.spy(new TimeBomb(3, 2, 2, testCharacter));
 
-        // Quand playSong est appelée, ne rien faire (override)
-        Mockito.doNothing().when(bomb).playExplosionSound();
-
         // Place the bomb in the map
         Square bombSquare = levelMap.getSquare(2, 2);
         bombSquare.setMapElement(bomb);
@@ -91,10 +92,6 @@ public class BombTest {
         Character charOutOfRange = Mockito.spy(new ConcreteCharacter("CharOutOfRange", levelMap, 3, 4, 1, 1, gameCharacter));
         levelMap.addCharacter(charOutOfRange);
 
-        // Quand playDeadSound est appelée, ne rien faire (override)
-        Mockito.doNothing().when(charInRange).playDeadSound();
-        Mockito.doNothing().when(charOutOfRange).playDeadSound();
-
         // Activate the bomb
         bomb.activateBomb(levelMap);
 
@@ -129,16 +126,12 @@ public class BombTest {
 
         Bomb bomb = Mockito.spy(new TimeBomb(3, 4, 1, testCharacter));
 
-        // Quand playSong est appelée, ne rien faire (override)
-        Mockito.doNothing().when(bomb).playExplosionSound();
-
         // Place the bomb in the map
         Square bombSquare = levelMap.getSquare(4, 1);
         bombSquare.setMapElement(bomb);
 
         // Create another Bomb at (x : 2, y : 1) with explosion power 1
         Bomb otherBomb = Mockito.spy(new TimeBomb(1, 3, 1, this.testCharacter));
-        Mockito.doNothing().when(otherBomb).playExplosionSound();
         Square otherBombSquare = levelMap.getSquare(3, 1);
         otherBombSquare.setMapElement(otherBomb);
 
@@ -168,6 +161,76 @@ public class BombTest {
 
     }
 
+    /**
+     * Verifies that a chain reaction hits a character reached by several blasts only once,
+     * and gives every bomb of the chain back to its planter.
+     */
+    @Test
+    void testChainReactionHitsCharacterOnce() {
+        Player planter = Mockito.spy(new HumanPlayer(null, levelMap, "planter", 0, 4, gameCharacter));
+        planter.setNbBomb(0);
+
+        // Bombs at (3, 4) and (4, 4): both blasts reach (4, 4)
+        Bomb bomb = Mockito.spy(new TimeBomb(1, 3, 4, planter));
+        Bomb otherBomb = Mockito.spy(new TimeBomb(1, 4, 4, planter));
+        levelMap.getSquare(3, 4).setMapElement(bomb);
+        levelMap.getSquare(4, 4).setMapElement(otherBomb);
+
+        Character victim = Mockito.spy(new ConcreteCharacter("victim", levelMap, 4, 4, 2, 1, gameCharacter));
+        levelMap.addCharacter(victim);
+
+        bomb.activateBomb(levelMap);
+
+        assertTrue(bomb.hasExploded());
+        assertTrue(otherBomb.hasExploded());
+        assertNull(levelMap.getSquare(3, 4).getMapElement());
+        assertNull(levelMap.getSquare(4, 4).getMapElement());
+        assertEquals(1, victim.getLife(), "The victim should lose a single life for the whole chain");
+        assertEquals(2, planter.getNbBomb(), "Both bombs should be given back to the planter");
+        assertEquals(0, planter.getKills(), "A victim surviving the hit is not a kill");
+        assertEquals(Score.KILL, planter.getScore(), "The hit is still rewarded");
+    }
+
+    /**
+     * Tests that taking the last life of another character counts as a kill.
+     */
+    @Test
+    void testFatalHitCountsAsKill() {
+        Player planter = new HumanPlayer(null, levelMap, "planter", 0, 4, gameCharacter);
+        Bomb bomb = new TimeBomb(1, 3, 4, planter);
+        levelMap.getSquare(3, 4).setMapElement(bomb);
+        Character victim = new ConcreteCharacter("victim", levelMap, 4, 4, 1, 1, gameCharacter);
+        levelMap.addCharacter(victim);
+
+        bomb.activateBomb(levelMap);
+
+        assertFalse(victim.isAlive());
+        assertEquals(1, planter.getKills());
+    }
+
+    /**
+     * Tests that a character caught by their own bomb, set off by the bomb of another player, is killed by that player.
+     */
+    @Test
+    void testChainSetOffByAnotherPlayerCountsAsTheirKill() {
+        Player starter = new HumanPlayer(null, levelMap, "starter", 4, 4, gameCharacter);
+        Character victim = new ConcreteCharacter("victim", levelMap, 0, 3, 1, 1, gameCharacter);
+        levelMap.addCharacter(victim);
+
+        // The blast of (3, 3) reaches the bomb at (1, 3), whose blast alone reaches the victim at (0, 3)
+        Bomb bomb = new TimeBomb(2, 3, 3, starter);
+        Bomb victimBomb = new TimeBomb(1, 1, 3, victim);
+        levelMap.getSquare(3, 3).setMapElement(bomb);
+        levelMap.getSquare(1, 3).setMapElement(victimBomb);
+
+        bomb.activateBomb(levelMap);
+
+        assertTrue(victimBomb.hasExploded());
+        assertFalse(victim.isAlive());
+        assertEquals(0, victim.getSuicides());
+        assertEquals(1, starter.getKills());
+    }
+
     /**
      *  Create a larger LevelMap for complex test scenarios.
      *    U U B . .
@@ -0,0 +1,163 @@
+package com.bomber7.core;
+
+import com.bomber7.core.ai.DangerMap;
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.engine.HeadlessMatch;
+import com.bomber7.core.engine.RoundSimulation;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.entities.AIPlayer;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.event.GameEventType;
+import com.bomber7.core.model.square.BombType;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.PlayerBlueprint;
+import com.bomber7.utils.PlayerStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the bots on full headless rounds.
+ */
+class BotTest {
+
+    /** Length of the test rounds: one minute of simulation. */
+    private static final long ROUND_TICKS = Constants.TICK_RATE * 60L;
+
+    private static PlayerBlueprint blueprint(String name, PlayerStrategy strategy) {
+        PlayerBlueprint blueprint = new PlayerBlueprint(name);
+        blueprint.setStrategy(strategy);
+        return blueprint;
+    }
+
+    private static HeadlessMatch botMatch(long seed) {
+        PlayerBlueprint[] blueprints = {
+            blueprint("pro", PlayerStrategy.PRO),
+            blueprint("beginner", PlayerStrategy.BEGINNER),
+            blueprint("peaceful", PlayerStrategy.PEACEFUL),
+            blueprint("pro2", PlayerStrategy.PRO)
+        };
+        return new HeadlessMatch("foy", blueprints, (tick, playerIndex) -> ControlMask.NONE, seed);
+    }
+
+    @Test
+    void testBotsSurviveTheirOwnBombs() {
+        PlayerBlueprint[] blueprints = {
+            blueprint("beginner", PlayerStrategy.BEGINNER), null, blueprint("idle", PlayerStrategy.HUMAN)
+        };
+        HeadlessMatch match = new HeadlessMatch("foy", blueprints, (tick, playerIndex) -> ControlMask.NONE, 11L);
+
+        match.run(ROUND_TICKS);
+
+        Player bot = match.getPlayers().get(0);
+        assertInstanceOf(AIPlayer.class, bot);
+        assertTrue(bot.getScore() > 0, "The bot should have dropped bombs");
+        assertTrue(bot.isAlive(), "The bot should escape its own bombs");
+    }
+
+    @Test
+    void testBotsSetOffTheirTriggerBombs() {
+        PlayerBlueprint[] blueprints = {
+            blueprint("pro", PlayerStrategy.PRO), null, blueprint("idle", PlayerStrategy.HUMAN)
+        };
+        HeadlessMatch match = new HeadlessMatch("foy", blueprints, (tick, playerIndex) -> ControlMask.NONE, 11L);
+        RoundSimulation round = match.getRound();
+        Player bot = match.getPlayers().get(0);
+        bot.setTypeBomb(BombType.TRIGGER);
+        AtomicInteger detonations = new AtomicInteger();
+        round.getMap().getEvents().subscribe(event -> {
+            if (event.getType() == GameEventType.BOMB_DETONATED && event.getSource() == bot) {
+                detonations.incrementAndGet();
+            }
+        });
+
+        for (long tick = 0; tick < ROUND_TICKS && !round.isOver(); tick++) {
+            round.tick();
+            round.getMap().getEvents().drain();
+        }
+
+        assertTrue(detonations.get() > 0, "The bot should have set off its trigger bombs");
+        assertTrue(bot.isAlive(), "The bot should stand out of the blast when setting them off");
+    }
+
+    @Test
+    void testBotRoundsAreReproducible() {
+        HeadlessMatch first = botMatch(5L);
+        HeadlessMatch second = botMatch(5L);
+
+        first.run(ROUND_TICKS);
+        second.run(ROUND_TICKS);
+
+        assertEquals(first.getRound().getTicks(), second.getRound().getTicks());
+        for (int slot = 0; slot < Constants.MAX_PLAYERS; slot++) {
+            Player a = first.getPlayers().get(slot);
+            Player b = second.getPlayers().get(slot);
+            assertEquals(a.getPositionX(), b.getPositionX());
+            assertEquals(a.getPositionY(), b.getPositionY());
+            assertEquals(a.getScore(), b.getScore());
+            assertEquals(a.isAlive(), b.isAlive());
+        }
+    }
+
+    @Test
+    void testDangerMapFollowsTheBoardIncrementally() {
+        RoundSimulation round = botMatch(7L).getRound();
+        LevelMap map = round.getMap();
+        DangerMap danger = new DangerMap(map);
+        danger.refresh();
+
+        int bombTicks = 0;
+        for (long tick = 0; tick < ROUND_TICKS && !round.isOver(); tick++) {
+            round.tick();
+            DangerMap rebuilt = new DangerMap(map);
+            rebuilt.refresh();
+            rebuilt.detach();
+            // Trigger bombs date from when each map saw them: any past tick means they can blow now
+            long now = map.getTimers().getCurrentTick();
+            for (int cell = 0; cell < map.getWidth() * map.getHeight(); cell++) {
+                assertEquals(Math.max(now, rebuilt.getBlastTick(cell)), Math.max(now, danger.getBlastTick(cell)),
+                    "Cell " + cell + " at tick " + tick);
+                if (!danger.isSafe(cell)) {
+                    bombTicks++;
+                }
+            }
+        }
+        assertTrue(bombTicks > 0, "The bots should have dropped bombs");
+    }
+
+    @Test
+    void testProBotsDoNotKillThemselves() {
+        for (String mapName : new String[] {"foy", "crous"}) {
+            for (long seed = 0; seed < 3; seed++) {
+                PlayerBlueprint[] blueprints = {
+                    blueprint("pro0", PlayerStrategy.PRO),
+                    blueprint("pro1", PlayerStrategy.PRO),
+                    blueprint("pro2", PlayerStrategy.PRO),
+                    blueprint("pro3", PlayerStrategy.PRO)
+                };
+                HeadlessMatch match = new HeadlessMatch(mapName, blueprints, (tick, playerIndex) -> ControlMask.NONE, seed);
+                RoundSimulation round = match.getRound();
+                AtomicInteger drops = new AtomicInteger();
+                round.getMap().getEvents().subscribe(event -> {
+                    if (event.getType() == GameEventType.BOMB_PLACED) {
+                        drops.incrementAndGet();
+                    }
+                });
+
+                for (long tick = 0; tick < 3 * ROUND_TICKS && !round.isOver(); tick++) {
+                    round.tick();
+                    round.getMap().getEvents().drain();
+                }
+
+                assertTrue(drops.get() > 0, "The bots should have dropped bombs on " + mapName + " seed " + seed);
+                for (Player player : match.getPlayers()) {
+                    assertEquals(0, player.getSuicides(), player.getName() + " on " + mapName + " seed " + seed);
+                }
+            }
+        }
+    }
+}
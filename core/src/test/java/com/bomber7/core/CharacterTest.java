@@ -68,9 +68,6 @@ public class CharacterTest {
             1,
             gameCharacter
         ));
-
-        Mockito.doNothing().when(invincibleCharacter).playDeadSound();
-        Mockito.doNothing().when(defaultCharacter).playDeadSound();
     }
 
     /* ------[CONSTRUCTOR][GETTERS]------------------------------------ */
@@ -159,7 +156,6 @@ public class CharacterTest {
     public void testMoveRight() {
         Character character = Mockito.spy(new ConcreteCharacter("Test", this.map,
                 1, 23, 100, 20, gameCharacter));
-        Mockito.doNothing().when(defaultCharacter).playDeadSound();
 
         int initialMapX = character.getMapX();
         int initialX = character.getPositionX();
@@ -180,7 +176,6 @@ public class CharacterTest {
     public void testMoveLeft() {
         Character character = Mockito.spy(new ConcreteCharacter("Test", this.map,
             2, 23, 100, 20, gameCharacter));
-        Mockito.doNothing().when(defaultCharacter).playDeadSound();
 
         int initialMapX = character.getMapX();
         int initialX = character.getPositionX();
@@ -201,7 +196,6 @@ public class CharacterTest {
     public void testMoveDown() {
         Character character = Mockito.spy(new ConcreteCharacter("Test", this.map,
             1, 23, 100, 20, gameCharacter));
-        Mockito.doNothing().when(defaultCharacter).playDeadSound();
 
         int initialY = character.getPositionY();
         int initialMapY = character.getMapY();
@@ -222,7 +216,6 @@ public class CharacterTest {
     public void testMoveUp() {
         Character character = Mockito.spy(new ConcreteCharacter("Test", this.map,
             1, 22, 100, 20, gameCharacter));
-        Mockito.doNothing().when(defaultCharacter).playDeadSound();
 
         int initialY = character.getPositionY();
         int initialMapY = character.getMapY();
@@ -0,0 +1,127 @@
+package com.bomber7.core;
+
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.event.GameEvent;
+import com.bomber7.core.model.event.GameEventBus;
+import com.bomber7.core.model.event.GameEventType;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.square.BombType;
+import com.bomber7.utils.GameCharacter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the {@link GameEventBus} and the events published by the model.
+ */
+class GameEventBusTest {
+
+    @Test
+    void testEventsAreDrainedInOrderToEveryListener() {
+        GameEventBus bus = new GameEventBus(4);
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        bus.subscribe(event -> first.add(event.getType() + "@" + event.getX()));
+        bus.subscribe(event -> second.add(event.getType() + "@" + event.getX()));
+
+        bus.publish(GameEventType.BOMB_PLACED, null, 1, 0, 0);
+        bus.publish(GameEventType.BOMB_DETONATED, null, 2, 0, 3);
+        assertEquals(2, bus.getPendingCount());
+        assertTrue(first.isEmpty(), "Events are only handed to listeners when the bus is drained");
+
+        bus.drain();
+        assertEquals(List.of("BOMB_PLACED@1", "BOMB_DETONATED@2"), first);
+        assertEquals(first, second);
+        assertEquals(0, bus.getPendingCount());
+    }
+
+    @Test
+    void testListenerFallingBehindSkipsTheOverwrittenEvents() {
+        GameEventBus bus = new GameEventBus(2);
+        List<Integer> values = new ArrayList<>();
+        bus.subscribe(event -> values.add(event.getValue()));
+
+        for (int i = 0; i < 5; i++) {
+            bus.publish(GameEventType.SCORE_CHANGED, null, 0, 0, i);
+        }
+        assertTrue(values.isEmpty(), "Publishing never calls the listeners");
+        bus.drain();
+
+        assertEquals(List.of(3, 4), values);
+        assertEquals(3, bus.getDroppedCount());
+    }
+
+    @Test
+    void testEachListenerReadsFromItsOwnCursor() {
+        GameEventBus bus = new GameEventBus(4);
+        List<Integer> early = new ArrayList<>();
+        List<Integer> late = new ArrayList<>();
+        bus.subscribe(event -> early.add(event.getValue()));
+
+        bus.publish(GameEventType.SCORE_CHANGED, null, 0, 0, 1);
+        bus.drain();
+        bus.publish(GameEventType.SCORE_CHANGED, null, 0, 0, 2);
+        bus.subscribe(event -> late.add(event.getValue()));
+        bus.publish(GameEventType.SCORE_CHANGED, null, 0, 0, 3);
+        assertEquals(2, bus.getPendingCount());
+        bus.drain();
+
+        assertEquals(List.of(1, 2, 3), early);
+        assertEquals(List.of(3), late);
+        assertEquals(0, bus.getPendingCount());
+    }
+
+    @Test
+    void testCapacityHoldsFourEventsPerCell() {
+        assertEquals(2048, GameEventBus.capacityFor(475));
+        assertEquals(1024, GameEventBus.capacityFor(256));
+    }
+
+    @Test
+    void testEventsWithoutListenerAreNotStored() {
+        GameEventBus bus = new GameEventBus();
+        bus.publish(GameEventType.CELL_DESTROYED, null, 0, 0, 1);
+
+        assertEquals(0, bus.getPendingCount());
+    }
+
+    @Test
+    void testCapacityMustBeAPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(3));
+        assertThrows(IllegalArgumentException.class, () -> new GameEventBus(0));
+    }
+
+    @Test
+    void testExplosionPublishesItsDetonationBlastAndHits() {
+        LevelMap map = LevelMapFactory.createLevelMap("foy", 800, 600);
+        Player player = new Player("Bomber", map, 1, 23, 1, 20, GameCharacter.STUDENT) { };
+        map.addCharacter(player);
+        player.setTypeBomb(BombType.TRIGGER);
+        List<GameEventType> types = new ArrayList<>();
+        List<GameEvent> hits = new ArrayList<>();
+        map.getEvents().subscribe(event -> {
+            types.add(event.getType());
+            if (event.getType() == GameEventType.CHARACTER_HIT) {
+                hits.add(event);
+                assertEquals(player, event.getSource());
+                assertEquals(0, event.getValue());
+            }
+        });
+
+        player.dropBomb();
+        player.activateAllTriggerBombs();
+        map.getEvents().drain();
+
+        assertTrue(types.indexOf(GameEventType.BOMB_PLACED) >= 0);
+        assertTrue(types.indexOf(GameEventType.BOMB_PLACED) < types.indexOf(GameEventType.BOMB_DETONATED));
+        assertTrue(types.contains(GameEventType.CELL_DESTROYED));
+        assertEquals(1, hits.size());
+        assertTrue(types.contains(GameEventType.SCORE_CHANGED));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bomber7.core;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.engine.HeadlessMatch;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.Controls;
+import com.bomber7.utils.GameCharacter;
+import com.bomber7.utils.PlayerBlueprint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests running full rounds with {@link HeadlessMatch}, without any LibGDX backend.
+ */
+class HeadlessMatchTest {
+
+    private static PlayerBlueprint blueprint(String name) {
+        PlayerBlueprint blueprint = new PlayerBlueprint(name);
+        blueprint.setCharacter(GameCharacter.STUDENT);
+        return blueprint;
+    }
+
+    @Test
+    void testSuicideEndsRoundWithOtherPlayerWinning() {
+        PlayerBlueprint[] blueprints = {blueprint("bomber"), blueprint("idle"), null, null};
+        // Player 0 drops a bomb on its spawn and stays on it, player 1 does nothing
+        HeadlessMatch match = new HeadlessMatch("foy", blueprints,
+            (tick, playerIndex) -> playerIndex == 0 ? ControlMask.of(Controls.DROP_BOMB) : ControlMask.NONE, 1L);
+
+        assertTrue(match.run(Constants.TICK_RATE * 10));
+
+        Player bomber = match.getPlayers().get(0);
+        Player idle = match.getPlayers().get(1);
+        assertNull(match.getPlayers().get(2));
+        assertFalse(bomber.isAlive());
+        assertSame(idle, match.getRound().getWinner());
+        assertEquals(1, bomber.getSuicides());
+        assertEquals(0, bomber.getKills());
+        assertEquals(Math.round(Constants.BOMB_TIMER * Constants.TICK_RATE), match.getRound().getTicks(), 1);
+    }
+
+    @Test
+    void testRoundStopsAtTickLimit() {
+        PlayerBlueprint[] blueprints = {blueprint("a"), blueprint("b")};
+        HeadlessMatch match = new HeadlessMatch("foy", blueprints, (tick, playerIndex) -> ControlMask.NONE, 1L);
+
+        assertFalse(match.run(100));
+        assertEquals(100, match.getRound().getTicks());
+        assertNull(match.getRound().getWinner());
+    }
+}
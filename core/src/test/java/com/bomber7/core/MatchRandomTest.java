@@ -0,0 +1,56 @@
+package com.bomber7.core;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.square.BreakableWall;
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.utils.BonusType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit tests for the seeded random streams of a match.
+ */
+class MatchRandomTest {
+
+    private static List<BonusType> hiddenBonuses(LevelMap map) {
+        List<BonusType> bonuses = new ArrayList<>();
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                MapElement element = map.getMapElement(x, y);
+                if (element instanceof BreakableWall) {
+                    bonuses.add(((BreakableWall) element).getBonusType());
+                }
+            }
+        }
+        return bonuses;
+    }
+
+    @Test
+    void testSameSeedHidesSameBonuses() {
+        List<BonusType> first = hiddenBonuses(LevelMapFactory.createLevelMap("foy", 800, 600, new MatchRandom(42L)));
+        List<BonusType> second = hiddenBonuses(LevelMapFactory.createLevelMap("foy", 800, 600, new MatchRandom(42L)));
+
+        assertFalse(first.isEmpty());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testAiStreamDoesNotChangeBonusRolls() {
+        MatchRandom quiet = new MatchRandom(7L);
+        MatchRandom busy = new MatchRandom(7L);
+        for (int i = 0; i < 1000; i++) {
+            busy.getAi().nextInt();
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(quiet.rollWallBonus(), busy.rollWallBonus());
+        }
+    }
+}
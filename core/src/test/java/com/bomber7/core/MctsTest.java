@@ -0,0 +1,86 @@
+package com.bomber7.core;
+
+import com.bomber7.core.ai.GridState;
+import com.bomber7.core.ai.MctsBrain;
+import com.bomber7.core.ai.MctsPlanner;
+import com.bomber7.core.controller.BotController;
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.engine.HeadlessMatch;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.Controls;
+import com.bomber7.utils.PlayerBlueprint;
+import com.bomber7.utils.PlayerStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the Monte Carlo tree search bot and its compact board.
+ */
+class MctsTest {
+
+    /** Length of the test rounds: twenty seconds of simulation. */
+    private static final long ROUND_TICKS = Constants.TICK_RATE * 20L;
+
+    private static HeadlessMatch expertMatch(long seed) {
+        PlayerBlueprint expert = new PlayerBlueprint("expert");
+        expert.setStrategy(PlayerStrategy.EXPERT);
+        PlayerBlueprint[] blueprints = {expert, null, new PlayerBlueprint("idle")};
+        return new HeadlessMatch("foy", blueprints, (tick, playerIndex) -> ControlMask.NONE, seed);
+    }
+
+    @Test
+    void testOwnBombKillsAStillPlayer() {
+        HeadlessMatch match = expertMatch(3L);
+        GridState state = GridState.capture(match.getRound().getMap());
+        int[] actions = {Controls.DROP_BOMB.ordinal(), GridState.IDLE};
+
+        state.step(actions);
+        assertEquals(1, state.getBombCount());
+        actions[0] = GridState.IDLE;
+        for (int step = 0; step < Constants.TICK_RATE && state.getBombCount() > 0; step++) {
+            state.step(actions);
+        }
+
+        assertEquals(0, state.getBombCount(), "The bomb should have exploded");
+        assertFalse(state.isAlive(0), "A player standing on its bomb should die");
+        assertTrue(state.isAlive(1));
+    }
+
+    @Test
+    void testPlannerLeavesItsBomb() {
+        HeadlessMatch match = expertMatch(3L);
+        Player expert = match.getPlayers().get(0);
+        expert.dropBomb();
+        GridState root = GridState.capture(match.getRound().getMap());
+
+        int action = new MctsPlanner(2, 2000).search(root, 0, 1L, MctsPlanner.NO_DEADLINE);
+
+        assertTrue(action < Controls.DROP_BOMB.ordinal(), "The player should move away from its bomb, not " + action);
+    }
+
+    @Test
+    void testExpertRoundsAreReproducible() {
+        HeadlessMatch first = expertMatch(9L);
+        HeadlessMatch second = expertMatch(9L);
+
+        first.run(ROUND_TICKS);
+        second.run(ROUND_TICKS);
+
+        Player a = first.getPlayers().get(0);
+        Player b = second.getPlayers().get(0);
+        assertEquals(a.getPositionX(), b.getPositionX());
+        assertEquals(a.getPositionY(), b.getPositionY());
+        assertEquals(a.getScore(), b.getScore());
+        assertTrue(a.isAlive(), "The expert should survive its own bombs");
+
+        BotController controller = (BotController) first.getRound().getControllers().get(0);
+        MctsBrain brain = assertInstanceOf(MctsBrain.class, controller.getBrain());
+        assertTrue(brain.getPlanner().getTotalRollouts() > 0);
+        assertTrue(brain.getPlanner().getRolloutsPerSecond() > 0);
+    }
+}
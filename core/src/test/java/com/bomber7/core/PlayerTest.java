@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.bomber7.core.model.entities.Character;
+import com.bomber7.core.model.entities.CharacterSnapshot;
 import com.bomber7.core.model.entities.Player;
 import com.bomber7.core.model.map.LevelMap;
 import com.bomber7.core.model.map.LevelMapFactory;
@@ -31,11 +32,6 @@ class PlayerTest {
         SilentTestBomb(int power, int x, int y, Character c) {
             super(power, x, y, c);
         }
-
-        @Override
-        public void playExplosionSound() {
-            System.out.println("SilentTestBomb explosion sound played");
-        }
     }
 
 
@@ -57,7 +53,6 @@ class PlayerTest {
 
         // Create a concrete subclass of Player for testing
         player = Mockito.spy(new Player("TestPlayer", this.foyLevelMap, 1, 23, 3, 20, gameCharacter) { });
-        Mockito.doNothing().when(player).playSong();
         player.setTypeBomb(BombType.TIME);
         player.setNbBomb(1);
     }
@@ -166,4 +161,44 @@ class PlayerTest {
         assertNull(square4.getMapElement(), "Expected null because wall should be broken on (1,22)");
     }
 
+    @Test
+    void observersAreNotifiedOfBombAndScoreChangesOnly() {
+        int[] notifications = {0};
+        player.registerObserver(subject -> notifications[0]++);
+
+        player.addScore(0);
+        player.setSpeed(player.getSpeed());
+        assertEquals(0, notifications[0], "Unchanged score should not notify");
+
+        player.setNbBomb(2);
+        player.addScore(5);
+        player.removeOneLife();
+        assertEquals(3, notifications[0]);
+
+        player.deleteObserver(player.getObservers().get(0));
+        player.setNbBomb(1);
+        assertEquals(3, notifications[0], "Deleted observer should not be notified");
+    }
+
+    @Test
+    void resetAndRestoreNotifyObserversOnce() {
+        CharacterSnapshot snapshot = player.snapshot();
+        int snapshotBombs = player.getNbBomb();
+        player.setNbBomb(3);
+        int[] notifications = {0};
+        int[] bombsSeen = {0};
+        player.registerObserver(subject -> {
+            notifications[0]++;
+            bombsSeen[0] = player.getNbBomb();
+        });
+
+        player.reset();
+        assertEquals(1, notifications[0]);
+        assertEquals(1, bombsSeen[0], "Observers should see the reset bomb count");
+
+        player.setNbBomb(3);
+        player.restore(snapshot);
+        assertEquals(3, notifications[0]);
+        assertEquals(snapshotBombs, bombsSeen[0], "Observers should see the restored bomb count");
+    }
 }
@@ -0,0 +1,47 @@
+package com.bomber7.core;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.square.BreakableWall;
+import com.bomber7.core.model.square.MapElement;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the rounds built ahead of time by {@link BomberGame#preloadNextRound()}.
+ */
+class PreparedRoundTest {
+
+    @Test
+    void testPreparedRoundHidesTheBonusesOfItsSeed() {
+        PreparedRound prepared = CompletableFuture.supplyAsync(() -> new PreparedRound(2, "foy", 11L, 800, 600)).join();
+        LevelMap expected = LevelMapFactory.createLevelMap("foy", 800, 600, new MatchRandom(MatchRandom.roundSeed(11L, 2)));
+
+        LevelMap map = prepared.getMap();
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                MapElement element = map.getMapElement(x, y);
+                if (element instanceof BreakableWall) {
+                    BreakableWall other = (BreakableWall) expected.getMapElement(x, y);
+                    assertEquals(other.getBonusType(), ((BreakableWall) element).getBonusType());
+                }
+            }
+        }
+        assertEquals(MatchRandom.roundSeed(11L, 2), prepared.getRandom().getSeed());
+    }
+
+    @Test
+    void testPreparedRoundOnlyMatchesItsRoundAndWindow() {
+        PreparedRound prepared = new PreparedRound(3, "foy", 1L, 800, 600);
+
+        assertTrue(prepared.matches(3, 800, 600));
+        assertFalse(prepared.matches(4, 800, 600));
+        assertFalse(prepared.matches(3, 1024, 600));
+    }
+}
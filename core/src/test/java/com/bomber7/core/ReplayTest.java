@@ -0,0 +1,151 @@
+package com.bomber7.core;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.controller.InputSource;
+import com.bomber7.core.engine.HeadlessMatch;
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.replay.Replay;
+import com.bomber7.core.replay.ReplayHeader;
+import com.bomber7.core.replay.ReplayWriter;
+import com.bomber7.utils.Controls;
+import com.bomber7.utils.GameCharacter;
+import com.bomber7.utils.PlayerBlueprint;
+import com.bomber7.utils.PlayerStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests recording a headless round and playing it back from its replay.
+ */
+class ReplayTest {
+
+    /** Seed of the recorded rounds. */
+    private static final long SEED = 2024L;
+
+    private static PlayerBlueprint[] blueprints() {
+        PlayerBlueprint first = new PlayerBlueprint("first");
+        PlayerBlueprint second = new PlayerBlueprint("second");
+        second.setCharacter(GameCharacter.values()[GameCharacter.values().length - 1]);
+        return new PlayerBlueprint[] {first, null, second, null};
+    }
+
+    /**
+     * Player 0 walks right then drops a bomb and walks back; player 2 walks left then up.
+     * @param tick the tick
+     * @param playerIndex the slot of the player
+     * @return the scripted controls
+     */
+    private static int scripted(long tick, int playerIndex) {
+        if (playerIndex == 0) {
+            if (tick < 40) {
+                return ControlMask.of(Controls.RIGHT);
+            }
+            return tick == 40 ? ControlMask.of(Controls.DROP_BOMB) : ControlMask.of(Controls.LEFT);
+        }
+        return tick < 60 ? ControlMask.of(Controls.LEFT) : ControlMask.of(Controls.UP);
+    }
+
+    private static PlayerBlueprint[] botBlueprints() {
+        PlayerBlueprint[] blueprints = new PlayerBlueprint[4];
+        PlayerStrategy[] strategies = {PlayerStrategy.PRO, PlayerStrategy.BEGINNER, PlayerStrategy.PRO, PlayerStrategy.PEACEFUL};
+        for (int slot = 0; slot < blueprints.length; slot++) {
+            blueprints[slot] = new PlayerBlueprint("bot" + slot);
+            blueprints[slot].setStrategy(strategies[slot]);
+        }
+        return blueprints;
+    }
+
+    private static byte[] record(HeadlessMatch match, PlayerBlueprint[] blueprints, long ticks) throws IOException {
+        LevelMap map = match.getRound().getMap();
+        ReplayWriter writer = new ReplayWriter(
+            new ReplayHeader(map.getMapName(), SEED, map.getWindowWidth(), map.getWindowHeight(), blueprints)
+        );
+        match.getRound().setRecorder(writer);
+        match.run(ticks);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void testPlaybackReproducesRound() throws IOException {
+        InputSource script = ReplayTest::scripted;
+        HeadlessMatch recorded = new HeadlessMatch("foy", blueprints(), script, SEED);
+        byte[] file = record(recorded, blueprints(), 300);
+
+        Replay replay = Replay.read(new ByteArrayInputStream(file));
+        assertEquals("foy", replay.getHeader().getMapName());
+        assertEquals(SEED, replay.getHeader().getSeed());
+        assertNull(replay.getHeader().getBlueprints()[1]);
+        assertEquals(recorded.getRound().getTicks(), replay.getTickCount());
+
+        HeadlessMatch played = HeadlessMatch.fromReplay(replay);
+        played.run(replay.getTickCount());
+
+        assertEquals(recorded.getRound().getTicks(), played.getRound().getTicks());
+        for (int slot : new int[] {0, 2}) {
+            Player original = recorded.getPlayers().get(slot);
+            Player copy = played.getPlayers().get(slot);
+            assertEquals(original.getPositionX(), copy.getPositionX());
+            assertEquals(original.getPositionY(), copy.getPositionY());
+            assertEquals(original.isAlive(), copy.isAlive());
+            assertEquals(original.getScore(), copy.getScore());
+        }
+    }
+
+    @Test
+    void testPlaybackUsesTheWindowSizeOfTheRecording() throws IOException {
+        int[][] windows = {{910, 512}, {1281, 721}};
+        for (int[] window : windows) {
+            MatchRandom random = new MatchRandom(SEED);
+            LevelMap map = LevelMapFactory.createLevelMap("foy", window[0], window[1], random);
+            HeadlessMatch recorded = new HeadlessMatch(map, botBlueprints(), (tick, playerIndex) -> ControlMask.NONE, random);
+            byte[] file = record(recorded, botBlueprints(), 3000);
+
+            Replay replay = Replay.read(new ByteArrayInputStream(file));
+            assertEquals(window[0], replay.getHeader().getWindowWidth());
+            assertEquals(window[1], replay.getHeader().getWindowHeight());
+            HeadlessMatch played = HeadlessMatch.fromReplay(replay);
+            played.run(replay.getTickCount());
+
+            String size = window[0] + "x" + window[1];
+            assertEquals(recorded.getRound().getTicks(), played.getRound().getTicks(), size);
+            for (int slot = 0; slot < 4; slot++) {
+                Player original = recorded.getPlayers().get(slot);
+                Player copy = played.getPlayers().get(slot);
+                assertEquals(original.getMapX(), copy.getMapX(), size + " slot " + slot);
+                assertEquals(original.getMapY(), copy.getMapY(), size + " slot " + slot);
+                assertEquals(original.getPositionX(), copy.getPositionX(), size + " slot " + slot);
+                assertEquals(original.isAlive(), copy.isAlive(), size + " slot " + slot);
+                assertEquals(original.getScore(), copy.getScore(), size + " slot " + slot);
+            }
+        }
+    }
+
+    @Test
+    void testOnlyControlChangesAreStored() throws IOException {
+        HeadlessMatch idle = new HeadlessMatch("foy", blueprints(), (tick, playerIndex) -> ControlMask.NONE, SEED);
+        byte[] file = record(idle, blueprints(), 1000);
+
+        Replay replay = Replay.read(new ByteArrayInputStream(file));
+        assertEquals(0, replay.getEventCount());
+        assertEquals(1000, replay.getTickCount());
+        assertTrue(file.length < 64, "An idle round should take a few bytes, got " + file.length);
+    }
+
+    @Test
+    void testRejectsOtherFiles() {
+        assertThrows(IOException.class, () -> Replay.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5})));
+    }
+}
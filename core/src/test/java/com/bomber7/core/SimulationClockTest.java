@@ -0,0 +1,47 @@
+package com.bomber7.core;
+
+import com.bomber7.core.model.SimulationClock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the fixed timestep {@link SimulationClock}.
+ */
+public class SimulationClockTest {
+
+    @Test
+    void testSameTicksWhateverTheFrameRate() {
+        SimulationClock slowDisplay = new SimulationClock(60, 5);
+        SimulationClock fastDisplay = new SimulationClock(60, 5);
+
+        int slowTicks = 0;
+        for (int frame = 0; frame < 60; frame++) {
+            slowTicks += slowDisplay.advance(1f / 60);
+        }
+        int fastTicks = 0;
+        for (int frame = 0; frame < 240; frame++) {
+            fastTicks += fastDisplay.advance(1f / 240);
+        }
+
+        // One second of frames gives about one second of ticks on both displays
+        assertEquals(60, slowTicks, 1);
+        assertEquals(60, fastTicks, 1);
+    }
+
+    @Test
+    void testCatchUpIsCapped() {
+        SimulationClock clock = new SimulationClock(60, 5);
+
+        assertEquals(5, clock.advance(2f), "A long frame should not run more ticks than the cap");
+        assertEquals(0, clock.advance(0f), "Time beyond the cap should be dropped");
+        assertEquals(5, clock.getTickCount());
+    }
+
+    @Test
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationClock(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new SimulationClock(60, 0));
+    }
+}
@@ -0,0 +1,41 @@
+package com.bomber7.core;
+
+import com.bomber7.core.model.square.UnbreakableWall;
+import com.bomber7.core.model.texture.TextureIds;
+import com.bomber7.utils.EffectType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Tests the registry of texture ids.
+ */
+class TextureIdsTest {
+
+    @Test
+    void testSameNameSameId() {
+        int id = TextureIds.of("texture-ids-test-a");
+
+        assertEquals(id, TextureIds.of(new String("texture-ids-test-a")));
+        assertNotEquals(id, TextureIds.of("texture-ids-test-b"));
+        assertEquals("texture-ids-test-a", TextureIds.nameOf(id));
+    }
+
+    @Test
+    void testElementsFollowTheirTextureName() {
+        UnbreakableWall wall = new UnbreakableWall("texture-ids-test-wall");
+        assertEquals(TextureIds.of("texture-ids-test-wall"), wall.getTextureId());
+
+        wall.setTextureName("texture-ids-test-other");
+        assertEquals(TextureIds.of("texture-ids-test-other"), wall.getTextureId());
+    }
+
+    @Test
+    void testEffectFramesUseLowerCaseSpriteNames() {
+        EffectType type = EffectType.EXPLOSION;
+        for (int frame = 0; frame < type.getFramesCount(); frame++) {
+            assertEquals(TextureIds.of(type.getFrames()[frame].toLowerCase()), type.getFrameTextureId(frame));
+        }
+    }
+}
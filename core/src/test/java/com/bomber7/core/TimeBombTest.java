@@ -9,6 +9,7 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -33,7 +34,6 @@ public class TimeBombTest extends BombTest {
 
         // Instantiate a TimeBomb at position (2, 3) with a timer of 5 sec
         timeBomb = Mockito.spy(new TimeBomb(2, 2, 3, super.testCharacter));
-        Mockito.doNothing().when(timeBomb).playExplosionSound();
     }
 
     /**
@@ -67,6 +67,26 @@ public class TimeBombTest extends BombTest {
         assertEquals(0.0f, timeBomb.getTimer(), 0.01f);
     }
 
+    /**
+     * Verifies that an armed bomb explodes on the map timers after its fuse delay, without being ticked.
+     */
+    @Test
+    void testArmedTimeBombExplodesOnMapTimers() {
+        levelMap.getSquare(2, 3).setMapElement(timeBomb);
+        timeBomb.arm(levelMap);
+
+        long fuseTicks = Math.round(Constants.BOMB_TIMER * Constants.TICK_RATE);
+        for (long tick = 1; tick < fuseTicks; tick++) {
+            levelMap.getTimers().advance();
+        }
+        assertSame(timeBomb, levelMap.getSquare(2, 3).getMapElement(), "The fuse should not be over yet");
+        assertEquals(Constants.TICK_DURATION, timeBomb.getTimer(), 0.001f);
+
+        levelMap.getTimers().advance();
+        assertNull(levelMap.getSquare(2, 3).getMapElement());
+        assertEquals(0.0f, timeBomb.getTimer(), 0.01f);
+    }
+
     /**
      * Tests that the tick method throws a NullPointerException
      * when invoked with a null map.
@@ -0,0 +1,102 @@
+package com.bomber7.core;
+
+import com.bomber7.core.model.TimerWheel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the {@link TimerWheel} scheduler.
+ */
+public class TimerWheelTest {
+
+    @Test
+    void testTimersRunOnTheirDeadlineInSchedulingOrder() {
+        TimerWheel wheel = new TimerWheel();
+        List<String> runs = new ArrayList<>();
+
+        wheel.schedule(3, () -> runs.add("a"));
+        wheel.schedule(1, () -> runs.add("b"));
+        wheel.schedule(3, () -> runs.add("c"));
+        // Same slot as the ones above, but on a later turn of the wheel
+        wheel.schedule(3 + 256, () -> runs.add("d"));
+
+        wheel.advance();
+        assertEquals(List.of("b"), runs);
+        wheel.advance();
+        wheel.advance();
+        assertEquals(List.of("b", "a", "c"), runs);
+
+        for (int tick = 0; tick < 256; tick++) {
+            wheel.advance();
+        }
+        assertEquals(List.of("b", "a", "c", "d"), runs);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testRepeatingAndCancelledTimers() {
+        TimerWheel wheel = new TimerWheel();
+        int[] counter = new int[1];
+
+        TimerWheel.Timer repeating = wheel.scheduleRepeating(2, () -> counter[0]++);
+        TimerWheel.Timer cancelled = wheel.schedule(1, () -> counter[0] += 100);
+        cancelled.cancel();
+
+        for (int tick = 0; tick < 10; tick++) {
+            wheel.advance();
+        }
+        assertEquals(5, counter[0]);
+        assertTrue(repeating.isPending());
+        assertFalse(cancelled.isPending());
+
+        repeating.cancel();
+        wheel.advance();
+        wheel.advance();
+        assertEquals(5, counter[0]);
+    }
+
+    @Test
+    void testCancelledTimersLeaveTheWheelAtOnce() {
+        TimerWheel wheel = new TimerWheel();
+        List<String> runs = new ArrayList<>();
+        wheel.scheduleRepeating(5, () -> runs.add("repeat"));
+        long mark = wheel.getScheduledCount();
+
+        TimerWheel.Timer a = wheel.schedule(2, () -> runs.add("a"));
+        wheel.schedule(2 + 256, () -> runs.add("b"));
+        assertEquals(3, wheel.size());
+        a.cancel();
+        assertEquals(2, wheel.size());
+
+        wheel.cancelScheduledSince(mark);
+        assertEquals(1, wheel.size());
+        for (int tick = 0; tick < 300; tick++) {
+            wheel.advance();
+        }
+        assertEquals(60, runs.size());
+        assertTrue(runs.stream().allMatch("repeat"::equals));
+    }
+
+    @Test
+    void testTimerCanCancelATimerOfTheSameTick() {
+        TimerWheel wheel = new TimerWheel();
+        List<String> runs = new ArrayList<>();
+        TimerWheel.Timer[] second = new TimerWheel.Timer[1];
+        wheel.schedule(1, () -> {
+            runs.add("first");
+            second[0].cancel();
+        });
+        second[0] = wheel.schedule(1, () -> runs.add("second"));
+        wheel.schedule(1, () -> runs.add("third"));
+
+        wheel.advance();
+        assertEquals(List.of("first", "third"), runs);
+        assertEquals(0, wheel.size());
+    }
+}
@@ -34,7 +34,6 @@ public class TriggerBombTest extends BombTest {
 
         // Instantiate a TriggerBomb at postion (2,2)
         triggerBomb = Mockito.spy(new TriggerBomb(2, 2, 2, super.testCharacter));
-        Mockito.doNothing().when(triggerBomb).playExplosionSound();
     }
 
     /**
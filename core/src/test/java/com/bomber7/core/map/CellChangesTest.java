@@ -0,0 +1,103 @@
+package com.bomber7.core.map;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.entities.HumanPlayer;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.CellChangeListener;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.map.MapSnapshot;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.UnbreakableWall;
+import com.bomber7.utils.GameCharacter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the journal of cell changes published by {@link LevelMap#publishChanges()}.
+ */
+class CellChangesTest {
+
+    /** Map under test (foy), with a fixed seed. */
+    private LevelMap map;
+
+    /** Cells received by the listener, one list per publication. */
+    private List<int[]> published;
+
+    /** Listener recording the publications in {@link #published}. */
+    private final CellChangeListener recorder = (changed, cells, count) -> published.add(Arrays.copyOf(cells, count));
+
+    @BeforeEach
+    void setUp() {
+        map = LevelMapFactory.createLevelMap("foy", 800, 600, new MatchRandom(3L));
+        published = new ArrayList<>();
+        map.addCellChangeListener(recorder);
+    }
+
+    @Test
+    void testChangesArePublishedOncePerCell() {
+        map.setMapElement(2, 3, new UnbreakableWall("wall"));
+        map.clearMapElement(2, 3);
+        map.setMapElement(4, 5, new UnbreakableWall("wall"));
+        assertEquals(2, map.getPendingChangeCount());
+
+        map.publishChanges();
+        map.publishChanges();
+
+        assertEquals(1, published.size(), "Nothing changed before the second publication");
+        assertTrue(Arrays.equals(new int[] {map.cellIndex(2, 3), map.cellIndex(4, 5)}, published.get(0)));
+        assertEquals(0, map.getPendingChangeCount());
+
+        map.removeCellChangeListener(recorder);
+        map.clearMapElement(4, 5);
+        map.publishChanges();
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void testClearingAnEmptyCellChangesNothing() {
+        assertFalse(map.hasMapElement(1, 23));
+        int version = map.getVersion();
+
+        map.clearMapElement(1, 23);
+
+        assertEquals(version, map.getVersion());
+        assertEquals(0, map.getPendingChangeCount());
+    }
+
+    @Test
+    void testExplosionAndRestoreAreJournaled() {
+        Player player = new HumanPlayer(null, map, "player", 1, 23, GameCharacter.STUDENT);
+        map.addCharacter(player);
+        assertTrue(player.dropBomb());
+        map.publishChanges();
+        published.clear();
+        MapSnapshot snapshot = map.snapshot();
+
+        ((Bomb) map.getMapElement(1, 23)).activateBomb(map);
+        map.publishChanges();
+        Set<Integer> exploded = new HashSet<>();
+        for (int cell : published.get(0)) {
+            exploded.add(cell);
+        }
+        assertTrue(exploded.contains(map.cellIndex(1, 23)), "The bomb cell was cleared");
+
+        map.restore(snapshot);
+        map.publishChanges();
+        Set<Integer> restored = new HashSet<>();
+        for (int cell : published.get(1)) {
+            restored.add(cell);
+        }
+        assertEquals(exploded, restored, "Restoring rewrites exactly the cells the explosion changed");
+    }
+}
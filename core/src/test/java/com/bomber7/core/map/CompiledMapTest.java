@@ -0,0 +1,109 @@
+package com.bomber7.core.map;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.map.CompiledMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.map.MapLayers;
+import com.bomber7.core.model.square.BreakableWall;
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.core.model.square.Square;
+import com.bomber7.utils.ProjectPaths;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the binary {@code .b7map} format of {@link CompiledMap}.
+ */
+class CompiledMapTest {
+
+    /** Directory of the foy map. */
+    private final File foyDirectory = LevelMapFactory.searchMapFilesRootDirectory("foy");
+
+    /** Texture names of the tileset. */
+    private final Map<Integer, String> textureMap = LevelMapFactory.parseTextureMap(ProjectPaths.getTileset());
+
+    /** Directory receiving the compiled maps. */
+    @TempDir
+    private Path tempDir;
+
+    private CompiledMap compileFoy() {
+        return CompiledMap.fromCsv(
+            new File(foyDirectory, "le_foy_Background.csv"),
+            new File(foyDirectory, "le_foy_Breakable.csv"),
+            new File(foyDirectory, "le_foy_Unbreakable.csv")
+        );
+    }
+
+    private static void assertSameLayers(MapLayers expected, MapLayers actual) {
+        List<List<Square>> expectedSquares = expected.toSquares();
+        List<List<Square>> actualSquares = actual.toSquares();
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                Square a = expectedSquares.get(y).get(x);
+                Square b = actualSquares.get(y).get(x);
+                assertEquals(a.getTextureName(), b.getTextureName());
+                assertEquals(a.computeRotation(), b.computeRotation());
+                MapElement elementA = a.getMapElement();
+                MapElement elementB = b.getMapElement();
+                assertEquals(elementA == null, elementB == null, "Element mismatch at " + x + "," + y);
+                if (elementA != null) {
+                    assertEquals(elementA.getClass(), elementB.getClass());
+                    assertEquals(elementA.getTextureName(), elementB.getTextureName());
+                    assertEquals(elementA.isHorizontalFlip(), elementB.isHorizontalFlip());
+                }
+                if (elementA instanceof BreakableWall) {
+                    assertEquals(((BreakableWall) elementA).getBonusType(), ((BreakableWall) elementB).getBonusType());
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCompiledMapLoadsLikeTheCsvFiles() throws IOException {
+        Path file = tempDir.resolve("foy" + CompiledMap.EXTENSION);
+        compileFoy().write(file);
+
+        MapLayers fromCsv = compileFoy().toLayers(textureMap, new MatchRandom(5L));
+        MapLayers fromBinary = CompiledMap.read(file).toLayers(textureMap, new MatchRandom(5L));
+
+        assertSameLayers(fromCsv, fromBinary);
+    }
+
+    @Test
+    void testCorruptedMapIsRejected() throws IOException {
+        Path file = tempDir.resolve("foy" + CompiledMap.EXTENSION);
+        compileFoy().write(file);
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(raw.length() - 1);
+            int last = raw.read();
+            raw.seek(raw.length() - 1);
+            raw.write(last ^ 1);
+        }
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> CompiledMap.read(file));
+        assertEquals("Corrupted compiled map: " + file, e.getMessage());
+    }
+
+    @Test
+    void testTruncatedMapIsRejected() throws IOException {
+        Path file = tempDir.resolve("foy" + CompiledMap.EXTENSION);
+        compileFoy().write(file);
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.setLength(raw.length() / 2);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> CompiledMap.read(file));
+    }
+}
@@ -134,4 +134,26 @@ public class LevelMapTest {
         assertEquals(Pair.of(1, 1), levelMap.getSquareCoordinates(410, 310));
     }
 
+    @Test
+    void testPrimitiveCoordinatesMatchPairs() {
+        List<List<Square>> checkerboard = new ArrayList<>();
+        for (int y = 0; y < 3; y++) {
+            List<Square> row = new ArrayList<>();
+            for (int x = 0; x < 5; x++) {
+                row.add(new Square("texture", null));
+            }
+            checkerboard.add(row);
+        }
+        LevelMap levelMap = new LevelMap("enseeiht", checkerboard, 1280, 720);
+
+        for (int cell = -1; cell < 6; cell++) {
+            assertEquals(levelMap.getAbsoluteCoordinates(cell, cell), Pair.of(levelMap.toPixelX(cell), levelMap.toPixelY(cell)));
+        }
+        for (int pixel = 500; pixel < 800; pixel += 7) {
+            assertEquals(levelMap.getSquareCoordinates(pixel, pixel), Pair.of(levelMap.toCellX(pixel), levelMap.toCellY(pixel)));
+        }
+        assertEquals(2, levelMap.toCellX(levelMap.toPixelX(2)));
+        assertEquals(1, levelMap.toCellY(levelMap.toPixelY(1)));
+    }
+
 }
@@ -0,0 +1,162 @@
+package com.bomber7.core.map;
+
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.core.model.entities.HumanPlayer;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.core.model.map.LevelMap;
+import com.bomber7.core.model.map.LevelMapFactory;
+import com.bomber7.core.model.map.MapSnapshot;
+import com.bomber7.core.model.square.Bomb;
+import com.bomber7.core.model.square.MapElement;
+import com.bomber7.core.model.square.TimeBomb;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.GameCharacter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests forking a map with {@link LevelMap#snapshot()} and going back with {@link LevelMap#restore(MapSnapshot)}.
+ */
+class MapSnapshotTest {
+
+    /** Map under test (foy), with a fixed seed. */
+    private LevelMap map;
+
+    /** Player standing on its spawn point (1, 23). */
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        map = LevelMapFactory.createLevelMap("foy", 800, 600, new MatchRandom(3L));
+        player = new HumanPlayer(null, map, "player", 1, 23, GameCharacter.STUDENT);
+        map.addCharacter(player);
+    }
+
+    private MapElement[] copyElements() {
+        MapElement[] copy = new MapElement[map.getWidth() * map.getHeight()];
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                copy[map.cellIndex(x, y)] = map.getMapElement(x, y);
+            }
+        }
+        return copy;
+    }
+
+    @Test
+    void testRestoreUndoesExplosion() {
+        assertTrue(player.dropBomb());
+        Bomb bomb = (Bomb) map.getMapElement(1, 23);
+        MapElement[] before = copyElements();
+        MapSnapshot snapshot = map.snapshot();
+
+        bomb.activateBomb(map);
+        assertFalse(player.isAlive());
+        assertFalse(map.hasMapElement(1, 23));
+
+        map.restore(snapshot);
+        for (int y = 0; y < map.getHeight(); y++) {
+            for (int x = 0; x < map.getWidth(); x++) {
+                assertSame(before[map.cellIndex(x, y)], map.getMapElement(x, y), "Cell (" + x + ", " + y + ")");
+            }
+        }
+        assertTrue(player.isAlive());
+        assertEquals(0, player.getNbBomb());
+        assertTrue(map.hasCharacterAt(1, 23));
+
+        // The bomb is back and can explode again
+        assertFalse(bomb.hasExploded());
+        bomb.activateBomb(map);
+        assertFalse(player.isAlive());
+    }
+
+    private void advance(long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            map.getTimers().advance();
+        }
+    }
+
+    @Test
+    void testRestoreCancelsFuseOfBombDroppedAfterSnapshot() {
+        MapSnapshot snapshot = map.snapshot();
+        assertTrue(player.dropBomb());
+
+        map.restore(snapshot);
+        advance(Math.round(Constants.BOMB_TIMER * Constants.TICK_RATE) + 1);
+        assertTrue(player.isAlive(), "The fuse of a bomb dropped after the snapshot must not burn anymore");
+        assertFalse(map.hasMapElement(1, 23));
+    }
+
+    @Test
+    void testRestoreRewindsFuseOfArmedBomb() {
+        assertTrue(player.dropBomb());
+        TimeBomb bomb = (TimeBomb) map.getMapElement(1, 23);
+        advance(10);
+        long fuse = bomb.getRemainingTicks();
+        MapSnapshot snapshot = map.snapshot();
+
+        advance(fuse);
+        assertFalse(player.isAlive());
+        assertFalse(bomb.isArmed());
+
+        map.restore(snapshot);
+        assertTrue(bomb.isArmed());
+        assertEquals(fuse, bomb.getRemainingTicks());
+        advance(fuse - 1);
+        assertTrue(player.isAlive());
+        assertSame(bomb, map.getMapElement(1, 23));
+        advance(1);
+        assertFalse(player.isAlive());
+        assertFalse(map.hasMapElement(1, 23));
+    }
+
+    @Test
+    void testRepeatedRestoresDoNotGrowTheTimers() {
+        assertTrue(player.dropBomb());
+        MapSnapshot snapshot = map.snapshot();
+        int timers = map.getTimers().size();
+
+        for (int i = 0; i < 100; i++) {
+            map.restore(snapshot);
+        }
+        assertEquals(timers, map.getTimers().size());
+    }
+
+    @Test
+    void testRestoreMovesCharacterBack() {
+        MapSnapshot snapshot = map.snapshot();
+        for (int i = 0; i < 100; i++) {
+            player.moveRight();
+        }
+        assertFalse(player.getMapX() == 1);
+
+        map.restore(snapshot);
+        assertEquals(1, player.getMapX());
+        assertEquals(23, player.getMapY());
+        assertTrue(map.hasCharacterAt(1, 23));
+    }
+
+    @Test
+    void testSnapshotsCanBeRestoredInAnyOrder() {
+        MapSnapshot initial = map.snapshot();
+        assertTrue(player.dropBomb());
+        MapSnapshot withBomb = map.snapshot();
+
+        map.restore(initial);
+        assertFalse(map.hasMapElement(1, 23));
+        map.restore(withBomb);
+        assertInstanceOf(Bomb.class, map.getMapElement(1, 23));
+    }
+
+    @Test
+    void testRejectsSnapshotOfAnotherMap() {
+        LevelMap other = LevelMapFactory.createLevelMap("foy", 800, 600, new MatchRandom(3L));
+        assertThrows(IllegalArgumentException.class, () -> map.restore(other.snapshot()));
+    }
+}
@@ -0,0 +1,268 @@
+package com.bomber7.tournament;
+
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.GameMap;
+import com.bomber7.utils.PlayerStrategy;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Settings of a tournament, parsed from the command line.
+ * <p>
+ * Every map is played once per seed of the range and per match index, i.e.
+ * {@code maps * seeds * matches} rounds. Strategies are rotated over the spawns from one round to the next, so
+ * that every strategy plays every spawn as often.
+ * </p>
+ */
+public final class TournamentConfig {
+
+    /** Command line help. */
+    public static final String USAGE = String.join(System.lineSeparator(),
+        "Usage: tournament [options]",
+        "  --help                       print this help",
+        "  --maps foy,crous,...         maps to play (default: all)",
+        "  --strategies PRO,BEGINNER    bot strategies in the rotation (default: every bot strategy)",
+        "  --players N                  players per round, 2 to 4 (default: 4)",
+        "  --seeds FROM:TO              seed range, TO excluded (default: 0:100)",
+        "  --matches N                  rounds per map and seed (default: 1)",
+        "  --max-ticks N                tick limit of a round (default: 3 minutes)",
+        "  --threads N                  worker threads (default: every core)",
+        "  --csv FILE                   also write the statistics per strategy and spawn as CSV",
+        "Exits with status 3 when more than half of the rounds hit the tick limit.");
+
+    /** Default end of the seed range. */
+    private static final long DEFAULT_SEED_COUNT = 100;
+
+    /** Default tick limit of a round, in seconds of simulation. */
+    private static final int DEFAULT_ROUND_SECONDS = 180;
+
+    /** Maps to play. */
+    private List<GameMap> maps = Arrays.asList(GameMap.values());
+
+    /** Strategies in the rotation. */
+    private List<PlayerStrategy> strategies = botStrategies();
+
+    /** Players per round. */
+    private int players = Constants.MAX_PLAYERS;
+
+    /** First seed of the range. */
+    private long seedFrom;
+
+    /** End of the seed range, excluded. */
+    private long seedTo = DEFAULT_SEED_COUNT;
+
+    /** Rounds per map and seed. */
+    private int matches = 1;
+
+    /** Tick limit of a round. */
+    private long maxTicks = (long) DEFAULT_ROUND_SECONDS * Constants.TICK_RATE;
+
+    /** Worker threads. */
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    /** CSV output file, or null. */
+    private Path csv;
+
+    private TournamentConfig() { }
+
+    /**
+     * Parses command line arguments.
+     * @param args the arguments
+     * @return the settings
+     * @throws IllegalArgumentException if an argument is unknown or invalid
+     */
+    public static TournamentConfig parse(String[] args) {
+        TournamentConfig config = new TournamentConfig();
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--maps":
+                    config.maps = parseMaps(value);
+                    break;
+                case "--strategies":
+                    config.strategies = parseStrategies(value);
+                    break;
+                case "--players":
+                    config.players = Integer.parseInt(value);
+                    break;
+                case "--seeds":
+                    String[] range = value.split(":");
+                    if (range.length != 2) {
+                        throw new IllegalArgumentException("Seed range must be FROM:TO, got " + value);
+                    }
+                    config.seedFrom = Long.parseLong(range[0]);
+                    config.seedTo = Long.parseLong(range[1]);
+                    break;
+                case "--matches":
+                    config.matches = Integer.parseInt(value);
+                    break;
+                case "--max-ticks":
+                    config.maxTicks = Long.parseLong(value);
+                    break;
+                case "--threads":
+                    config.threads = Integer.parseInt(value);
+                    break;
+                case "--csv":
+                    config.csv = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+        config.validate();
+        return config;
+    }
+
+    /**
+     * Checks that the settings describe at least one playable round.
+     * @throws IllegalArgumentException if a setting is out of range
+     */
+    private void validate() {
+        if (players < Constants.MIN_PLAYERS || players > Constants.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players must be between " + Constants.MIN_PLAYERS
+                + " and " + Constants.MAX_PLAYERS);
+        }
+        if (seedTo <= seedFrom || matches < 1 || maxTicks < 1 || threads < 1) {
+            throw new IllegalArgumentException("Seed range, matches, tick limit and threads must not be empty");
+        }
+    }
+
+    /**
+     * Parses a comma separated list of map names, either asset names or enum names.
+     * @param value the list
+     * @return the maps
+     */
+    private static List<GameMap> parseMaps(String value) {
+        List<GameMap> parsed = new ArrayList<>();
+        for (String name : value.split(",")) {
+            GameMap found = null;
+            for (GameMap map : GameMap.values()) {
+                if (map.getAssetName().equalsIgnoreCase(name.trim()) || map.name().equalsIgnoreCase(name.trim())) {
+                    found = map;
+                }
+            }
+            if (found == null) {
+                throw new IllegalArgumentException("Unknown map " + name);
+            }
+            parsed.add(found);
+        }
+        return Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Parses a comma separated list of bot strategies.
+     * @param value the list
+     * @return the strategies
+     */
+    private static List<PlayerStrategy> parseStrategies(String value) {
+        List<PlayerStrategy> parsed = new ArrayList<>();
+        for (String name : value.split(",")) {
+            PlayerStrategy strategy = PlayerStrategy.valueOf(name.trim().toUpperCase(Locale.ROOT));
+            if (strategy == PlayerStrategy.HUMAN) {
+                throw new IllegalArgumentException("Tournaments are played by bots only");
+            }
+            parsed.add(strategy);
+        }
+        return Collections.unmodifiableList(parsed);
+    }
+
+    /**
+     * Returns every strategy but the human one.
+     * @return the bot strategies
+     */
+    private static List<PlayerStrategy> botStrategies() {
+        List<PlayerStrategy> bots = new ArrayList<>(Arrays.asList(PlayerStrategy.values()));
+        bots.remove(PlayerStrategy.HUMAN);
+        return Collections.unmodifiableList(bots);
+    }
+
+    /**
+     * Returns the maps to play.
+     * @return the maps
+     */
+    public List<GameMap> getMaps() {
+        return maps;
+    }
+
+    /**
+     * Returns the strategies in the rotation.
+     * @return the strategies
+     */
+    public List<PlayerStrategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Returns the number of players per round.
+     * @return the players
+     */
+    public int getPlayers() {
+        return players;
+    }
+
+    /**
+     * Returns the first seed of the range.
+     * @return the first seed
+     */
+    public long getSeedFrom() {
+        return seedFrom;
+    }
+
+    /**
+     * Returns the number of seeds of the range.
+     * @return the seed count
+     */
+    public long getSeedCount() {
+        return seedTo - seedFrom;
+    }
+
+    /**
+     * Returns the number of rounds per map and seed.
+     * @return the matches
+     */
+    public int getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns the tick limit of a round.
+     * @return the maximum ticks
+     */
+    public long getMaxTicks() {
+        return maxTicks;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     * @return the threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the CSV output file.
+     * @return the file, or null to only print the report
+     */
+    public Path getCsv() {
+        return csv;
+    }
+
+    /**
+     * Returns the total number of rounds of the tournament.
+     * @return the round count
+     */
+    public long getRoundCount() {
+        return maps.size() * getSeedCount() * matches;
+    }
+}
@@ -0,0 +1,176 @@
+package com.bomber7.tournament;
+
+import com.bomber7.core.controller.ControlMask;
+import com.bomber7.core.engine.HeadlessMatch;
+import com.bomber7.core.model.MatchRandom;
+import com.bomber7.utils.GameMap;
+import com.bomber7.utils.PlayerBlueprint;
+import com.bomber7.utils.PlayerStrategy;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Command line entry point playing many headless bot rounds on every core and printing aggregated statistics,
+ * to balance bonuses and bots over large numbers of rounds.
+ * <p>
+ * Rounds are numbered and split in chunks, each worker playing whole chunks into its own {@link TournamentStats}.
+ * A round only depends on its number, so a tournament gives the same statistics whatever the thread count.
+ * </p>
+ */
+public final class TournamentRunner {
+
+    /** Number of chunks per worker, so that workers finishing early can take more work. */
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    /** Exit code of invalid arguments. */
+    private static final int USAGE_EXIT_CODE = 2;
+
+    /** Exit code of a tournament whose rounds mostly hit the tick limit. */
+    private static final int TIMEOUT_EXIT_CODE = 3;
+
+    /** Nanoseconds in a second. */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /** The settings of the tournament. */
+    private final TournamentConfig config;
+
+    /**
+     * Creates a tournament.
+     * @param config the settings of the tournament
+     */
+    public TournamentRunner(TournamentConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Runs a tournament from the command line, see {@link TournamentConfig#USAGE}.
+     * Exits with an error once the statistics are written if most rounds hit the tick limit.
+     * @param args the command line arguments
+     * @throws Exception if a round fails or the CSV file cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.println(TournamentConfig.USAGE);
+            return;
+        }
+        TournamentConfig config;
+        try {
+            config = TournamentConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(TournamentConfig.USAGE);
+            System.exit(USAGE_EXIT_CODE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        TournamentStats stats = new TournamentRunner(config).run();
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+
+        stats.writeReport(System.out);
+        System.out.printf("Played in %.1f s on %d threads%n", seconds, config.getThreads());
+        if (config.getCsv() != null) {
+            writeCsv(stats, config);
+        }
+        if (stats.areTimeoutsDominant()) {
+            System.err.printf("%d of %d rounds hit the limit of %d ticks: raise --max-ticks or check that the bots"
+                + " can end a round%n", stats.getTimeouts(), stats.getRounds(), config.getMaxTicks());
+            System.exit(TIMEOUT_EXIT_CODE);
+        }
+    }
+
+    /**
+     * Plays every round of the tournament.
+     * @return the statistics of every round
+     * @throws InterruptedException if the tournament is interrupted
+     * @throws ExecutionException if a round fails
+     */
+    public TournamentStats run() throws InterruptedException, ExecutionException {
+        long total = config.getRoundCount();
+        long chunkCount = Math.min(total, (long) config.getThreads() * CHUNKS_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(config.getThreads());
+        try {
+            ExecutorCompletionService<TournamentStats> completion = new ExecutorCompletionService<>(executor);
+            for (long chunk = 0; chunk < chunkCount; chunk++) {
+                long from = total * chunk / chunkCount;
+                long to = total * (chunk + 1) / chunkCount;
+                completion.submit(() -> playRounds(from, to));
+            }
+
+            TournamentStats stats = new TournamentStats();
+            for (long done = 0; done < chunkCount; done++) {
+                stats.merge(completion.take().get());
+                System.err.printf("\r%d / %d rounds", stats.getRounds(), total);
+            }
+            System.err.println();
+            return stats;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a range of rounds.
+     * @param from the number of the first round
+     * @param to the number after the last round
+     * @return the statistics of the rounds
+     */
+    private TournamentStats playRounds(long from, long to) {
+        TournamentStats stats = new TournamentStats();
+        for (long round = from; round < to; round++) {
+            playRound(round, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Plays one round, decoding its map, seed, match index and line-up from its number.
+     * @param round the number of the round
+     * @param stats the statistics to record the round in
+     */
+    private void playRound(long round, TournamentStats stats) {
+        List<GameMap> maps = config.getMaps();
+        GameMap map = maps.get((int) (round % maps.size()));
+        long rest = round / maps.size();
+        int match = (int) (rest % config.getMatches());
+        long seedIndex = rest / config.getMatches();
+        long seed = MatchRandom.roundSeed(config.getSeedFrom() + seedIndex, match);
+
+        // Rotating the line-up by one spawn per round lets every strategy start from every spawn as often
+        List<PlayerStrategy> strategies = config.getStrategies();
+        long rotation = seedIndex * config.getMatches() + match;
+        PlayerBlueprint[] blueprints = new PlayerBlueprint[config.getPlayers()];
+        for (int slot = 0; slot < blueprints.length; slot++) {
+            PlayerStrategy strategy = strategies.get((int) ((rotation + slot) % strategies.size()));
+            blueprints[slot] = new PlayerBlueprint(strategy.name().toLowerCase(Locale.ROOT) + slot);
+            blueprints[slot].setStrategy(strategy);
+        }
+
+        HeadlessMatch headless = new HeadlessMatch(map.getAssetName(), blueprints, (tick, slot) -> ControlMask.NONE, seed);
+        boolean over = headless.run(config.getMaxTicks());
+        stats.record(headless, over);
+    }
+
+    /**
+     * Writes the statistics per strategy and spawn to the CSV file of the settings.
+     * @param stats the statistics
+     * @param config the settings
+     * @throws IOException if the file cannot be written
+     */
+    private static void writeCsv(TournamentStats stats, TournamentConfig config) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(config.getCsv(), StandardCharsets.UTF_8))) {
+            stats.writeCsv(out);
+        }
+        System.out.println("Statistics written to " + config.getCsv().toAbsolutePath());
+    }
+}
@@ -0,0 +1,220 @@
+package com.bomber7.tournament;
+
+import com.bomber7.core.engine.HeadlessMatch;
+import com.bomber7.core.model.entities.AIPlayer;
+import com.bomber7.core.model.entities.Player;
+import com.bomber7.utils.Constants;
+import com.bomber7.utils.PlayerStrategy;
+import com.bomber7.utils.Score;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+/**
+ * Aggregated results of tournament rounds.
+ * <p>
+ * A worker fills its own instance, then the instances are {@link #merge(TournamentStats) merged}, so that
+ * recording a round never needs a lock. Counters are indexed by {@link PlayerStrategy#ordinal()} and spawn slot.
+ * </p>
+ */
+public class TournamentStats {
+
+    /** Number of strategies. */
+    private static final int STRATEGY_COUNT = PlayerStrategy.values().length;
+
+    /** Percent ratio. */
+    private static final double PERCENT = 100.0;
+
+    /** Share of timed out rounds above which the win rates no longer say much. */
+    private static final double MAX_TIMEOUT_SHARE = 0.5;
+
+    /** Rounds recorded. */
+    private long rounds;
+
+    /** Rounds over with nobody alive. */
+    private long draws;
+
+    /** Rounds stopped by the tick limit. */
+    private long timeouts;
+
+    /** Ticks of every recorded round. */
+    private long ticks;
+
+    /** Rounds played per strategy and spawn. */
+    private final long[][] played = new long[STRATEGY_COUNT][Constants.MAX_PLAYERS];
+
+    /** Rounds won per strategy and spawn. */
+    private final long[][] wins = new long[STRATEGY_COUNT][Constants.MAX_PLAYERS];
+
+    /** Kills per strategy and spawn. */
+    private final long[][] kills = new long[STRATEGY_COUNT][Constants.MAX_PLAYERS];
+
+    /** Suicides per strategy and spawn. */
+    private final long[][] suicides = new long[STRATEGY_COUNT][Constants.MAX_PLAYERS];
+
+    /** Deaths per strategy and spawn, suicides included. */
+    private final long[][] deaths = new long[STRATEGY_COUNT][Constants.MAX_PLAYERS];
+
+    /** Final scores per strategy and spawn. */
+    private final long[][] scores = new long[STRATEGY_COUNT][Constants.MAX_PLAYERS];
+
+    /**
+     * Records a finished or stopped round.
+     * @param match the round, already run
+     * @param over whether the round ended before the tick limit
+     */
+    public void record(HeadlessMatch match, boolean over) {
+        rounds++;
+        ticks += match.getRound().getTicks();
+        if (!over) {
+            timeouts++;
+        } else if (match.getRound().getWinner() == null) {
+            draws++;
+        }
+        for (int slot = 0; slot < match.getPlayers().size(); slot++) {
+            Player player = match.getPlayers().get(slot);
+            if (player == null) {
+                continue;
+            }
+            int strategy = ((AIPlayer) player).getStrategy().ordinal();
+            played[strategy][slot]++;
+            if (player == match.getRound().getWinner()) {
+                wins[strategy][slot]++;
+            }
+            kills[strategy][slot] += player.getKills();
+            suicides[strategy][slot] += player.getSuicides();
+            deaths[strategy][slot] += player.isAlive() ? 0 : 1;
+            scores[strategy][slot] += player.getScore();
+        }
+    }
+
+    /**
+     * Adds the results of another instance to this one.
+     * @param other the results to add
+     */
+    public void merge(TournamentStats other) {
+        rounds += other.rounds;
+        draws += other.draws;
+        timeouts += other.timeouts;
+        ticks += other.ticks;
+        for (int s = 0; s < STRATEGY_COUNT; s++) {
+            for (int slot = 0; slot < Constants.MAX_PLAYERS; slot++) {
+                played[s][slot] += other.played[s][slot];
+                wins[s][slot] += other.wins[s][slot];
+                kills[s][slot] += other.kills[s][slot];
+                suicides[s][slot] += other.suicides[s][slot];
+                deaths[s][slot] += other.deaths[s][slot];
+                scores[s][slot] += other.scores[s][slot];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of recorded rounds.
+     * @return the round count
+     */
+    public long getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Returns the number of rounds stopped by the tick limit.
+     * @return the timeout count
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Tells whether most rounds were stopped by the tick limit, so that wins only count a few rounds.
+     * @return whether timeouts outnumber the rounds that ended
+     */
+    public boolean areTimeoutsDominant() {
+        return timeouts > rounds * MAX_TIMEOUT_SHARE;
+    }
+
+    /**
+     * Prints a human readable report: round outcomes, then one line per strategy, then win rates by spawn.
+     * @param out the stream to print to
+     */
+    public void writeReport(PrintStream out) {
+        double averageTicks = rounds == 0 ? 0 : (double) ticks / rounds;
+        out.printf(Locale.ROOT, "Rounds: %d (draws: %d, timeouts: %d), average length: %.0f ticks (%.1f s)%n",
+            rounds, draws, timeouts, averageTicks, averageTicks / Constants.TICK_RATE);
+        if (areTimeoutsDominant()) {
+            out.printf(Locale.ROOT, "WARNING: %.1f%% of the rounds hit the tick limit, win rates only cover the others%n",
+                rate(timeouts, rounds));
+        }
+        out.printf(Locale.ROOT, "%-10s %8s %8s %7s %8s %8s %9s %8s %8s %9s%n", "Strategy", "Rounds", "Wins", "Win%",
+            "Kills", "KillPts", "Suicides", "SuicPts", "Deaths", "AvgScore");
+        for (PlayerStrategy strategy : PlayerStrategy.values()) {
+            int s = strategy.ordinal();
+            long strategyRounds = sum(played[s]);
+            if (strategyRounds == 0) {
+                continue;
+            }
+            long strategyKills = sum(kills[s]);
+            long strategySuicides = sum(suicides[s]);
+            out.printf(Locale.ROOT, "%-10s %8d %8d %6.1f%% %8d %8d %9d %8d %8d %9.1f%n", strategy, strategyRounds,
+                sum(wins[s]), rate(sum(wins[s]), strategyRounds), strategyKills, strategyKills * Score.KILL,
+                strategySuicides, strategySuicides * Score.SUICIDE, sum(deaths[s]), (double) sum(scores[s]) / strategyRounds);
+        }
+
+        out.println("Win rate by spawn:");
+        for (PlayerStrategy strategy : PlayerStrategy.values()) {
+            int s = strategy.ordinal();
+            if (sum(played[s]) == 0) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-10s", strategy));
+            for (int slot = 0; slot < Constants.MAX_PLAYERS; slot++) {
+                line.append(played[s][slot] == 0 ? String.format(Locale.ROOT, " %8s", "-")
+                    : String.format(Locale.ROOT, " %7.1f%%", rate(wins[s][slot], played[s][slot])));
+            }
+            out.println(line);
+        }
+    }
+
+    /**
+     * Writes one CSV line per strategy and spawn.
+     * @param out the writer to write to
+     */
+    public void writeCsv(PrintWriter out) {
+        out.println("strategy,spawn,rounds,wins,win_rate,kills,suicides,deaths,average_score");
+        for (PlayerStrategy strategy : PlayerStrategy.values()) {
+            int s = strategy.ordinal();
+            for (int slot = 0; slot < Constants.MAX_PLAYERS; slot++) {
+                if (played[s][slot] == 0) {
+                    continue;
+                }
+                out.printf(Locale.ROOT, "%s,%d,%d,%d,%.4f,%d,%d,%d,%.2f%n", strategy, slot, played[s][slot],
+                    wins[s][slot], rate(wins[s][slot], played[s][slot]) / PERCENT, kills[s][slot],
+                    suicides[s][slot], deaths[s][slot], (double) scores[s][slot] / played[s][slot]);
+            }
+        }
+    }
+
+    /**
+     * Sums an array.
+     * @param values the values
+     * @return their sum
+     */
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * Returns a percentage.
+     * @param count the counted events
+     * @param total the possible events
+     * @return the percentage, 0 if there were none
+     */
+    private static double rate(long count, long total) {
+        return total == 0 ? 0 : count * PERCENT / total;
+    }
+}
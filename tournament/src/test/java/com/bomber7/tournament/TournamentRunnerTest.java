@@ -0,0 +1,24 @@
+package com.bomber7.tournament;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays small tournaments end to end.
+ */
+class TournamentRunnerTest {
+
+    @Test
+    void testProBotsEndRoundsAgainstPeacefulOnes() throws Exception {
+        TournamentConfig config = TournamentConfig.parse(new String[] {
+            "--maps", "foy", "--strategies", "PRO,PEACEFUL", "--players", "2", "--seeds", "0:8", "--threads", "1"
+        });
+
+        TournamentStats stats = new TournamentRunner(config).run();
+
+        assertEquals(8, stats.getRounds());
+        assertTrue(stats.getTimeouts() < stats.getRounds(), "Some rounds should end before the tick limit");
+    }
+}